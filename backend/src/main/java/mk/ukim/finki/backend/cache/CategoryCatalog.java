@@ -0,0 +1,220 @@
+package mk.ukim.finki.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.jfr.CacheLookupEvent;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.HiddenCategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of the categories visible to each user.
+ * <p>
+ * Predefined (system) categories never change at runtime, so they are loaded once at startup
+ * into an immutable catalog. Each user's custom categories and hidden system category ids are
+ * cached on first use and must be invalidated through {@link #invalidate(UUID)} whenever they change.
+ * The per-user cache holds at most a configured number of users and drops entries that have not been
+ * read for a while, so memory stays bounded however many users have been active since startup.
+ * <p>
+ * Cached entities are detached; they are safe to read and to use as association targets,
+ * but must never be modified.
+ */
+@Component
+@Slf4j
+public class CategoryCatalog {
+
+    /**
+     * Name of the per-user cache in metrics and flight recordings.
+     */
+    public static final String NAME = "user-categories";
+
+    private final CategoryRepository categoryRepository;
+    private final HiddenCategoryRepository hiddenCategoryRepository;
+
+    private static final Comparator<Category> BY_NAME = Comparator.comparing(Category::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private volatile Map<UUID, Category> predefinedById = Map.of();
+
+    private volatile List<Category> predefinedByName = List.of();
+
+    private final Cache<UUID, UserCategories> userCategories;
+
+    /**
+     * Bumped on every invalidation, so a load that raced with a write is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Custom categories and hidden system category ids of a single user.
+     */
+    private record UserCategories(Map<UUID, Category> customById, Set<UUID> hiddenIds) {
+    }
+
+    /**
+     * @param maxUsers          maximum number of users whose categories are cached
+     * @param expireAfterAccess how long an unused user entry is kept
+     */
+    public CategoryCatalog(CategoryRepository categoryRepository,
+                           HiddenCategoryRepository hiddenCategoryRepository,
+                           @Value("${app.categories.cache.max-users:10000}") long maxUsers,
+                           @Value("${app.categories.cache.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.categoryRepository = categoryRepository;
+        this.hiddenCategoryRepository = hiddenCategoryRepository;
+        this.userCategories = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    /**
+     * Loads all predefined categories into the catalog.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPredefined() {
+        List<Category> predefined = categoryRepository.findByPredefinedTrue();
+        predefinedByName = predefined.stream().sorted(BY_NAME).toList();
+        predefinedById = predefined.stream()
+                .collect(Collectors.toUnmodifiableMap(Category::getId, c -> c));
+        log.info("Loaded {} predefined categories into the catalog", predefinedById.size());
+    }
+
+    /**
+     * Finds a category by id from the user's point of view.
+     * <p>
+     * Predefined and own custom categories are served from memory. Unknown ids fall back
+     * to the database, so callers can still tell a missing category from a foreign one.
+     * Categories that are being deleted are treated as missing.
+     *
+     * @param userId     current user id
+     * @param categoryId category id
+     * @return the category, if it exists
+     */
+    public Optional<Category> findCategory(UUID userId, UUID categoryId) {
+        Category predefined = predefinedById.get(categoryId);
+        if (predefined != null) {
+            return Optional.of(predefined);
+        }
+
+        Category custom = forUser(userId).customById().get(categoryId);
+        if (custom != null) {
+            return Optional.of(custom);
+        }
+
+        return categoryRepository.findById(categoryId)
+                .filter(category -> !category.isDeleting());
+    }
+
+    /**
+     * Returns the predefined categories of a type that the user has not hidden,
+     * followed by the user's own custom categories of that type, each ordered by name.
+     *
+     * @param userId user id
+     * @param type   category type
+     * @return visible categories
+     */
+    public List<Category> findVisible(UUID userId, CategoryType type) {
+        UserCategories cached = forUser(userId);
+        List<Category> visible = new ArrayList<>();
+
+        predefinedByName.stream()
+                .filter(c -> c.getType() == type && !cached.hiddenIds().contains(c.getId()))
+                .forEach(visible::add);
+        cached.customById().values().stream()
+                .filter(c -> c.getType() == type)
+                .sorted(BY_NAME)
+                .forEach(visible::add);
+
+        return visible;
+    }
+
+    /**
+     * Evicts the cached categories of a user. When called inside a transaction,
+     * the entry is evicted again after commit, so concurrent readers cannot
+     * re-cache data that was read before the change became visible.
+     *
+     * @param userId user id
+     */
+    public void invalidate(UUID userId) {
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of per-user lookups served from the cache.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of per-user lookups that loaded the user's categories from the database.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the approximate number of users whose categories are cached.
+     *
+     * @return cache size
+     */
+    public long cachedUsers() {
+        return userCategories.estimatedSize();
+    }
+
+    private void evict(UUID userId) {
+        generation.incrementAndGet();
+        userCategories.invalidate(userId);
+    }
+
+    private UserCategories forUser(UUID userId) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        UserCategories cached = userCategories.getIfPresent(userId);
+        if (cached != null) {
+            hits.increment();
+            event.commit(NAME, true);
+            return cached;
+        }
+        misses.increment();
+
+        long observed = generation.get();
+        UserCategories loaded = new UserCategories(
+                categoryRepository.findByUser_IdAndDeletingFalse(userId).stream()
+                        .collect(Collectors.toUnmodifiableMap(Category::getId, c -> c)),
+                Set.copyOf(hiddenCategoryRepository.findCategoryIdsByUserId(userId)));
+
+        userCategories.asMap().compute(userId, (id, current) -> generation.get() == observed ? loaded : current);
+        event.commit(NAME, false);
+        return loaded;
+    }
+}
@@ -0,0 +1,144 @@
+package mk.ukim.finki.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import mk.ukim.finki.backend.jfr.CacheLookupEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of JWT claims that have already passed signature and expiration checks.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the whole token, so a token that differs in any
+ * character, including a tampered payload carrying a valid signature of another token, never
+ * matches a cached entry. Every entry expires together with the token it was verified from;
+ * expired tokens are therefore always re-verified, and rejected.
+ * <p>
+ * Expiry and size-based eviction are handled by Caffeine in amortized constant time, so a full
+ * cache costs no more per lookup than an empty one. Cached claims are shared between requests
+ * and must never be modified.
+ */
+public class VerifiedTokenCache {
+
+    private record Entry(Claims claims, long expiresAtMs) {
+    }
+
+    /**
+     * Name of the cache in metrics and flight recordings.
+     */
+    public static final String NAME = "verified-tokens";
+
+    /**
+     * Expires each entry at the expiration time of its token.
+     */
+    private static final Expiry<String, Entry> UNTIL_TOKEN_EXPIRES = new Expiry<>() {
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(entry.expiresAtMs() - System.currentTimeMillis(), 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    };
+
+    private final Cache<String, Entry> entries;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxSize maximum number of cached tokens; 0 disables caching
+     */
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(UNTIL_TOKEN_EXPIRES)
+                .build();
+    }
+
+    /**
+     * Returns the cached claims of a token, verifying and caching it on a miss.
+     *
+     * @param token    JWT token string
+     * @param verifier verifies the token and returns its claims; exceptions propagate to the caller
+     * @return verified claims
+     */
+    public Claims getOrVerify(String token, Function<String, Claims> verifier) {
+        if (maxSize <= 0) {
+            return verifier.apply(token);
+        }
+
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        String key = digest(token);
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.expiresAtMs() > System.currentTimeMillis()) {
+            hits.increment();
+            event.commit(NAME, true);
+            return entry.claims();
+        }
+        misses.increment();
+
+        Claims claims = verifier.apply(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            entries.put(key, new Entry(claims, expiration.getTime()));
+        }
+        event.commit(NAME, false);
+        return claims;
+    }
+
+    /**
+     * Returns the number of cached tokens, after applying any pending expiry and eviction.
+     *
+     * @return cache size
+     */
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to verify the token.
+     *
+     * @return miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
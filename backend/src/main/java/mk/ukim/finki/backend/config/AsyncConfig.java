@@ -0,0 +1,43 @@
+package mk.ukim.finki.backend.config;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Enables {@code @Async} methods, executed on Spring Boot's application task executor.
+ * <p>
+ * The executor's queue is unbounded by default; {@code spring.task.execution.pool.queue-capacity}
+ * and {@code max-size} bound it. Once both are exhausted, tasks run on the submitting thread
+ * instead of being rejected, which slows the producer down rather than losing work.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Runs async tasks with the security context of the thread that submitted them, so they see
+     * the same current user, including a user already resolved by the request.
+     *
+     * @return task decorator applied to the application task executor
+     */
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+
+    /**
+     * Runs tasks that do not fit into the bounded executor on the submitting thread.
+     *
+     * @return customizer of the application task executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer callerRunsWhenSaturated() {
+        return executor -> executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -17,6 +17,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
  * <p>
  * Configures HTTP security to disable CSRF, enforce stateless sessions,
  * and set route authorization rules.
+ * Only the health endpoint is open. The Prometheus scrape endpoint and administrative endpoints
+ * under {@code /api/admin} require the {@code ADMIN} role.
  * Adds JWT authentication filter before user/password filter.
  */
 @Configuration
@@ -45,6 +47,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus", "/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
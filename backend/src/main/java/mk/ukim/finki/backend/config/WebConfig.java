@@ -0,0 +1,19 @@
+package mk.ukim.finki.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.security.RequestCostInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestCostInterceptor requestCostInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestCostInterceptor).addPathPatterns("/api/**");
+    }
+}
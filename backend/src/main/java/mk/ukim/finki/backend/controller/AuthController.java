@@ -1,24 +1,29 @@
 package mk.ukim.finki.backend.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import mk.ukim.finki.backend.model.dto.auth.AuthResponseDto;
+import mk.ukim.finki.backend.model.dto.auth.RefreshTokenRequest;
 import mk.ukim.finki.backend.model.dto.auth.UserInfoDto;
 import mk.ukim.finki.backend.model.dto.auth.UserLoginDto;
 import mk.ukim.finki.backend.model.dto.auth.UserRegistrationDto;
 import mk.ukim.finki.backend.model.entity.User;
-import mk.ukim.finki.backend.security.JwtTokenProvider;
+import mk.ukim.finki.backend.security.LoginRateLimiter;
+import mk.ukim.finki.backend.service.AuthTokenService;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
+import static mk.ukim.finki.backend.util.AuthMessages.INVALID_CREDENTIALS;
+
 /**
  * REST controller for user authentication.
  * <p>
- * Provides endpoints for user registration and login.
+ * Provides endpoints for user registration, login, token refresh and logout.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -27,7 +32,8 @@ public class AuthController {
 
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuthTokenService authTokenService;
 
     /**
      * Registers a new user.
@@ -42,32 +48,58 @@ public class AuthController {
     }
 
     /**
-     * Authenticates a user and issues a JWT token.
+     * Authenticates a user and issues a JWT token and a refresh token.
      *
      * @param dto the login credentials
-     * @return 200 OK with AuthResponseDto containing token and expiry on success;
-     * 401 Unauthorized with message on failure
+     * @return 200 OK with AuthResponseDto containing tokens and expiry on success;
+     * 401 Unauthorized with message on failure;
+     * 429 Too Many Requests if the email or client address is rate limited, or password hashing is saturated
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody UserLoginDto dto) {
+    public ResponseEntity<?> login(@Valid @RequestBody UserLoginDto dto, HttpServletRequest request) {
+        loginRateLimiter.acquire(dto.getEmail(), request.getRemoteAddr());
         try {
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(dto.getEmail(), dto.getPassword())
             );
-            String token = jwtTokenProvider.generateToken(dto.getEmail());
             User user = userService.findByEmail(dto.getEmail());
-
-            return ResponseEntity.ok(new AuthResponseDto(
-                    token,
-                    jwtTokenProvider.getJwtExpirationInMs(),
-                    user.getEmail(),
-                    user.getRole().name()
-            ));
+            return ResponseEntity.ok(authTokenService.issueTokens(user));
         } catch (AuthenticationException ex) {
-            return ResponseEntity.status(401).body("Invalid credentials");
+            return ResponseEntity.status(401).body(INVALID_CREDENTIALS);
         }
     }
 
+    /**
+     * Exchanges a refresh token for a new JWT token and refresh token.
+     * <p>
+     * The presented refresh token can not be used again; reusing it revokes the whole login session.
+     *
+     * @param dto the refresh token
+     * @return 200 OK with AuthResponseDto containing the new tokens;
+     * 401 Unauthorized if the refresh token is invalid, expired or already used
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest dto) {
+        return ResponseEntity.ok(authTokenService.refresh(dto.getRefreshToken()));
+    }
+
+    /**
+     * Ends the login session of the given refresh token and revokes the current JWT token.
+     *
+     * @param dto           the refresh token of the session
+     * @param authorization the Authorization header of the request, if any
+     * @return 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@Valid @RequestBody RefreshTokenRequest dto,
+                                    @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authTokenService.logout(dto.getRefreshToken(), accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Returns the currently authenticated user's information.
      *
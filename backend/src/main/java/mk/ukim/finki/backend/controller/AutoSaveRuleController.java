@@ -0,0 +1,60 @@
+package mk.ukim.finki.backend.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.model.dto.saving_goal.AutoSaveRuleDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for managing auto-save rules.
+ * <p>
+ * A rule moves a percentage of every income in a category into a saving goal.
+ * All endpoints operate on rules of the currently authenticated user.
+ */
+@RestController
+@RequestMapping("/api/auto-save-rules")
+@RequiredArgsConstructor
+public class AutoSaveRuleController {
+
+    private final AutoSaveRuleService autoSaveRuleService;
+
+    /**
+     * Retrieves all auto-save rules for the authenticated user.
+     *
+     * @return list of rule DTOs
+     */
+    @GetMapping
+    public List<AutoSaveRuleDto> getAll() {
+        return autoSaveRuleService.getRules();
+    }
+
+    /**
+     * Creates a new auto-save rule.
+     *
+     * @param request DTO containing the category, saving goal and percentage
+     * @return created rule DTO
+     */
+    @PostMapping
+    public ResponseEntity<AutoSaveRuleDto> create(@Valid @RequestBody CreateAutoSaveRuleRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(autoSaveRuleService.createRule(request));
+    }
+
+    /**
+     * Deletes an auto-save rule.
+     *
+     * @param id rule id
+     * @return HTTP 204 No Content
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+        autoSaveRuleService.deleteRule(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,16 +4,21 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import mk.ukim.finki.backend.exception.BudgetValidationException;
+import mk.ukim.finki.backend.model.dto.budget.BudgetBurnDownDto;
 import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationRequest;
 import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
 import mk.ukim.finki.backend.model.dto.budget.UpdateBudgetRequest;
 import mk.ukim.finki.backend.service.BudgetService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for managing budgets via an authenticated API.
@@ -131,4 +136,40 @@ public class BudgetController {
         BudgetDto dto = budgetService.rolloverBudget(id);
         return ResponseEntity.status(HttpStatus.CREATED).body(dto);
     }
+
+    /**
+     * Returns the burn-down series of a budget: daily cumulative spending compared
+     * against the ideal linear pace across the budget window.
+     * <p>
+     * Archived budgets no longer change, so their series is marked as privately cacheable
+     * for a year; active budgets must always be revalidated.
+     *
+     * @param id UUID of the budget
+     * @return HTTP 200 with the burn-down DTO
+     * @throws EntityNotFoundException if the budget does not exist
+     */
+    @GetMapping("/{id}/burn-down")
+    public ResponseEntity<BudgetBurnDownDto> getBurnDown(@PathVariable UUID id) {
+        BudgetBurnDownDto dto = budgetService.getBudgetBurnDown(id);
+
+        CacheControl cacheControl = dto.isArchived()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(dto);
+    }
+
+    /**
+     * Evaluates hypothetical budgets against the user's past 12-24 months of spending.
+     *
+     * @param request validated hypothetical budgets and lookback window
+     * @return HTTP 200 with how often and by how much each budget would have been exceeded
+     * @throws EntityNotFoundException if a referenced category does not exist
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<BudgetSimulationDto> simulate(@Valid @RequestBody BudgetSimulationRequest request) {
+        return ResponseEntity.ok(budgetService.simulateBudgets(request));
+    }
 }
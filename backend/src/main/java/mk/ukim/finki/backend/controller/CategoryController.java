@@ -2,6 +2,7 @@ package mk.ukim.finki.backend.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.model.dto.category.CategoryDeletionJobDto;
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
 import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.HideCategoryRequest;
@@ -12,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 
@@ -65,15 +67,29 @@ public class CategoryController {
     }
 
     /**
-     * Deletes a custom category.
+     * Starts the deletion of a custom category.
+     * Its transactions are reassigned in the background; progress is available under the returned location.
      *
      * @param id category id
-     * @return empty response (204 NO CONTENT)
+     * @return started deletion job (202 ACCEPTED)
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
-        categoryService.deleteCategory(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<CategoryDeletionJobDto> delete(@PathVariable UUID id) {
+        CategoryDeletionJobDto job = categoryService.deleteCategory(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/categories/deletions/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Retrieves the progress of a category deletion.
+     *
+     * @param jobId deletion job id
+     * @return deletion job progress
+     */
+    @GetMapping("/deletions/{jobId}")
+    public CategoryDeletionJobDto getDeletion(@PathVariable UUID jobId) {
+        return categoryService.getDeletionJob(jobId);
     }
 
     /**
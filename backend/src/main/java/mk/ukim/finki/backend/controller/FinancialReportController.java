@@ -2,6 +2,7 @@ package mk.ukim.finki.backend.controller;
 
 import lombok.RequiredArgsConstructor;
 import mk.ukim.finki.backend.model.dto.report.*;
+import mk.ukim.finki.backend.security.RequestCost;
 import mk.ukim.finki.backend.service.FinancialReportService;
 import mk.ukim.finki.backend.util.ReportConstants;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -19,6 +20,7 @@ import java.util.List;
 /**
  * REST controller for financial reports and analytics.
  * Provides endpoints for dashboard, reports, trends, and exports.
+ * Each endpoint is charged against the caller's request budget according to its {@link RequestCost}.
  */
 @RestController
 @RequestMapping("/api")
@@ -34,6 +36,7 @@ public class FinancialReportController {
      * @param to   end date of the period (inclusive)
      * @return financial report DTO with dashboard data
      */
+    @RequestCost(value = 2, perYear = 2)
     @GetMapping("/dashboard")
     public ResponseEntity<FinancialReportDto> getDashboard(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -50,6 +53,7 @@ public class FinancialReportController {
      * @param to   end date of the reporting period (inclusive)
      * @return detailed financial report with budgets and saving goals
      */
+    @RequestCost(value = 10, perYear = 10)
     @GetMapping("/reports")
     public ResponseEntity<FinancialReportDto> getFullReport(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -67,6 +71,7 @@ public class FinancialReportController {
      * @param to   end date (optional)
      * @return quick statistics DTO
      */
+    @RequestCost(1)
     @GetMapping("/quick-stats")
     public ResponseEntity<QuickStatsDto> getQuickStats(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -89,6 +94,7 @@ public class FinancialReportController {
      * @param to   end date (inclusive)
      * @return list of monthly trend DTOs
      */
+    @RequestCost(value = 5, perYear = 5)
     @GetMapping("/trends/monthly")
     public ResponseEntity<List<MonthlyTrendDto>> getMonthlyTrends(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -106,6 +112,7 @@ public class FinancialReportController {
      * @param type category type (EXPENSE or INCOME), defaults to EXPENSE
      * @return category breakdown DTO
      */
+    @RequestCost(value = 2, perYear = 2)
     @GetMapping("/categories/breakdown")
     public ResponseEntity<CategoryBreakdownDto> getCategoryBreakdown(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -123,6 +130,7 @@ public class FinancialReportController {
      * @param to   end date (inclusive)
      * @return budget performance DTO
      */
+    @RequestCost(value = 2, perYear = 2)
     @GetMapping("/budgets/performance")
     public ResponseEntity<BudgetPerformanceDto> getBudgetPerformance(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -139,6 +147,7 @@ public class FinancialReportController {
      * @param to   end date (inclusive)
      * @return PDF file as byte array with proper headers
      */
+    @RequestCost(value = 20, perYear = 20)
     @GetMapping(value = "/reports/export/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
     public ResponseEntity<byte[]> exportToPdf(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -164,6 +173,7 @@ public class FinancialReportController {
      * @param to   end date (inclusive)
      * @return CSV file as byte array with proper headers
      */
+    @RequestCost(value = 10, perYear = 10)
     @GetMapping(value = "/reports/export/csv", produces = "text/csv")
     public ResponseEntity<byte[]> exportToCsv(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
@@ -0,0 +1,73 @@
+package mk.ukim.finki.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.model.dto.diagnostics.FlightRecordingDto;
+import mk.ukim.finki.backend.service.FlightRecordingService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for on-demand Java Flight Recorder recordings of the running node.
+ * Restricted to administrators.
+ */
+@RestController
+@RequestMapping("/api/admin/flight-recordings")
+@RequiredArgsConstructor
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * Starts a time-boxed recording.
+     *
+     * @param durationSeconds duration of the recording (optional)
+     * @return state of the started recording
+     */
+    @PostMapping
+    public ResponseEntity<FlightRecordingDto> start(@RequestParam(required = false) Integer durationSeconds) {
+        return ResponseEntity.ok(flightRecordingService.start(durationSeconds));
+    }
+
+    /**
+     * Stops the running recording.
+     *
+     * @return state of the stopped recording
+     */
+    @PostMapping("/stop")
+    public ResponseEntity<FlightRecordingDto> stop() {
+        return ResponseEntity.ok(flightRecordingService.stop());
+    }
+
+    /**
+     * Returns the state of the current recording.
+     *
+     * @return state of the recording
+     */
+    @GetMapping
+    public ResponseEntity<FlightRecordingDto> getStatus() {
+        return ResponseEntity.ok(flightRecordingService.getStatus());
+    }
+
+    /**
+     * Downloads the finished recording, to be opened in JDK Mission Control or with the {@code jfr} tool.
+     *
+     * @return the {@code .jfr} file
+     */
+    @GetMapping(value = "/file", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Resource> download() {
+        FileSystemResource file = new FileSystemResource(flightRecordingService.getRecordingFile());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFilename() + "\"")
+                .body(file);
+    }
+}
@@ -107,13 +107,28 @@ public class SavingGoalController {
     }
 
     /**
-     * Returns contribution history for a saving goal.
+     * Returns contribution history for a saving goal, one page at a time, newest first.
      *
-     * @param id saving goal id
-     * @return list of contribution DTOs
+     * @param id     saving goal id
+     * @param cursor cursor of the next page returned by the previous call; omit for the first page
+     * @param limit  page size (1-100)
+     * @return page of contribution DTOs
      */
     @GetMapping("/{id}/contributions")
-    public List<GoalContributionDto> getContributions(@PathVariable UUID id) {
-        return savingGoalService.getContributions(id);
+    public GoalContributionPageDto getContributions(@PathVariable UUID id,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "20") int limit) {
+        return savingGoalService.getContributions(id, cursor, limit);
+    }
+
+    /**
+     * Returns per-month deposit and withdrawal totals with the running balance of a saving goal.
+     *
+     * @param id saving goal id
+     * @return monthly contribution history
+     */
+    @GetMapping("/{id}/contributions/monthly")
+    public List<MonthlyContributionDto> getMonthlyContributionHistory(@PathVariable UUID id) {
+        return savingGoalService.getMonthlyContributionHistory(id);
     }
 }
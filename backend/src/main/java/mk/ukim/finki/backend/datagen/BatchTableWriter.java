@@ -0,0 +1,48 @@
+package mk.ukim.finki.backend.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+
+/**
+ * Writes rows through batched {@code INSERT} statements, for databases without {@code COPY}.
+ */
+class BatchTableWriter implements TableWriter {
+
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+
+    BatchTableWriter(Connection connection, int batchSize, String table, String... columns) throws SQLException {
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void row(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            statement.setObject(i + 1, value instanceof Instant instant ? Timestamp.from(instant) : value);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            statement.executeBatch();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+}
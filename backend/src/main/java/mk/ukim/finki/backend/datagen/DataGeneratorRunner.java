@@ -0,0 +1,64 @@
+package mk.ukim.finki.backend.datagen;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Fills the configured database with synthetic data and exits, when the application runs with the
+ * {@code datagen} profile:
+ * <pre>
+ * java -jar backend.jar --spring.profiles.active=datagen --app.datagen.users=100000
+ * </pre>
+ * Liquibase migrates the schema first, so the generator can target an empty database.
+ * Every generated user can log in with {@code app.datagen.password}.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+@Slf4j
+public class DataGeneratorRunner implements ApplicationRunner {
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext context;
+
+    @Value("${app.datagen.users:1000}")
+    private int users;
+
+    @Value("${app.datagen.transactions-per-user:500}")
+    private int transactionsPerUser;
+
+    @Value("${app.datagen.history-days:730}")
+    private int historyDays;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    @Value("${app.datagen.email-prefix:datagen}")
+    private String emailPrefix;
+
+    @Value("${app.datagen.password:DataGen1!}")
+    private String password;
+
+    @Value("${app.datagen.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Generating {} users with {} transactions each over {} days (seed {})",
+                users, transactionsPerUser, historyDays, seed);
+        new SyntheticDataGenerator(dataSource, new SyntheticDataGenerator.Settings(users, transactionsPerUser,
+                historyDays, seed, emailPrefix, passwordEncoder.encode(password), batchSize)).generate();
+        System.exit(SpringApplication.exit(context));
+    }
+}
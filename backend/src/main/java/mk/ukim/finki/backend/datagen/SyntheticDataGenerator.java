@@ -0,0 +1,531 @@
+package mk.ukim.finki.backend.datagen;
+
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import mk.ukim.finki.backend.service.impl.CategoryUsageRecorder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates users with realistic financial histories and bulk loads them straight into the Liquibase schema.
+ * <p>
+ * Each user gets custom categories (and uses the predefined ones when the database has them), expenses and
+ * incomes spread over the history, monthly budgets for the last year, saving goals with contributions,
+ * an auto-save rule and the matching category usage statistics. Category choice is Zipf-skewed per user,
+ * amounts are log-normal around a per-category typical amount and expenses follow a yearly seasonal curve.
+ * <p>
+ * Every user draws from its own random streams derived from the seed, so the same settings always produce
+ * the same rows. Tables are written one after another through {@link TableWriter}, which uses
+ * {@code COPY} on PostgreSQL, and nothing goes through JPA.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    /**
+     * Generation settings.
+     *
+     * @param users               number of users to generate
+     * @param transactionsPerUser expenses and incomes per user; a fifth of them are incomes
+     * @param historyDays         days of history transactions are spread over
+     * @param seed                seed of all random streams
+     * @param emailPrefix         prefix of the generated emails and salt of the generated ids, distinguishing data sets
+     * @param passwordHash        encoded password of every generated user
+     * @param batchSize           rows per insert batch, when {@code COPY} is unavailable
+     */
+    public record Settings(int users, int transactionsPerUser, int historyDays, long seed,
+                           String emailPrefix, String passwordHash, int batchSize) {
+    }
+
+    /**
+     * A generated user.
+     */
+    public record GeneratedUser(UUID id, String email) {
+    }
+
+    /**
+     * Expense multipliers by month, January first: a quiet start of the year, summer travel and December holidays.
+     */
+    private static final double[] SEASONALITY = {0.85, 0.9, 0.95, 1.0, 1.0, 1.05, 1.15, 1.15, 1.0, 1.0, 1.1, 1.35};
+    private static final double CATEGORY_SKEW = 1.1;
+    private static final String[] EXPENSE_CATEGORIES = {
+            "Food & Groceries", "Rent", "Utilities", "Health", "Transport", "Entertainment", "Shopping", "Travel"};
+    private static final String[] INCOME_CATEGORIES = {"Salary", "Freelance", "Investments"};
+    private static final String[] SUBCATEGORIES = {"Dining Out", "Pharmacy", "Gifts"};
+    private static final String[] DESCRIPTIONS = {"Card payment", "Cash", "Online order", "Subscription", "Transfer"};
+    private static final int BUDGET_MONTHS = 12;
+    private static final int BUDGETED_CATEGORIES = 3;
+    private static final int MAX_GOALS = 5;
+
+    private final DataSource dataSource;
+    private final Settings settings;
+    private final LocalDate today = LocalDate.now();
+    private final Instant now = Instant.now();
+    private final LocalDate usageWindowStart = CategoryUsageRecorder.windowStart(today);
+    /**
+     * Mixed into every generated id, so data sets with different email prefixes never collide.
+     */
+    private final long idSalt;
+    private long rows;
+
+    public SyntheticDataGenerator(DataSource dataSource, Settings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.idSalt = settings.emailPrefix().hashCode() * 0x9E3779B97F4A7C15L;
+    }
+
+    /**
+     * Generates and loads all data.
+     *
+     * @return generated users, in generation order
+     * @throws SQLException if writing fails; tables written before the failure keep their rows
+     */
+    public List<GeneratedUser> generate() throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            List<UUID> predefinedExpense = predefinedCategories(connection, "EXPENSE");
+            List<UUID> predefinedIncome = predefinedCategories(connection, "INCOME");
+
+            List<UserPlan> plans = new ArrayList<>(settings.users());
+            for (int i = 0; i < settings.users(); i++) {
+                plans.add(plan(i, predefinedExpense, predefinedIncome));
+            }
+
+            writeUsers(connection, plans);
+            writeCategories(connection, plans);
+            writeTransactions(connection, plans, "expenses", false);
+            writeTransactions(connection, plans, "incomes", true);
+            writeCategoryUsage(connection, plans);
+            writeBudgets(connection, plans);
+            writeSavingGoals(connection, plans);
+            writeContributions(connection, plans);
+            writeAutoSaveRules(connection, plans);
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            log.info("Generated {} rows for {} users in {} s ({} rows/s)",
+                    rows, plans.size(), String.format("%.1f", seconds), Math.round(rows / Math.max(seconds, 1e-3)));
+            return plans.stream().map(plan -> new GeneratedUser(plan.id, plan.email)).toList();
+        }
+    }
+
+    private List<UUID> predefinedCategories(Connection connection, String type) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM categories WHERE predefined = true AND user_id IS NULL AND type = ? ORDER BY name")) {
+            statement.setString(1, type);
+            List<UUID> ids = new ArrayList<>();
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    ids.add(result.getObject(1, UUID.class));
+                }
+            }
+            return ids;
+        }
+    }
+
+    private UserPlan plan(int index, List<UUID> predefinedExpense, List<UUID> predefinedIncome) {
+        Random random = random(index, 0);
+        UserPlan plan = new UserPlan(index, uuid(random), settings.emailPrefix() + "-" + index + "@example.com",
+                now.minus(Duration.ofDays(settings.historyDays())).minusSeconds(random.nextInt(86_400)));
+
+        List<UUID> expenseIds = new ArrayList<>(predefinedExpense);
+        if (expenseIds.isEmpty()) {
+            for (String name : EXPENSE_CATEGORIES) {
+                expenseIds.add(plan.addCategory(uuid(random), null, name, "EXPENSE"));
+            }
+        }
+        for (String name : SUBCATEGORIES) {
+            UUID parent = expenseIds.get(random.nextInt(expenseIds.size()));
+            expenseIds.add(plan.addCategory(uuid(random), parent, name, "EXPENSE"));
+        }
+        List<UUID> incomeIds = new ArrayList<>(predefinedIncome);
+        if (incomeIds.isEmpty()) {
+            for (String name : INCOME_CATEGORIES) {
+                incomeIds.add(plan.addCategory(uuid(random), null, name, "INCOME"));
+            }
+        }
+
+        double[] expenseAmounts = new double[expenseIds.size()];
+        for (int c = 0; c < expenseAmounts.length; c++) {
+            expenseAmounts[c] = 25 * Math.exp(0.9 * random.nextGaussian());
+        }
+        double[] incomeAmounts = new double[incomeIds.size()];
+        for (int c = 0; c < incomeAmounts.length; c++) {
+            incomeAmounts[c] = (c == 0 ? 2_500 : 400) * Math.exp(0.4 * random.nextGaussian());
+        }
+        plan.expense = new CategoryPicker(expenseIds, expenseAmounts, random);
+        plan.income = new CategoryPicker(incomeIds, incomeAmounts, random);
+        return plan;
+    }
+
+    private void writeUsers(Connection connection, List<UserPlan> plans) throws SQLException {
+        try (TableWriter users = open(connection, "users", "id", "email", "password", "role", "created_at", "updated_at")) {
+            for (UserPlan plan : plans) {
+                users.row(plan.id, plan.email, settings.passwordHash(), "USER", plan.createdAt, plan.createdAt);
+            }
+        }
+        count(plans.size(), "users");
+    }
+
+    private void writeCategories(Connection connection, List<UserPlan> plans) throws SQLException {
+        int written = 0;
+        try (TableWriter categories = open(connection, "categories",
+                "id", "user_id", "parent_id", "name", "type", "predefined", "deleting", "icon", "color_code", "created_at")) {
+            for (UserPlan plan : plans) {
+                for (CategoryPlan category : plan.categories) {
+                    categories.row(category.id(), plan.id, category.parentId(), category.name(), category.type(),
+                            false, false, "icon-default", "#cccccc", plan.createdAt);
+                    written++;
+                }
+            }
+        }
+        count(written, "categories");
+
+        written = 0;
+        try (TableWriter closure = open(connection, "category_closure", "ancestor_id", "descendant_id", "depth")) {
+            for (UserPlan plan : plans) {
+                for (CategoryPlan category : plan.categories) {
+                    closure.row(category.id(), category.id(), 0);
+                    written++;
+                    if (category.parentId() != null) {
+                        closure.row(category.parentId(), category.id(), 1);
+                        written++;
+                    }
+                }
+            }
+        }
+        count(written, "category_closure");
+    }
+
+    private void writeTransactions(Connection connection, List<UserPlan> plans, String table, boolean incomes)
+            throws SQLException {
+        int incomeCount = settings.transactionsPerUser() / 5;
+        int perUser = incomes ? incomeCount : settings.transactionsPerUser() - incomeCount;
+        try (TableWriter writer = open(connection, table,
+                "id", "user_id", "category_id", "amount", "date", "description", "created_at")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, incomes ? 2 : 1);
+                CategoryPicker picker = incomes ? plan.income : plan.expense;
+                for (int i = 0; i < perUser; i++) {
+                    int category = picker.pick(random);
+                    LocalDate date = today.minusDays(random.nextInt(Math.max(1, settings.historyDays())));
+                    double seasonal = incomes ? 1 : SEASONALITY[date.getMonthValue() - 1];
+                    double noise = Math.exp((incomes ? 0.2 : 0.45) * random.nextGaussian());
+                    BigDecimal amount = BigDecimal.valueOf(Math.max(0.5, picker.amounts[category] * seasonal * noise))
+                            .setScale(2, RoundingMode.HALF_UP);
+                    writer.row(uuid(random), plan.id, picker.ids.get(category), amount, date,
+                            DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                            date.atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(random.nextInt(86_400)));
+                    picker.recordUsage(category, date, amount, usageWindowStart);
+                }
+            }
+        }
+        count((long) perUser * plans.size(), table);
+    }
+
+    private void writeCategoryUsage(Connection connection, List<UserPlan> plans) throws SQLException {
+        int written = 0;
+        try (TableWriter usage = open(connection, "category_usage",
+                "id", "user_id", "category_id", "transaction_count", "last_used_date", "trailing_total")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, 5);
+                for (CategoryPicker picker : List.of(plan.expense, plan.income)) {
+                    for (int c = 0; c < picker.ids.size(); c++) {
+                        if (picker.counts[c] > 0) {
+                            usage.row(uuid(random), plan.id, picker.ids.get(c), picker.counts[c], picker.lastUsed[c],
+                                    BigDecimal.valueOf(picker.trailingCents(c), 2));
+                            written++;
+                        }
+                    }
+                }
+            }
+        }
+        count(written, "category_usage");
+
+        written = 0;
+        try (TableWriter daily = open(connection, "category_usage_daily", "id", "user_id", "category_id", "date", "amount")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, 6);
+                for (CategoryPicker picker : List.of(plan.expense, plan.income)) {
+                    for (int c = 0; c < picker.ids.size(); c++) {
+                        for (int day = 0; day < CategoryUsageRecorder.TRAILING_DAYS; day++) {
+                            long cents = picker.trailingCents[c * CategoryUsageRecorder.TRAILING_DAYS + day];
+                            if (cents != 0) {
+                                daily.row(uuid(random), plan.id, picker.ids.get(c), usageWindowStart.plusDays(day),
+                                        BigDecimal.valueOf(cents, 2));
+                                written++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        count(written, "category_usage_daily");
+    }
+
+    private void writeBudgets(Connection connection, List<UserPlan> plans) throws SQLException {
+        double months = Math.max(1, settings.historyDays() / 30.0);
+        double expensesPerMonth = (settings.transactionsPerUser() - settings.transactionsPerUser() / 5) / months;
+        int written = 0;
+        try (TableWriter budgets = open(connection, "budgets",
+                "id", "user_id", "category_id", "amount", "start_date", "end_date", "is_rollover", "archived", "created_at")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, 3);
+                int[] budgeted = plan.expense.mostUsed(BUDGETED_CATEGORIES);
+                for (int month = 0; month < BUDGET_MONTHS; month++) {
+                    YearMonth period = YearMonth.from(today).minusMonths(month);
+                    for (int category : budgeted) {
+                        double expected = expensesPerMonth * plan.expense.share(category) * plan.expense.amounts[category]
+                                * SEASONALITY[period.getMonthValue() - 1];
+                        BigDecimal amount = BigDecimal.valueOf(Math.max(10, Math.round(expected * 1.1 / 10) * 10L));
+                        budgets.row(uuid(random), plan.id, plan.expense.ids.get(category), amount,
+                                period.atDay(1), period.atEndOfMonth(), false, month >= 6,
+                                period.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+                        written++;
+                    }
+                }
+            }
+        }
+        count(written, "budgets");
+    }
+
+    private void writeSavingGoals(Connection connection, List<UserPlan> plans) throws SQLException {
+        int written = 0;
+        try (TableWriter goals = open(connection, "saving_goals", "id", "user_id", "name", "target_amount",
+                "current_amount", "deadline", "achieved", "created_at", "contribution_weight_sum")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, 4);
+                int goalCount = 1 + random.nextInt(MAX_GOALS);
+                for (int g = 0; g < goalCount; g++) {
+                    GoalPlan goal = goal(plan, g, random);
+                    plan.goals.add(goal);
+
+                    BigDecimal current = BigDecimal.ZERO;
+                    double weightSum = 0;
+                    SavingGoal weights = SavingGoal.builder().createdAt(goal.createdAt()).build();
+                    for (Contribution contribution : contributions(plan, goal)) {
+                        BigDecimal signed = contribution.deposit() ? contribution.amount() : contribution.amount().negate();
+                        current = current.add(signed);
+                        weightSum += signed.doubleValue() * weights.contributionWeight(contribution.at());
+                    }
+                    BigDecimal target = goal.reachable()
+                            ? current.multiply(BigDecimal.valueOf(goal.targetFactor())).setScale(2, RoundingMode.HALF_UP).max(BigDecimal.valueOf(100))
+                            : current.max(BigDecimal.ONE);
+                    goals.row(goal.id(), plan.id, "Goal " + (g + 1), target, current, goal.deadline(),
+                            current.compareTo(target) >= 0, goal.createdAt(), weightSum);
+                    written++;
+                }
+            }
+        }
+        count(written, "saving_goals");
+    }
+
+    private void writeContributions(Connection connection, List<UserPlan> plans) throws SQLException {
+        int written = 0;
+        try (TableWriter contributions = open(connection, "goal_contributions",
+                "id", "saving_goal_id", "amount", "type", "created_at")) {
+            for (UserPlan plan : plans) {
+                for (GoalPlan goal : plan.goals) {
+                    for (Contribution contribution : contributions(plan, goal)) {
+                        contributions.row(contribution.id(), goal.id(), contribution.amount(),
+                                contribution.deposit() ? "DEPOSIT" : "WITHDRAWAL", contribution.at());
+                        written++;
+                    }
+                }
+            }
+        }
+        count(written, "goal_contributions");
+    }
+
+    private void writeAutoSaveRules(Connection connection, List<UserPlan> plans) throws SQLException {
+        try (TableWriter rules = open(connection, "auto_save_rules",
+                "id", "user_id", "category_id", "saving_goal_id", "percentage", "created_at")) {
+            for (UserPlan plan : plans) {
+                Random random = random(plan.index, 7);
+                rules.row(uuid(random), plan.id, plan.income.ids.get(0), plan.goals.get(0).id(),
+                        new BigDecimal("10.00"), plan.createdAt);
+            }
+        }
+        count(plans.size(), "auto_save_rules");
+    }
+
+    private GoalPlan goal(UserPlan plan, int index, Random random) {
+        long lifetimeDays = Math.max(60, ChronoUnit.DAYS.between(plan.createdAt, now) - 30);
+        Instant createdAt = plan.createdAt.plus(Duration.ofDays(random.nextLong(lifetimeDays - 30)));
+        return new GoalPlan(uuid(random), index, createdAt,
+                LocalDate.ofInstant(createdAt, ZoneOffset.UTC).plusYears(1 + random.nextInt(4)),
+                random.nextDouble() >= 0.1, 1.2 + random.nextDouble() * 1.8);
+    }
+
+    /**
+     * Regular deposits between the goal's creation and now, with occasional withdrawals that never overdraw it.
+     * Derived from the goal alone, so goals and contribution rows are generated in separate passes.
+     */
+    private List<Contribution> contributions(UserPlan plan, GoalPlan goal) {
+        Random random = random(plan.index, 100 + goal.index());
+        int count = 3 + random.nextInt(30);
+        long span = Math.max(1, Duration.between(goal.createdAt(), now).getSeconds());
+        double typical = 50 * Math.exp(0.6 * random.nextGaussian());
+
+        List<Contribution> contributions = new ArrayList<>(count);
+        BigDecimal balance = BigDecimal.ZERO;
+        for (int i = 0; i < count; i++) {
+            Instant at = goal.createdAt().plusSeconds(span * i / count);
+            BigDecimal amount = BigDecimal.valueOf(Math.max(1, typical * Math.exp(0.3 * random.nextGaussian())))
+                    .setScale(2, RoundingMode.HALF_UP);
+            boolean deposit = random.nextDouble() >= 0.1 || balance.compareTo(amount) < 0;
+            balance = deposit ? balance.add(amount) : balance.subtract(amount);
+            contributions.add(new Contribution(uuid(random), amount, deposit, at));
+        }
+        return contributions;
+    }
+
+    private TableWriter open(Connection connection, String table, String... columns) throws SQLException {
+        return TableWriter.open(connection, settings.batchSize(), table, columns);
+    }
+
+    private void count(long written, String table) {
+        rows += written;
+        log.info("Wrote {} rows to {}", written, table);
+    }
+
+    private Random random(int userIndex, int stream) {
+        return new Random(settings.seed() ^ (userIndex * 0x9E3779B97F4A7C15L) ^ (stream * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    private UUID uuid(Random random) {
+        long mostSignificant = random.nextLong() ^ idSalt;
+        long leastSignificant = random.nextLong();
+        return new UUID((mostSignificant & ~0xF000L) | 0x4000L, (leastSignificant & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L);
+    }
+
+    private record CategoryPlan(UUID id, UUID parentId, String name, String type) {
+    }
+
+    private record GoalPlan(UUID id, int index, Instant createdAt, LocalDate deadline,
+                            boolean reachable, double targetFactor) {
+    }
+
+    private record Contribution(UUID id, BigDecimal amount, boolean deposit, Instant at) {
+    }
+
+    private static final class UserPlan {
+
+        final int index;
+        final UUID id;
+        final String email;
+        final Instant createdAt;
+        final List<CategoryPlan> categories = new ArrayList<>();
+        final List<GoalPlan> goals = new ArrayList<>();
+        CategoryPicker expense;
+        CategoryPicker income;
+
+        UserPlan(int index, UUID id, String email, Instant createdAt) {
+            this.index = index;
+            this.id = id;
+            this.email = email;
+            this.createdAt = createdAt;
+        }
+
+        UUID addCategory(UUID categoryId, UUID parentId, String name, String type) {
+            categories.add(new CategoryPlan(categoryId, parentId, name, type));
+            return categoryId;
+        }
+    }
+
+    /**
+     * Zipf-distributed choice among a user's categories, in a per-user random order of popularity,
+     * together with the usage statistics of the generated transactions.
+     */
+    private static final class CategoryPicker {
+
+        final List<UUID> ids;
+        final double[] amounts;
+        final double[] weights;
+        final double[] cumulative;
+        final long[] counts;
+        final LocalDate[] lastUsed;
+        final long[] trailingCents;
+
+        CategoryPicker(List<UUID> ids, double[] amounts, Random random) {
+            this.ids = ids;
+            this.amounts = amounts;
+            this.weights = new double[ids.size()];
+            this.cumulative = new double[ids.size()];
+            this.counts = new long[ids.size()];
+            this.lastUsed = new LocalDate[ids.size()];
+            this.trailingCents = new long[ids.size() * CategoryUsageRecorder.TRAILING_DAYS];
+
+            List<Integer> ranks = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                ranks.add(i + 1);
+            }
+            Collections.shuffle(ranks, random);
+            double total = 0;
+            for (int i = 0; i < ids.size(); i++) {
+                weights[i] = 1 / Math.pow(ranks.get(i), CATEGORY_SKEW);
+                total += weights[i];
+            }
+            double running = 0;
+            for (int i = 0; i < ids.size(); i++) {
+                weights[i] /= total;
+                running += weights[i];
+                cumulative[i] = running;
+            }
+        }
+
+        int pick(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(ids.size() - 1, index >= 0 ? index : -index - 1);
+        }
+
+        double share(int category) {
+            return weights[category];
+        }
+
+        int[] mostUsed(int limit) {
+            Integer[] order = new Integer[ids.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(weights[b], weights[a]));
+            return Arrays.stream(order).limit(limit).mapToInt(Integer::intValue).toArray();
+        }
+
+        long trailingCents(int category) {
+            long total = 0;
+            for (int day = 0; day < CategoryUsageRecorder.TRAILING_DAYS; day++) {
+                total += trailingCents[category * CategoryUsageRecorder.TRAILING_DAYS + day];
+            }
+            return total;
+        }
+
+        void recordUsage(int category, LocalDate date, BigDecimal amount, LocalDate windowStart) {
+            counts[category]++;
+            if (lastUsed[category] == null || date.isAfter(lastUsed[category])) {
+                lastUsed[category] = date;
+            }
+            if (!date.isBefore(windowStart)) {
+                int day = (int) ChronoUnit.DAYS.between(windowStart, date);
+                trailingCents[category * CategoryUsageRecorder.TRAILING_DAYS + day] += amount.movePointRight(2).longValueExact();
+            }
+        }
+    }
+}
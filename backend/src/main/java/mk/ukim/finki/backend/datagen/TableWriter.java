@@ -0,0 +1,43 @@
+package mk.ukim.finki.backend.datagen;
+
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Streams rows into one table.
+ * <p>
+ * On PostgreSQL rows are sent with {@code COPY ... FROM STDIN}, elsewhere with batched inserts.
+ * Supported values are {@code null}, strings, numbers, booleans, UUIDs, {@link java.time.LocalDate}
+ * and {@link java.time.Instant}.
+ */
+interface TableWriter extends AutoCloseable {
+
+    /**
+     * Writes a row; values follow the column order the writer was opened with.
+     */
+    void row(Object... values) throws SQLException;
+
+    /**
+     * Flushes the remaining rows.
+     */
+    @Override
+    void close() throws SQLException;
+
+    /**
+     * Opens the fastest writer the connection supports.
+     *
+     * @param connection connection in auto-commit mode
+     * @param batchSize  rows per insert batch, when {@code COPY} is unavailable
+     * @param table      table name
+     * @param columns    column names
+     * @return table writer
+     */
+    static TableWriter open(Connection connection, int batchSize, String table, String... columns) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopyTableWriter(connection.unwrap(PGConnection.class).getCopyAPI(), table, columns);
+        }
+        return new BatchTableWriter(connection, batchSize, table, columns);
+    }
+}
@@ -0,0 +1,37 @@
+package mk.ukim.finki.backend.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import mk.ukim.finki.backend.service.impl.AutoSaveSweepRetrier;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Applies auto-save rules to newly created incomes.
+ * <p>
+ * Runs asynchronously once the income transaction has committed, so the income request
+ * is neither slowed down nor rolled back by a failing sweep. Failed sweeps are handed to the
+ * {@link AutoSaveSweepRetrier}, which stores them and retries them later.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutoSaveSweepListener {
+
+    private final AutoSaveRuleService autoSaveRuleService;
+    private final AutoSaveSweepRetrier sweepRetrier;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onIncomeCreated(IncomeCreatedEvent event) {
+        try {
+            autoSaveRuleService.sweepIncome(event);
+        } catch (RuntimeException e) {
+            log.warn("Auto-save sweep failed for income [{}], scheduling a retry", event.incomeId(), e);
+            sweepRetrier.recordFailure(event);
+        }
+    }
+}
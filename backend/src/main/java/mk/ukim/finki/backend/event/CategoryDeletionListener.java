@@ -0,0 +1,78 @@
+package mk.ukim.finki.backend.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+import mk.ukim.finki.backend.repository.CategoryDeletionJobRepository;
+import mk.ukim.finki.backend.service.impl.CategoryDeletionJobRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs category deletion jobs in the background.
+ * <p>
+ * New jobs start once the request that created them has committed. Jobs left
+ * running by a previous instance are resumed when the application starts, and jobs
+ * whose run failed are retried every {@code app.categories.deletion-retry-interval-ms}.
+ * A job already running on this instance is never started twice.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryDeletionListener {
+
+    private final CategoryDeletionJobRunner runner;
+    private final CategoryDeletionJobRepository jobRepository;
+
+    private final Set<UUID> runningJobs = ConcurrentHashMap.newKeySet();
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeletionRequested(CategoryDeletionRequestedEvent event) {
+        runSafely(event.jobId());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        retryUnfinishedJobs();
+    }
+
+    /**
+     * Runs every job that is still running in the database but not on this instance,
+     * which covers jobs whose previous run failed.
+     */
+    @Scheduled(fixedDelayString = "${app.categories.deletion-retry-interval-ms:300000}",
+            initialDelayString = "${app.categories.deletion-retry-interval-ms:300000}")
+    public void retryUnfinishedJobs() {
+        for (CategoryDeletionJob job : jobRepository.findByStatus(CategoryDeletionStatus.RUNNING)) {
+            if (!runningJobs.contains(job.getId())) {
+                log.info("Resuming category deletion job [{}] for category ID={}", job.getId(), job.getCategoryId());
+                runSafely(job.getId());
+            }
+        }
+    }
+
+    private void runSafely(UUID jobId) {
+        if (!runningJobs.add(jobId)) {
+            return;
+        }
+        try {
+            runner.run(jobId);
+        } catch (RuntimeException e) {
+            log.error("Category deletion job [{}] failed; it will be retried", jobId, e);
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package mk.ukim.finki.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a custom category has been marked for deletion.
+ *
+ * @param jobId the deletion job to run
+ */
+public record CategoryDeletionRequestedEvent(UUID jobId) {
+}
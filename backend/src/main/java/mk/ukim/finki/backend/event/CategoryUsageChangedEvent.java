@@ -0,0 +1,20 @@
+package mk.ukim.finki.backend.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published when a transaction enters or leaves a category.
+ * An update that changes the category, date or amount publishes one event for the old
+ * values with a negative delta and one for the new values with a positive delta.
+ *
+ * @param userId           owner of the transaction
+ * @param categoryId       category of the transaction
+ * @param date             transaction date
+ * @param amount           signed amount added to the category on that date
+ * @param transactionDelta +1 when the transaction enters the category, -1 when it leaves
+ */
+public record CategoryUsageChangedEvent(UUID userId, UUID categoryId, LocalDate date,
+                                        BigDecimal amount, int transactionDelta) {
+}
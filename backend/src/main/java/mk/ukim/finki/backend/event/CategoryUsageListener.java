@@ -0,0 +1,25 @@
+package mk.ukim.finki.backend.event;
+
+import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.service.impl.CategoryUsageRecorder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Buffers category usage changes of committed transaction writes.
+ * <p>
+ * Recording only merges into memory, so it runs on the request thread; the database
+ * is updated in batches by {@link CategoryUsageRecorder#flush()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryUsageListener {
+
+    private final CategoryUsageRecorder usageRecorder;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUsageChanged(CategoryUsageChangedEvent event) {
+        usageRecorder.record(event);
+    }
+}
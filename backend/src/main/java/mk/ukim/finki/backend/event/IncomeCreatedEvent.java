@@ -0,0 +1,17 @@
+package mk.ukim.finki.backend.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Published when an income is created.
+ * Carries only identifiers and the amount, so listeners running after the commit
+ * do not depend on the publishing persistence context.
+ *
+ * @param userId     owner of the income
+ * @param incomeId   the created income
+ * @param categoryId category of the income
+ * @param amount     income amount
+ */
+public record IncomeCreatedEvent(UUID userId, UUID incomeId, UUID categoryId, BigDecimal amount) {
+}
@@ -0,0 +1,10 @@
+package mk.ukim.finki.backend.exception;
+
+/**
+ * Exception thrown for invalid category hierarchy changes (e.g. a parent of another type, or a cycle).
+ */
+public class CategoryHierarchyException extends CategoryException {
+    public CategoryHierarchyException(String message) {
+        super(message);
+    }
+}
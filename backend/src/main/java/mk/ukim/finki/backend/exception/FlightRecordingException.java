@@ -0,0 +1,11 @@
+package mk.ukim.finki.backend.exception;
+
+/**
+ * Exception thrown when a flight recording operation conflicts with the state of the recording,
+ * such as starting a second recording or downloading one that is still running.
+ */
+public class FlightRecordingException extends RuntimeException {
+    public FlightRecordingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package mk.ukim.finki.backend.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, revoked or already used.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package mk.ukim.finki.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a client exceeds a rate limit or a bounded resource is saturated.
+ * Translated to HTTP 429 with a {@code Retry-After} header.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Seconds the client should wait before retrying.
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,43 @@
+package mk.ukim.finki.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Run of a background job that processes data in bulk, such as a category deletion job.
+ */
+@Name("fintrack.BackgroundJob")
+@Label("Background Job")
+@Category({"FinTrack", "Jobs"})
+@Description("Run of a bulk data processing job")
+public class BackgroundJobEvent extends Event {
+
+    @Label("Job")
+    String job;
+
+    @Label("Job Id")
+    String jobId;
+
+    @Label("Items")
+    long items;
+
+    /**
+     * Ends the event and commits it with its context if it is being recorded.
+     *
+     * @param job   job kind
+     * @param jobId id of the job, may be {@code null}
+     * @param items rows or records the run processed
+     */
+    public void commit(String job, Object jobId, long items) {
+        end();
+        if (shouldCommit()) {
+            this.job = job;
+            this.jobId = jobId != null ? jobId.toString() : null;
+            this.items = items;
+            commit();
+        }
+    }
+}
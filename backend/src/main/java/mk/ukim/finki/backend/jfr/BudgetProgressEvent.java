@@ -0,0 +1,38 @@
+package mk.ukim.finki.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Computation of the progress of one or more budgets of a user, including the spending query.
+ */
+@Name("fintrack.BudgetProgress")
+@Label("Budget Progress")
+@Category({"FinTrack", "Budgets"})
+@Description("Computation of the spending progress of a user's budgets")
+public class BudgetProgressEvent extends Event {
+
+    @Label("User")
+    String user;
+
+    @Label("Budgets")
+    int budgets;
+
+    /**
+     * Ends the event and commits it with its context if it is being recorded.
+     *
+     * @param user    id of the budgets' owner
+     * @param budgets number of budgets computed
+     */
+    public void commit(String user, int budgets) {
+        end();
+        if (shouldCommit()) {
+            this.user = user;
+            this.budgets = budgets;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package mk.ukim.finki.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Lookup in one of the application's in-memory caches; on a miss the duration includes loading the entry.
+ * <p>
+ * Lookups are frequent, so no stack trace is recorded.
+ */
+@Name("fintrack.CacheLookup")
+@Label("Cache Lookup")
+@Category({"FinTrack", "Caches"})
+@Description("Lookup in an in-memory cache, including the load on a miss")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Hit")
+    boolean hit;
+
+    /**
+     * Ends the event and commits it with its context if it is being recorded.
+     *
+     * @param cache name of the cache, as tagged on the {@code cache.gets} metric
+     * @param hit   whether the entry was served from the cache
+     */
+    public void commit(String cache, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
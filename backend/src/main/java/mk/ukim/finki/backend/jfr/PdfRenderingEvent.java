@@ -0,0 +1,50 @@
+package mk.ukim.finki.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Rendering of a financial report DTO into a PDF document.
+ */
+@Name("fintrack.PdfRendering")
+@Label("PDF Rendering")
+@Category({"FinTrack", "Reports"})
+@Description("Rendering of a report into a PDF document")
+public class PdfRenderingEvent extends Event {
+
+    @Label("Categories")
+    int categories;
+
+    @Label("Budgets")
+    int budgets;
+
+    @Label("Saving Goals")
+    int savingGoals;
+
+    @Label("Size")
+    @DataAmount
+    long size;
+
+    /**
+     * Ends the event and commits it with its context if it is being recorded.
+     *
+     * @param categories  expense and income categories in the report
+     * @param budgets     budgets in the report
+     * @param savingGoals saving goals in the report
+     * @param size        size of the rendered document in bytes
+     */
+    public void commit(int categories, int budgets, int savingGoals, long size) {
+        end();
+        if (shouldCommit()) {
+            this.categories = categories;
+            this.budgets = budgets;
+            this.savingGoals = savingGoals;
+            this.size = size;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package mk.ukim.finki.backend.jfr;
+
+import mk.ukim.finki.backend.security.AuthenticatedUser;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Records a {@link ReportGenerationEvent} for every report the financial report service generates for a period.
+ * <p>
+ * The report kind is the name of the service method; the user is the id of the authenticated principal.
+ */
+@Aspect
+@Component
+public class ReportEventAspect {
+
+    @Around("execution(public * mk.ukim.finki.backend.service.impl.FinancialReportServiceImpl.*(java.time.LocalDate, java.time.LocalDate))"
+            + " && args(from, to)")
+    public Object record(ProceedingJoinPoint joinPoint, LocalDate from, LocalDate to) throws Throwable {
+        ReportGenerationEvent event = new ReportGenerationEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.commit(joinPoint.getSignature().getName(), currentUser(), from, to);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof AuthenticatedUser principal
+                ? principal.id().toString()
+                : authentication.getName();
+    }
+}
@@ -0,0 +1,55 @@
+package mk.ukim.finki.backend.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Generation of a financial report, from the request for it to the finished DTO or document.
+ */
+@Name("fintrack.ReportGeneration")
+@Label("Report Generation")
+@Category({"FinTrack", "Reports"})
+@Description("Generation of a financial report for a user and period")
+public class ReportGenerationEvent extends Event {
+
+    @Label("Report")
+    String report;
+
+    @Label("User")
+    String user;
+
+    @Label("From")
+    String from;
+
+    @Label("To")
+    String to;
+
+    @Label("Period Days")
+    long periodDays;
+
+    /**
+     * Ends the event and commits it with its context if it is being recorded.
+     *
+     * @param report report kind, the name of the service method
+     * @param user   id of the user, or the principal's name
+     * @param from   start of the period, may be {@code null}
+     * @param to     end of the period, may be {@code null}
+     */
+    public void commit(String report, String user, LocalDate from, LocalDate to) {
+        end();
+        if (shouldCommit()) {
+            this.report = report;
+            this.user = user;
+            this.from = String.valueOf(from);
+            this.to = String.valueOf(to);
+            this.periodDays = from != null && to != null ? ChronoUnit.DAYS.between(from, to) + 1 : 0;
+            commit();
+        }
+    }
+}
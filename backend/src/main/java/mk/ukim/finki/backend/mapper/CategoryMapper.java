@@ -2,7 +2,9 @@ package mk.ukim.finki.backend.mapper;
 
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
 import mk.ukim.finki.backend.model.entity.Category;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
 
 import java.util.List;
 
@@ -14,4 +16,11 @@ public interface CategoryMapper {
     CategoryDto toDto(Category category);
 
     List<CategoryDto> toDtoList(List<Category> categories);
+
+    @AfterMapping
+    default void setParentId(Category category, @MappingTarget CategoryDto dto) {
+        if (category.getParent() != null) {
+            dto.setParentId(category.getParent().getId());
+        }
+    }
 }
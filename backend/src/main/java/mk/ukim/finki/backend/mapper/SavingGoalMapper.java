@@ -6,6 +6,9 @@ import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 
+import java.time.Instant;
+import java.time.LocalDate;
+
 /**
  * MapStruct mapper for mapping between {@link SavingGoal} entity and {@link SavingGoalDto}.
  */
@@ -19,6 +22,8 @@ public interface SavingGoalMapper {
         dto.setCurrentAmount(goal.getCurrentAmount());
         dto.setProgressPercentage(calculateProgress(goal));
         dto.setAchieved(goal.isAchieved());
+        dto.setProjectedCompletionDate(goal.projectCompletionDate(Instant.now()));
+        dto.setRequiredMonthlyContribution(goal.requiredMonthlyContribution(LocalDate.now()));
     }
 
     default float calculateProgress(SavingGoal goal) {
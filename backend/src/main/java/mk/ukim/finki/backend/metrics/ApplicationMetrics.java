@@ -0,0 +1,86 @@
+package mk.ukim.finki.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Business counters of the application, recorded in the global Micrometer registry.
+ * <p>
+ * Spring Boot adds its registry to {@link Metrics#globalRegistry}, so the counters are exported with
+ * all other metrics; outside of a Spring context (unit tests, benchmarks) recording is a no-op.
+ */
+public final class ApplicationMetrics {
+    private ApplicationMetrics() {
+    }
+
+    /**
+     * Counts a generated report.
+     *
+     * @param report report kind, e.g. {@code dashboard} or {@code pdf}
+     */
+    public static void reportGenerated(String report) {
+        Counter.builder("app.reports.generated")
+                .description("Financial reports generated, by report kind")
+                .tag("report", report)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * Records the size of an exported PDF report.
+     *
+     * @param bytes size of the PDF document
+     */
+    public static void pdfExported(int bytes) {
+        DistributionSummary.builder("app.reports.pdf.size")
+                .description("Size of exported PDF reports")
+                .baseUnit("bytes")
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Counts a written expense or income.
+     *
+     * @param type      {@code expense} or {@code income}
+     * @param operation {@code create}, {@code update} or {@code delete}
+     */
+    public static void transactionWritten(String type, String operation) {
+        Counter.builder("app.transactions.written")
+                .description("Expenses and incomes written, by type and operation")
+                .tag("type", type)
+                .tag("operation", operation)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * Records the number of SQL statements a request issued.
+     *
+     * @param statements statement count
+     */
+    public static void sqlStatements(long statements) {
+        DistributionSummary.builder("app.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .register(Metrics.globalRegistry)
+                .record(statements);
+    }
+
+    /**
+     * Records the heap a request allocated.
+     *
+     * @param method HTTP method of the request
+     * @param uri    route pattern of the request, e.g. {@code /api/expenses/{id}}
+     * @param bytes  bytes allocated by the request's thread
+     */
+    public static void requestAllocated(String method, String uri, long bytes) {
+        DistributionSummary.builder("app.http.allocated")
+                .description("Heap allocated while handling an HTTP request")
+                .baseUnit("bytes")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+    }
+}
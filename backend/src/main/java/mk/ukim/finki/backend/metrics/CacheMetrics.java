@@ -0,0 +1,52 @@
+package mk.ukim.finki.backend.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.cache.VerifiedTokenCache;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes the in-memory caches with the standard Micrometer cache meter names,
+ * {@code cache.gets} by {@code result} and {@code cache.size}, so hit ratios can be graphed per cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetrics implements MeterBinder {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CategoryCatalog categoryCatalog;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        VerifiedTokenCache verifiedTokens = jwtTokenProvider.getVerifiedTokenCache();
+        bind(registry, VerifiedTokenCache.NAME, verifiedTokens,
+                VerifiedTokenCache::hitCount, VerifiedTokenCache::missCount, VerifiedTokenCache::size);
+        bind(registry, CategoryCatalog.NAME, categoryCatalog,
+                CategoryCatalog::hitCount, CategoryCatalog::missCount, CategoryCatalog::cachedUsers);
+    }
+
+    private static <T> void bind(MeterRegistry registry, String cache, T source, ToDoubleFunction<T> hits,
+                                 ToDoubleFunction<T> misses, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", source, hits)
+                .description("Cache lookups that found a cached value")
+                .tag("cache", cache)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", source, misses)
+                .description("Cache lookups that had to load the value")
+                .tag("cache", cache)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("cache.size", source, size)
+                .description("Number of cached entries")
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
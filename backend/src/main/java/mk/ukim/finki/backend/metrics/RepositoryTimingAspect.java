@@ -0,0 +1,31 @@
+package mk.ukim.finki.backend.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Charges every Spring Data repository call of a sampled request to the {@code db} phase of its
+ * {@link RequestTiming}.
+ * <p>
+ * Only registered while {@code app.server-timing.enabled} is set, so repositories are not proxied
+ * an additional time otherwise. Statements issued outside of repository calls, such as lazy loading,
+ * are charged to the phase they happen in.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class RepositoryTimingAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming timing = RequestTiming.enter(RequestTiming.DB);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTiming.exit(timing);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package mk.ukim.finki.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Measures the heap allocated while handling every request and records it as {@code app.http.allocated},
+ * tagged with the method and the route pattern of the request.
+ * <p>
+ * Allocations of work handed to other threads, such as {@code @Async} listeners, are not included.
+ * Does nothing on JVMs without per-thread allocation accounting.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestAllocationFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !ThreadAllocation.isSupported();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = ThreadAllocation.current();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = ThreadAllocation.current() - start;
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            ApplicationMetrics.requestAllocated(request.getMethod(),
+                    pattern != null ? pattern.toString() : UNKNOWN_URI, allocated);
+        }
+    }
+}
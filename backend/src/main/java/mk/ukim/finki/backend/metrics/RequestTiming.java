@@ -0,0 +1,127 @@
+package mk.ukim.finki.backend.metrics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Breakdown of the time a sampled request spends in each phase, such as authentication, database
+ * access or PDF rendering.
+ * <p>
+ * Instrumented code brackets a phase with {@link #enter(String)} and {@link #exit(RequestTiming)}. Phases
+ * nest and are exclusive: while a report is being built, the time of its repository calls is charged to
+ * {@code db} and only the remainder to {@code report}, so the phases add up to the total. Time outside of
+ * any phase is charged to {@link #APP}.
+ * <p>
+ * A timing is only collected for requests sampled by {@link ServerTimingFilter}; for all other requests
+ * {@code enter} returns {@code null} after a single thread-local lookup. Work handed to other threads,
+ * such as {@code @Async} listeners, is not included.
+ */
+public final class RequestTiming {
+
+    public static final String AUTH = "auth";
+    public static final String DB = "db";
+    public static final String REPORT = "report";
+    public static final String PDF = "pdf";
+    public static final String SERIALIZE = "serialize";
+    public static final String APP = "app";
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long start;
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+    private final Deque<String> phases = new ArrayDeque<>();
+    private long mark;
+    private long total;
+
+    private RequestTiming(long start) {
+        this.start = start;
+        this.mark = start;
+    }
+
+    /**
+     * Starts collecting the timing of the request handled by the current thread.
+     *
+     * @return the timing, to be {@linkplain #finish() finished} when the request completes
+     */
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Enters a phase of the current request.
+     *
+     * @param phase name of the phase, one of the constants of this class
+     * @return the timing of the current request, or {@code null} if the request is not sampled
+     */
+    public static RequestTiming enter(String phase) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.charge(System.nanoTime());
+            timing.phases.push(phase);
+        }
+        return timing;
+    }
+
+    /**
+     * Leaves the phase most recently entered and resumes the enclosing one.
+     *
+     * @param timing the timing returned by {@link #enter(String)}, may be {@code null}
+     */
+    public static void exit(RequestTiming timing) {
+        if (timing != null && !timing.phases.isEmpty()) {
+            timing.charge(System.nanoTime());
+            timing.phases.pop();
+        }
+    }
+
+    /**
+     * Stops collecting; a phase still open, such as serialization of the response body, is charged up to now.
+     */
+    void finish() {
+        long now = System.nanoTime();
+        charge(now);
+        phases.clear();
+        total = now - start;
+        CURRENT.remove();
+    }
+
+    private void charge(long now) {
+        durations.merge(phases.isEmpty() ? APP : phases.peek(), now - mark, Long::sum);
+        mark = now;
+    }
+
+    /**
+     * Formats the breakdown as the value of a {@code Server-Timing} header, in milliseconds.
+     *
+     * @param statements SQL statements the request issued, described on the {@code db} entry
+     * @return header value, e.g. {@code auth;dur=0.3, db;dur=4.1;desc="7 statements", app;dur=1.2, total;dur=5.6}
+     */
+    String toHeader(long statements) {
+        StringJoiner header = new StringJoiner(", ");
+        durations.forEach((phase, nanos) -> header.add(DB.equals(phase)
+                ? "%s;dur=%s;desc=\"%d statements\"".formatted(phase, millis(nanos), statements)
+                : "%s;dur=%s".formatted(phase, millis(nanos))));
+        return header.add("total;dur=" + millis(total)).toString();
+    }
+
+    /**
+     * Formats the breakdown as {@code key=value} pairs for a structured log line, in milliseconds.
+     *
+     * @return log fields, e.g. {@code auth=0.3 db=4.1 app=1.2 total=5.6}
+     */
+    String toLogFields() {
+        StringJoiner fields = new StringJoiner(" ");
+        durations.forEach((phase, nanos) -> fields.add(phase + "=" + millis(nanos)));
+        return fields.add("total=" + millis(total)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,64 @@
+package mk.ukim.finki.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collects a {@link RequestTiming} for a sample of the requests and reports it in a {@code Server-Timing}
+ * response header and a structured log line.
+ * <p>
+ * Enabled with {@code app.server-timing.enabled}; {@code app.server-timing.sample-rate} is the fraction
+ * of requests timed. The body of a sampled response is buffered so that the header can include the
+ * serialization time, which ends only after the body has been written. Requests that are not sampled,
+ * and all requests while the filter is disabled, pass through untouched.
+ */
+@Component
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final double sampleRate;
+
+    public ServerTimingFilter(@Value("${app.server-timing.sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        long statements = SqlStatementCounter.current();
+        RequestTiming timing = RequestTiming.begin();
+        try {
+            chain.doFilter(request, buffered);
+        } finally {
+            timing.finish();
+            statements = SqlStatementCounter.current() - statements;
+            buffered.setHeader(HEADER, timing.toHeader(statements));
+            log.info("server-timing method={} uri={} status={} statements={} {}", request.getMethod(),
+                    request.getRequestURI(), buffered.getStatus(), statements, timing.toLogFields());
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package mk.ukim.finki.backend.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements of every request, including those issued during authentication,
+ * and records them as {@code app.sql.statements}.
+ * <p>
+ * Requests issuing more than {@code app.sql.statement-warn-threshold} statements are logged as warnings:
+ * a count that grows with the amount of data the user has is the signature of an N+1 query.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private final int warnThreshold;
+
+    public SqlStatementCountFilter(@Value("${app.sql.statement-warn-threshold:20}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = SqlStatementCounter.current();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long statements = SqlStatementCounter.current() - start;
+            ApplicationMetrics.sqlStatements(statements);
+            if (statements > warnThreshold) {
+                log.warn("{} {} issued {} SQL statements, more than the threshold of {}",
+                        request.getMethod(), request.getRequestURI(), statements, warnThreshold);
+            }
+        }
+    }
+}
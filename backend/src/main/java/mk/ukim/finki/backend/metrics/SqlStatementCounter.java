@@ -0,0 +1,32 @@
+package mk.ukim.finki.backend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on each thread.
+ * <p>
+ * Registered as Hibernate's statement inspector through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}. The per-thread count only
+ * ever grows, so any code can measure a span of work by reading {@link #current()} before and after it,
+ * and spans may nest: {@link SqlStatementCountFilter} measures every request and tests measure single calls.
+ * Statements issued outside of Hibernate, such as through {@code JdbcTemplate}, are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Returns the number of statements prepared on the current thread so far.
+     *
+     * @return statement count of the current thread
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
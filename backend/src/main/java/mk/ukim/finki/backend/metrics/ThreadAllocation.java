@@ -0,0 +1,50 @@
+package mk.ukim.finki.backend.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the number of bytes the current thread has allocated on the heap.
+ * <p>
+ * Backed by the HotSpot extension of {@link ThreadMXBean}, which keeps an allocation counter per thread.
+ * The count only ever grows, so a span of work is measured by reading {@link #current()} before and
+ * after it: {@link RequestAllocationFilter} measures every request and tests measure single calls.
+ * The counter is updated as thread-local allocation buffers are handed out, so very small spans read
+ * as zero or as a whole buffer; spans the size of a request are accurate to a few kilobytes.
+ */
+public final class ThreadAllocation {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private ThreadAllocation() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the JVM measures allocations per thread.
+     *
+     * @return {@code true} if {@link #current()} is meaningful
+     */
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     *
+     * @return allocated bytes of the current thread, or 0 if not {@linkplain #isSupported() supported}
+     */
+    public static long current() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+}
@@ -5,7 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 /**
- * DTO representing an authentication response containing JWT token and expiry.
+ * DTO representing an authentication response containing JWT token, refresh token and expiry.
  */
 @Data
 @AllArgsConstructor
@@ -16,6 +16,11 @@ public class AuthResponseDto {
      */
     private String token;
 
+    /**
+     * Single-use refresh token for obtaining a new token pair.
+     */
+    private String refreshToken;
+
     /**
      * Expiration time of the token in milliseconds.
      */
@@ -0,0 +1,43 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Daily cumulative spending of a budget compared against the ideal linear pace.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetBurnDownDto {
+    private UUID budgetId;
+
+    private String categoryName;
+
+    private BigDecimal amount;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private boolean archived;
+
+    /**
+     * Total spent over the whole budget window.
+     */
+    private BigDecimal totalSpent;
+
+    /**
+     * One point per day of the budget window, ordered by date.
+     * Days after today are omitted for active budgets.
+     */
+    private List<BurnDownPointDto> points;
+}
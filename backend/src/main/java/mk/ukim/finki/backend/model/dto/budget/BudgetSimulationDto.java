@@ -0,0 +1,33 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO of the budget what-if simulator.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSimulationDto {
+    /**
+     * Start of the evaluated history (inclusive).
+     */
+    private LocalDate from;
+
+    /**
+     * End of the evaluated history (inclusive).
+     */
+    private LocalDate to;
+
+    /**
+     * One result per simulated budget, in request order.
+     */
+    private List<BudgetSimulationResultDto> results;
+}
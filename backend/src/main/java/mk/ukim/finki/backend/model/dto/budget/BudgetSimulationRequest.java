@@ -0,0 +1,34 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for evaluating hypothetical budgets against the user's spending history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSimulationRequest {
+    @NotEmpty(message = "At least one budget is required")
+    @Size(max = 50, message = "At most 50 budgets can be simulated at once")
+    private List<@Valid SimulatedBudgetRequest> budgets;
+
+    /**
+     * Number of complete months of history to evaluate against.
+     */
+    @Min(value = 12, message = "Lookback must be at least 12 months")
+    @Max(value = 24, message = "Lookback must not exceed 24 months")
+    @Builder.Default
+    private int lookbackMonths = 12;
+}
@@ -0,0 +1,57 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mk.ukim.finki.backend.model.enums.BudgetPeriod;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Outcome of a single hypothetical budget evaluated over historical periods.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSimulationResultDto {
+    private UUID categoryId;
+
+    private String categoryName;
+
+    private BigDecimal amount;
+
+    private BudgetPeriod period;
+
+    /**
+     * Number of complete historical periods the budget was evaluated over.
+     */
+    private int periodsEvaluated;
+
+    /**
+     * Number of periods in which spending exceeded the budget amount.
+     */
+    private int periodsExceeded;
+
+    /**
+     * Share of periods exceeded, in percent (0-100).
+     */
+    private BigDecimal exceededPercentage;
+
+    /**
+     * Average spending per period.
+     */
+    private BigDecimal averageSpent;
+
+    /**
+     * Average overspend across the exceeded periods only.
+     */
+    private BigDecimal averageOverspend;
+
+    /**
+     * Largest overspend of any single period.
+     */
+    private BigDecimal maxOverspend;
+}
@@ -0,0 +1,28 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Amount spent against a single budget.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BudgetSpendingDto {
+    /**
+     * Id of the budget.
+     */
+    private UUID budgetId;
+
+    /**
+     * Total amount spent in the budget's category and its subcategories.
+     */
+    private BigDecimal spent;
+}
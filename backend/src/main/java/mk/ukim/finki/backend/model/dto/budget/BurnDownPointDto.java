@@ -0,0 +1,39 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A single day in a budget burn-down series.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BurnDownPointDto {
+
+    /**
+     * Day this point represents.
+     */
+    private LocalDate date;
+
+    /**
+     * Amount spent on this day only.
+     */
+    private BigDecimal spent;
+
+    /**
+     * Amount spent from the budget start up to and including this day.
+     */
+    private BigDecimal cumulativeSpent;
+
+    /**
+     * Amount that would have been spent by this day at a perfectly linear pace.
+     */
+    private BigDecimal idealSpent;
+}
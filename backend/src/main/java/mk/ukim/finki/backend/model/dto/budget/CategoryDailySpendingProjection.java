@@ -0,0 +1,32 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection interface for daily spending aggregated per category.
+ */
+public interface CategoryDailySpendingProjection {
+
+    /**
+     * Gets the category the spending belongs to.
+     *
+     * @return the category id
+     */
+    UUID getCategoryId();
+
+    /**
+     * Gets the day the spending was recorded on.
+     *
+     * @return the date
+     */
+    LocalDate getDate();
+
+    /**
+     * Gets the total amount spent in the category on that day.
+     *
+     * @return the total amount
+     */
+    BigDecimal getTotalAmount();
+}
@@ -0,0 +1,24 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection interface for daily spending aggregation.
+ */
+public interface DailySpendingProjection {
+
+    /**
+     * Gets the day the spending was recorded on.
+     *
+     * @return the date
+     */
+    LocalDate getDate();
+
+    /**
+     * Gets the total amount spent on that day.
+     *
+     * @return the total amount
+     */
+    BigDecimal getTotalAmount();
+}
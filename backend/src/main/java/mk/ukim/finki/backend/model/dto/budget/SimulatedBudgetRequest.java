@@ -0,0 +1,33 @@
+package mk.ukim.finki.backend.model.dto.budget;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mk.ukim.finki.backend.model.enums.BudgetPeriod;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * A hypothetical budget evaluated by the budget simulator.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulatedBudgetRequest {
+    /**
+     * Category of the budget. Null = overall budget.
+     */
+    private UUID categoryId;
+
+    @NotNull
+    @DecimalMin(value = "0.01", message = "Budget amount must be greater than 0")
+    private BigDecimal amount;
+
+    @NotNull(message = "Budget period is required")
+    private BudgetPeriod period;
+}
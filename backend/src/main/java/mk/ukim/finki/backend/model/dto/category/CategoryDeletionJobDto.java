@@ -0,0 +1,40 @@
+package mk.ukim.finki.backend.model.dto.category;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of a background category deletion.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryDeletionJobDto {
+    private UUID id;
+
+    private UUID categoryId;
+
+    private String categoryName;
+
+    private CategoryDeletionStatus status;
+
+    private long totalTransactions;
+
+    private long reassignedTransactions;
+
+    /**
+     * Share of the transactions already reassigned, between 0 and 100.
+     */
+    private float progressPercentage;
+
+    private Instant createdAt;
+
+    private Instant completedAt;
+}
@@ -0,0 +1,12 @@
+package mk.ukim.finki.backend.model.dto.category;
+
+import java.util.UUID;
+
+/**
+ * Projection of a single ancestor/descendant pair from the category closure table.
+ */
+public interface CategoryDescendantProjection {
+    UUID getAncestorId();
+
+    UUID getDescendantId();
+}
@@ -6,6 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import mk.ukim.finki.backend.model.enums.CategoryType;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.UUID;
 
 /**
@@ -20,6 +22,10 @@ public class CategoryDto {
     private String name;
     private CategoryType type;
     private boolean predefined;
+    private UUID parentId;
     private String icon;
     private String colorCode;
+    private long transactionCount;
+    private LocalDate lastUsedDate;
+    private BigDecimal last30DaysTotal;
 }
@@ -0,0 +1,18 @@
+package mk.ukim.finki.backend.model.dto.category;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Usage statistics of one category, as read for the category list.
+ */
+public interface CategoryUsageProjection {
+    UUID getCategoryId();
+
+    long getTransactionCount();
+
+    LocalDate getLastUsedDate();
+
+    BigDecimal getTrailingTotal();
+}
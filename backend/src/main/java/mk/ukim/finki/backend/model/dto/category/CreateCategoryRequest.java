@@ -10,6 +10,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import mk.ukim.finki.backend.model.enums.CategoryType;
 
+import java.util.UUID;
+
 /**
  * Request DTO for creating new custom categories.
  */
@@ -30,4 +32,9 @@ public class CreateCategoryRequest {
 
     @Pattern(regexp = "^#([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$", message = "Color code must be valid hex format (#RGB or #RRGGBB)")
     private String colorCode;
+
+    /**
+     * Optional parent category; null places the category at the top level.
+     */
+    private UUID parentId;
 }
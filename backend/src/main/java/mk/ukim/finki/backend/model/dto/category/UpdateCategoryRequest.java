@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 /**
  * Request DTO for updating an existing custom category.
  */
@@ -25,4 +27,9 @@ public class UpdateCategoryRequest {
 
     @Pattern(regexp = "^#([A-Fa-f0-9]{6}|[A-Fa-f0-9]{3})$", message = "Color code must be valid hex format (#RGB or #RRGGBB)")
     private String colorCode;
+
+    /**
+     * Optional parent category; null places the category at the top level.
+     */
+    private UUID parentId;
 }
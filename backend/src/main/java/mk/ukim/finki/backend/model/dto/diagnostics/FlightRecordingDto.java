@@ -0,0 +1,37 @@
+package mk.ukim.finki.backend.model.dto.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * State of the on-demand Java Flight Recorder recording.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightRecordingDto {
+    /**
+     * Recording state: {@code RUNNING}, or {@code CLOSED} once the recording has stopped and its file is written.
+     */
+    private String state;
+
+    /**
+     * When the recording started.
+     */
+    private Instant startTime;
+
+    /**
+     * Time box of the recording in seconds; it stops on its own afterwards.
+     */
+    private long durationSeconds;
+
+    /**
+     * Size of the recorded data in bytes.
+     */
+    private long sizeBytes;
+}
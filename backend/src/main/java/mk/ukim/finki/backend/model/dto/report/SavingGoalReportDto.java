@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * Represents a saving goal report for the user.
@@ -40,4 +41,19 @@ public class SavingGoalReportDto {
      * Whether the goal has been achieved.
      */
     private boolean achieved;
+
+    /**
+     * Deadline of the goal, if any.
+     */
+    private LocalDate deadline;
+
+    /**
+     * Projected completion date at the recent contribution pace.
+     */
+    private LocalDate projectedCompletionDate;
+
+    /**
+     * Monthly contribution required to reach the target by the deadline.
+     */
+    private BigDecimal requiredMonthlyContribution;
 }
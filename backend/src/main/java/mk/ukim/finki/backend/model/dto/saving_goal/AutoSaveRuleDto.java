@@ -0,0 +1,25 @@
+package mk.ukim.finki.backend.model.dto.saving_goal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for auto-save rules.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoSaveRuleDto {
+    private UUID id;
+    private UUID categoryId;
+    private String categoryName;
+    private UUID savingGoalId;
+    private String savingGoalName;
+    private BigDecimal percentage;
+}
@@ -0,0 +1,32 @@
+package mk.ukim.finki.backend.model.dto.saving_goal;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Request for creating an auto-save rule.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateAutoSaveRuleRequest {
+    @NotNull(message = "Category is required")
+    private UUID categoryId;
+
+    @NotNull(message = "Saving goal is required")
+    private UUID savingGoalId;
+
+    @NotNull(message = "Percentage is required")
+    @DecimalMin(value = "0.01", message = "Percentage must be greater than 0")
+    @DecimalMax(value = "100", message = "Percentage cannot exceed 100")
+    private BigDecimal percentage;
+}
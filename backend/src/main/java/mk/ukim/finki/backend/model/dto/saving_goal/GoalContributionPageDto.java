@@ -0,0 +1,27 @@
+package mk.ukim.finki.backend.model.dto.saving_goal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single page of saving goal contributions, newest first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalContributionPageDto {
+    private List<GoalContributionDto> items;
+
+    /**
+     * Opaque cursor to pass back for the next (older) page.
+     * Null when there are no older contributions.
+     */
+    private String nextCursor;
+
+    private boolean hasMore;
+}
@@ -0,0 +1,27 @@
+package mk.ukim.finki.backend.model.dto.saving_goal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Deposits and withdrawals of a saving goal aggregated for one calendar month.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyContributionDto {
+    private YearMonth period;
+    private BigDecimal deposits;
+    private BigDecimal withdrawals;
+
+    /**
+     * Saved amount at the end of the month, accumulated from the first contribution.
+     */
+    private BigDecimal balance;
+}
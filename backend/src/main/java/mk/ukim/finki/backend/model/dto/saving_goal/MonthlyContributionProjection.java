@@ -0,0 +1,37 @@
+package mk.ukim.finki.backend.model.dto.saving_goal;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection interface for monthly contribution aggregation.
+ */
+public interface MonthlyContributionProjection {
+
+    /**
+     * Gets the year part of the period.
+     *
+     * @return the year
+     */
+    Integer getYear();
+
+    /**
+     * Gets the month part of the period.
+     *
+     * @return the month (1-12)
+     */
+    Integer getMonth();
+
+    /**
+     * Gets the total deposited in the period.
+     *
+     * @return the deposited amount
+     */
+    BigDecimal getDeposits();
+
+    /**
+     * Gets the total withdrawn in the period.
+     *
+     * @return the withdrawn amount
+     */
+    BigDecimal getWithdrawals();
+}
@@ -24,4 +24,16 @@ public class SavingGoalDto {
     private Float progressPercentage;
     private LocalDate deadline;
     private boolean achieved;
+
+    /**
+     * Date the target is projected to be reached at the recent contribution pace.
+     * Null if the goal is not progressing.
+     */
+    private LocalDate projectedCompletionDate;
+
+    /**
+     * Monthly contribution needed from now on to reach the target by the deadline.
+     * Null if the goal has no deadline.
+     */
+    private BigDecimal requiredMonthlyContribution;
 }
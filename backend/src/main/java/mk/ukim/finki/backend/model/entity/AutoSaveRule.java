@@ -0,0 +1,69 @@
+package mk.ukim.finki.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entity representing an auto-save rule.
+ * <p>
+ * A rule moves a percentage of every income in a category into a saving goal,
+ * for example "move 10% of every Salary income into Vacation Fund".
+ */
+@Entity
+@Table(name = "auto_save_rules")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoSaveRule {
+
+    /**
+     * Unique identifier for the rule.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Owner of the rule. Cannot be null.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    /**
+     * Income category whose incomes trigger the rule.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id")
+    private Category category;
+
+    /**
+     * Saving goal that receives the swept amount.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "saving_goal_id")
+    private SavingGoal savingGoal;
+
+    /**
+     * Share of each matching income to sweep, between 0.01 and 100.
+     */
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal percentage;
+
+    /**
+     * Timestamp when the rule was created.
+     */
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = Instant.now();
+    }
+}
@@ -16,6 +16,8 @@ import java.util.UUID;
  *   <li><b>Custom</b>: Belongs to a single user; fully editable and deletable by the owner.</li>
  * </ul>
  * <p>
+ * Categories form a hierarchy through {@link #parent}; spending of a category rolls up into its ancestors.
+ * <p>
  * Uniqueness is enforced on (user, name, type).
  */
 @Entity
@@ -42,6 +44,14 @@ public class Category {
     @JoinColumn(name = "user_id")
     private User user;
 
+    /**
+     * Parent category. Null for top-level categories.
+     * Ancestor/descendant pairs are materialized in {@link CategoryClosure} for rollup queries.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Category parent;
+
     /**
      * Name of the category (must be unique per user and type).
      */
@@ -61,6 +71,13 @@ public class Category {
     @Column(nullable = false)
     private boolean predefined = false;
 
+    /**
+     * Whether the category is being deleted in the background.
+     * Such a category is invisible to its owner and cannot receive new transactions.
+     */
+    @Column(nullable = false)
+    private boolean deleting = false;
+
     /**
      * Icon representing this category in UI.
      */
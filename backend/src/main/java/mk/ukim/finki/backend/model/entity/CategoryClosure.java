@@ -0,0 +1,56 @@
+package mk.ukim.finki.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Closure table of the category hierarchy.
+ * <p>
+ * Holds one row per (ancestor, descendant) pair, including a depth-0 row linking every
+ * category to itself, so "a category and all its descendants" is a single indexed join
+ * instead of a recursive query. Rows are maintained by {@code CategoryClosureRepository}.
+ */
+@Entity
+@Table(name = "category_closure")
+@IdClass(CategoryClosure.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryClosure {
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "ancestor_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category ancestor;
+
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "descendant_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category descendant;
+
+    /**
+     * Number of levels between ancestor and descendant; 0 for the self row.
+     */
+    @Column(nullable = false)
+    private int depth;
+
+    /**
+     * Composite primary key of {@link CategoryClosure}.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID ancestor;
+        private UUID descendant;
+    }
+}
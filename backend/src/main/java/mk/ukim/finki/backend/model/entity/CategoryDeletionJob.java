@@ -0,0 +1,91 @@
+package mk.ukim.finki.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Entity tracking the background deletion of a custom category.
+ * <p>
+ * Transactions of the category are moved to the fallback category in bounded chunks,
+ * each in its own short transaction. The job row is the durable record of that work,
+ * so an unfinished deletion is resumed after a restart.
+ */
+@Entity
+@Table(name = "category_deletion_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryDeletionJob {
+
+    /**
+     * Unique identifier for the job.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Owner of the category being deleted.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    /**
+     * Id of the category being deleted. Kept as a plain column, since the category is removed on completion.
+     */
+    @Column(nullable = false)
+    private UUID categoryId;
+
+    /**
+     * Name of the category, kept for progress reporting after it is removed.
+     */
+    @Column(nullable = false, length = 100)
+    private String categoryName;
+
+    /**
+     * Type of the category, deciding whether expenses or incomes are reassigned.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CategoryType categoryType;
+
+    /**
+     * System category receiving the reassigned transactions.
+     */
+    @Column(nullable = false)
+    private UUID fallbackCategoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CategoryDeletionStatus status;
+
+    /**
+     * Number of transactions in the category when the deletion was requested.
+     */
+    @Column(nullable = false)
+    private long totalTransactions;
+
+    /**
+     * Number of transactions reassigned so far.
+     */
+    @Column(nullable = false)
+    private long reassignedTransactions;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant completedAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = Instant.now();
+    }
+}
@@ -0,0 +1,61 @@
+package mk.ukim.finki.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Incrementally maintained usage statistics of a category for a single user.
+ * <p>
+ * Updated in batches from transaction writes, so listing categories never has to count
+ * or sum transactions. Trailing totals are kept per day in {@link CategoryUsageDaily}, and their
+ * sum is kept here, so the list does not have to add up the days either.
+ */
+@Entity
+@Table(name = "category_usage", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "category_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "category_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Category category;
+
+    /**
+     * Number of the user's transactions currently in the category.
+     */
+    @Column(nullable = false)
+    private long transactionCount;
+
+    /**
+     * Latest date of a transaction recorded in the category.
+     */
+    private LocalDate lastUsedDate;
+
+    /**
+     * Sum of the category's {@link CategoryUsageDaily} totals; days are subtracted when they are pruned.
+     */
+    @Column(nullable = false, precision = 12, scale = 2)
+    @Builder.Default
+    private BigDecimal trailingTotal = BigDecimal.ZERO;
+}
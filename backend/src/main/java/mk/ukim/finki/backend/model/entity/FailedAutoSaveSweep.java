@@ -0,0 +1,78 @@
+package mk.ukim.finki.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Auto-save sweep of an income that failed and is waiting to be retried.
+ * <p>
+ * Holds the same data as the {@link IncomeCreatedEvent} it was created from, so the sweep can be
+ * replayed without the original request. The row is removed by the retry that applies the sweep,
+ * or once the sweep has failed too often; it is also removed with its income.
+ */
+@Entity
+@Table(name = "failed_auto_save_sweeps")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FailedAutoSaveSweep {
+
+    /**
+     * The income whose share was not saved.
+     */
+    @Id
+    @Column(name = "income_id")
+    private UUID incomeId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "category_id", nullable = false)
+    private UUID categoryId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * Number of failed sweeps so far, including the original one.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "failed_at", nullable = false)
+    private Instant failedAt;
+
+    /**
+     * Creates the record of a sweep that failed for the first time.
+     *
+     * @param event the income event whose sweep failed
+     * @param now   failure time
+     * @return failed sweep with one attempt
+     */
+    public static FailedAutoSaveSweep of(IncomeCreatedEvent event, Instant now) {
+        return FailedAutoSaveSweep.builder()
+                .incomeId(event.incomeId())
+                .userId(event.userId())
+                .categoryId(event.categoryId())
+                .amount(event.amount())
+                .attempts(1)
+                .failedAt(now)
+                .build();
+    }
+
+    /**
+     * Rebuilds the income event to replay the sweep.
+     *
+     * @return income event
+     */
+    public IncomeCreatedEvent toEvent() {
+        return new IncomeCreatedEvent(userId, incomeId, categoryId, amount);
+    }
+}
@@ -4,8 +4,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -21,6 +25,25 @@ import java.util.UUID;
 @Builder
 public class SavingGoal {
 
+    /**
+     * Time constant of the exponentially weighted contribution velocity, in days.
+     * A contribution's weight drops to 1/e after this many days.
+     */
+    public static final double VELOCITY_TIME_CONSTANT_DAYS = 90.0;
+
+    /**
+     * Shortest history the velocity is averaged over, so a single early deposit
+     * is not extrapolated as if it were made every day.
+     */
+    private static final double MIN_VELOCITY_WINDOW_DAYS = 30.0;
+
+    private static final double AVERAGE_DAYS_PER_MONTH = 365.2425 / 12;
+
+    /**
+     * Projections further out than this are reported as unreachable.
+     */
+    private static final long MAX_PROJECTION_DAYS = 100L * 365;
+
     /**
      * Unique identifier for the saving goal.
      */
@@ -76,6 +99,17 @@ public class SavingGoal {
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
 
+    /**
+     * Forward-decayed sum of net contributions, used to derive the contribution velocity.
+     * <p>
+     * Every contribution is added with weight {@link #contributionWeight(Instant)},
+     * which grows exponentially with time since {@link #createdAt}. Weights are relative to
+     * a fixed landmark, so the sum is maintained by plain addition on each contribution
+     * and the exponential decay is only applied when the velocity is read.
+     */
+    @Column(name = "contribution_weight_sum", nullable = false)
+    private double contributionWeightSum;
+
     @PrePersist
     public void prePersist() {
         createdAt = Instant.now();
@@ -90,4 +124,99 @@ public class SavingGoal {
                 && this.targetAmount != null
                 && this.currentAmount.compareTo(this.targetAmount) >= 0;
     }
+
+    /**
+     * Returns the forward-decay weight of a contribution made at the given instant.
+     *
+     * @param at contribution time
+     * @return weight to multiply the contribution amount with
+     */
+    public double contributionWeight(Instant at) {
+        return contributionWeight(createdAt, at);
+    }
+
+    /**
+     * Returns the forward-decay weight of a contribution made at the given instant
+     * to a goal created at {@code createdAt}, without loading the goal itself.
+     *
+     * @param createdAt creation time of the goal
+     * @param at        contribution time
+     * @return weight to multiply the contribution amount with
+     */
+    public static double contributionWeight(Instant createdAt, Instant at) {
+        return Math.exp(daysBetween(createdAt, at) / VELOCITY_TIME_CONSTANT_DAYS);
+    }
+
+    /**
+     * Returns the exponentially weighted net contribution velocity.
+     * Recent contributions dominate; the average is taken over the goal lifetime
+     * (at least {@value #MIN_VELOCITY_WINDOW_DAYS} days) weighted the same way.
+     *
+     * @param now point in time to evaluate the velocity at
+     * @return saved amount per day, or null if the creation time is unknown
+     */
+    public BigDecimal getDailyVelocity(Instant now) {
+        if (createdAt == null) {
+            return null;
+        }
+        double age = Math.max(daysSinceCreation(now), MIN_VELOCITY_WINDOW_DAYS);
+        double decayedSum = contributionWeightSum / contributionWeight(now);
+        double window = VELOCITY_TIME_CONSTANT_DAYS * (1 - Math.exp(-age / VELOCITY_TIME_CONSTANT_DAYS));
+        return BigDecimal.valueOf(decayedSum / window).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Projects the date the target amount is reached at the current contribution velocity.
+     *
+     * @param now point in time to project from
+     * @return projected completion date, today if already achieved,
+     * or null if the goal is not progressing
+     */
+    public LocalDate projectCompletionDate(Instant now) {
+        LocalDate today = LocalDate.ofInstant(now, ZoneId.systemDefault());
+        if (achieved) {
+            return today;
+        }
+        BigDecimal velocity = getDailyVelocity(now);
+        if (velocity == null || velocity.signum() <= 0) {
+            return null;
+        }
+        long days = getRemainingAmount().divide(velocity, 0, RoundingMode.CEILING).longValue();
+        return days <= MAX_PROJECTION_DAYS ? today.plusDays(days) : null;
+    }
+
+    /**
+     * Calculates how much has to be saved per month from today on to reach the target by the deadline.
+     * If the deadline is today or already passed, the whole remaining amount is required.
+     *
+     * @param today reference date
+     * @return required monthly contribution, zero if achieved, or null if there is no deadline
+     */
+    public BigDecimal requiredMonthlyContribution(LocalDate today) {
+        if (deadline == null || targetAmount == null || currentAmount == null) {
+            return null;
+        }
+        BigDecimal remaining = getRemainingAmount();
+        if (remaining.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        long daysLeft = ChronoUnit.DAYS.between(today, deadline);
+        if (daysLeft <= 0) {
+            return remaining;
+        }
+        double monthsLeft = Math.max(1.0, daysLeft / AVERAGE_DAYS_PER_MONTH);
+        return remaining.divide(BigDecimal.valueOf(monthsLeft), 2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal getRemainingAmount() {
+        return targetAmount.subtract(currentAmount).max(BigDecimal.ZERO);
+    }
+
+    private double daysSinceCreation(Instant at) {
+        return daysBetween(createdAt, at);
+    }
+
+    private static double daysBetween(Instant from, Instant to) {
+        return Duration.between(from, to).toMillis() / (double) Duration.ofDays(1).toMillis();
+    }
 }
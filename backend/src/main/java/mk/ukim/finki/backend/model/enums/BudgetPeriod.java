@@ -0,0 +1,9 @@
+package mk.ukim.finki.backend.model.enums;
+
+/**
+ * Recurrence period of a budget.
+ */
+public enum BudgetPeriod {
+    WEEKLY,
+    MONTHLY
+}
@@ -0,0 +1,9 @@
+package mk.ukim.finki.backend.model.enums;
+
+/**
+ * Lifecycle state of a background category deletion.
+ */
+public enum CategoryDeletionStatus {
+    RUNNING,
+    COMPLETED
+}
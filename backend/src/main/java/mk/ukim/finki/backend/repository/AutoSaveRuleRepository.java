@@ -0,0 +1,74 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.AutoSaveRule;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for accessing auto-save rules.
+ */
+public interface AutoSaveRuleRepository extends JpaRepository<AutoSaveRule, UUID> {
+
+    /**
+     * Finds all rules of a user with their category and saving goal, newest first.
+     *
+     * @param user the owner of the rules
+     * @return list of rules
+     */
+    @Query("""
+            SELECT r FROM AutoSaveRule r
+            JOIN FETCH r.category
+            JOIN FETCH r.savingGoal
+            WHERE r.user = :user
+            ORDER BY r.createdAt DESC
+            """)
+    List<AutoSaveRule> findByUserWithDetails(@Param("user") User user);
+
+    /**
+     * Finds a rule by its ID and owner.
+     *
+     * @param id   the rule identifier
+     * @param user the owner of the rule
+     * @return optional containing the rule if found
+     */
+    Optional<AutoSaveRule> findByIdAndUser(UUID id, User user);
+
+    /**
+     * Finds the rules triggered by an income, with their saving goals fetched in the same query.
+     *
+     * @param userId     owner of the income
+     * @param categoryId category of the income
+     * @return matching rules
+     */
+    @Query("""
+            SELECT r FROM AutoSaveRule r
+            JOIN FETCH r.savingGoal
+            WHERE r.user.id = :userId
+              AND r.category.id = :categoryId
+            """)
+    List<AutoSaveRule> findTriggeredRules(@Param("userId") UUID userId,
+                                          @Param("categoryId") UUID categoryId);
+
+    /**
+     * Sums the percentages of a user's rules for one category.
+     *
+     * @param user     owner of the rules
+     * @param category income category
+     * @return total percentage already swept from the category
+     */
+    @Query("""
+            SELECT COALESCE(SUM(r.percentage), 0) FROM AutoSaveRule r
+            WHERE r.user = :user
+              AND r.category = :category
+            """)
+    BigDecimal sumPercentageByCategory(@Param("user") User user,
+                                       @Param("category") Category category);
+}
@@ -1,8 +1,12 @@
 package mk.ukim.finki.backend.repository;
 
+import mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto;
+import mk.ukim.finki.backend.model.dto.budget.CategoryDailySpendingProjection;
+import mk.ukim.finki.backend.model.dto.budget.DailySpendingProjection;
 import mk.ukim.finki.backend.model.entity.Budget;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,11 +34,12 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
     List<Budget> findByUserAndCategory(User user, Category category);
 
     /**
-     * Finds all budgets for a user sorted by start date descending.
+     * Finds all budgets for a user sorted by start date descending, together with their categories.
      *
      * @param user owner
      * @return list of budgets
      */
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserOrderByStartDateDesc(User user);
 
     /**
@@ -52,8 +57,9 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
      * These budgets are considered "expired" and are typically read-only for analytics or rollover purposes.
      *
      * @param user owner of the budgets
-     * @return list of expired budgets
+     * @return list of expired budgets, together with their categories
      */
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserAndArchivedTrueOrderByEndDateDesc(User user);
 
     /**
@@ -98,7 +104,7 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
 
     /**
      * Calculates the total amount spent by a user within a given date range.
-     * If a category is provided, only expenses in that category are included.
+     * If a category is provided, only expenses in that category or any of its subcategories are included.
      * If the category is null, calculate overall spending for the user in that period.
      *
      * @param user      owner of the expenses
@@ -110,7 +116,9 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
     @Query("""
             SELECT COALESCE(SUM(e.amount), 0) FROM Expense e
             WHERE e.user = :user
-              AND (:category IS NULL OR e.category = :category)
+              AND (:category IS NULL OR EXISTS (
+                    SELECT 1 FROM CategoryClosure cc
+                    WHERE cc.ancestor = :category AND cc.descendant = e.category))
               AND e.date >= :startDate
               AND e.date <= :endDate
             """)
@@ -118,4 +126,106 @@ public interface BudgetRepository extends JpaRepository<Budget, UUID> {
                                 @Param("category") Category category,
                                 @Param("startDate") LocalDate startDate,
                                 @Param("endDate") LocalDate endDate);
+
+    /**
+     * Calculates the amount spent against every budget of a user within the budget's own period,
+     * using the same filters as {@link #sumSpentByBudget}, in a single query.
+     * Budgets without spending are returned with zero.
+     *
+     * @param user owner of the budgets
+     * @return spending per budget
+     */
+    @Query("""
+            SELECT new mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto(b.id, COALESCE(SUM(e.amount), 0))
+            FROM Budget b
+            LEFT JOIN Expense e ON e.user = b.user
+              AND e.date >= b.startDate
+              AND e.date <= b.endDate
+              AND (b.category IS NULL OR EXISTS (
+                    SELECT 1 FROM CategoryClosure cc
+                    WHERE cc.ancestor = b.category AND cc.descendant = e.category))
+            WHERE b.user = :user
+            GROUP BY b.id
+            """)
+    List<BudgetSpendingDto> sumSpentPerBudget(@Param("user") User user);
+
+    /**
+     * Calculates the amount spent against every budget of a user overlapping a report period,
+     * counting only expenses inside both the budget's period and the report period, in a single query.
+     *
+     * @param user owner of the budgets
+     * @param from start date of the report period (inclusive)
+     * @param to   end date of the report period (inclusive)
+     * @return spending per budget overlapping the period
+     */
+    @Query("""
+            SELECT new mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto(b.id, COALESCE(SUM(e.amount), 0))
+            FROM Budget b
+            LEFT JOIN Expense e ON e.user = b.user
+              AND e.date >= b.startDate
+              AND e.date <= b.endDate
+              AND e.date >= :from
+              AND e.date <= :to
+              AND (b.category IS NULL OR EXISTS (
+                    SELECT 1 FROM CategoryClosure cc
+                    WHERE cc.ancestor = b.category AND cc.descendant = e.category))
+            WHERE b.user = :user
+              AND b.startDate <= :to
+              AND b.endDate >= :from
+            GROUP BY b.id
+            """)
+    List<BudgetSpendingDto> sumSpentPerBudgetWithin(@Param("user") User user,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+
+    /**
+     * Aggregates spending per day for a budget window.
+     * Uses the same filters as {@link #sumSpentByBudget}, but grouped by expense date,
+     * so a whole burn-down series is produced by a single query.
+     * Days without expenses are not returned.
+     *
+     * @param user      owner of the expenses
+     * @param category  optional category (null = overall)
+     * @param startDate start date of the period
+     * @param endDate   end date of the period
+     * @return daily totals ordered by date ascending
+     */
+    @Query("""
+            SELECT e.date AS date, SUM(e.amount) AS totalAmount
+            FROM Expense e
+            WHERE e.user = :user
+              AND (:category IS NULL OR EXISTS (
+                    SELECT 1 FROM CategoryClosure cc
+                    WHERE cc.ancestor = :category AND cc.descendant = e.category))
+              AND e.date >= :startDate
+              AND e.date <= :endDate
+            GROUP BY e.date
+            ORDER BY e.date
+            """)
+    List<DailySpendingProjection> findDailySpendingByBudget(@Param("user") User user,
+                                                            @Param("category") Category category,
+                                                            @Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Aggregates a user's spending per category and day within a date range.
+     * <p>
+     * Used by the budget simulator to load the whole spending history once,
+     * instead of issuing {@link #sumSpentByBudget} per candidate budget and period.
+     *
+     * @param user owner of the expenses
+     * @param from start date (inclusive)
+     * @param to   end date (inclusive)
+     * @return daily totals per category
+     */
+    @Query("""
+            SELECT e.category.id AS categoryId, e.date AS date, SUM(e.amount) AS totalAmount
+            FROM Expense e
+            WHERE e.user = :user
+              AND e.date BETWEEN :from AND :to
+            GROUP BY e.category.id, e.date
+            """)
+    List<CategoryDailySpendingProjection> findDailySpendingByCategory(@Param("user") User user,
+                                                                      @Param("from") LocalDate from,
+                                                                      @Param("to") LocalDate to);
 }
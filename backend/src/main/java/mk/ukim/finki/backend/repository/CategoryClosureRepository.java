@@ -0,0 +1,92 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.dto.category.CategoryDescendantProjection;
+import mk.ukim.finki.backend.model.entity.CategoryClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository maintaining the {@link CategoryClosure} table.
+ * <p>
+ * Every category needs its self row ({@link #insertSelf}); placing a subtree under a parent
+ * ({@link #attachSubtree}) and taking it out again ({@link #detachSubtree}) are each a single
+ * set-based statement, regardless of the size of the subtree.
+ */
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosure.Key> {
+
+    /**
+     * Inserts the depth-0 row linking a new category to itself.
+     *
+     * @param categoryId category id
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            VALUES (:categoryId, :categoryId, 0)
+            """, nativeQuery = true)
+    void insertSelf(@Param("categoryId") UUID categoryId);
+
+    /**
+     * Links every node of a subtree to the parent and all of the parent's ancestors.
+     *
+     * @param categoryId root of the subtree
+     * @param parentId   new parent of the subtree root
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1
+            FROM category_closure above
+            CROSS JOIN category_closure below
+            WHERE above.descendant_id = :parentId
+              AND below.ancestor_id = :categoryId
+            """, nativeQuery = true)
+    void attachSubtree(@Param("categoryId") UUID categoryId, @Param("parentId") UUID parentId);
+
+    /**
+     * Removes all links between a subtree and the ancestors of its root, keeping the subtree's own paths.
+     *
+     * @param categoryId root of the subtree
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)
+              AND ancestor_id NOT IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :categoryId)
+            """, nativeQuery = true)
+    void detachSubtree(@Param("categoryId") UUID categoryId);
+
+    /**
+     * Checks whether one category is the other or one of its descendants.
+     *
+     * @param ancestorId   candidate ancestor
+     * @param descendantId candidate descendant
+     * @return true if {@code descendantId} lies in the subtree of {@code ancestorId}
+     */
+    @Query("""
+            SELECT COUNT(cc) > 0 FROM CategoryClosure cc
+            WHERE cc.ancestor.id = :ancestorId AND cc.descendant.id = :descendantId
+            """)
+    boolean isInSubtree(@Param("ancestorId") UUID ancestorId, @Param("descendantId") UUID descendantId);
+
+    /**
+     * Returns each given category paired with itself and all of its descendants.
+     *
+     * @param ancestorIds category ids
+     * @return ancestor/descendant pairs
+     */
+    @Query("""
+            SELECT cc.ancestor.id AS ancestorId, cc.descendant.id AS descendantId
+            FROM CategoryClosure cc
+            WHERE cc.ancestor.id IN :ancestorIds
+            """)
+    List<CategoryDescendantProjection> findDescendants(@Param("ancestorIds") Collection<UUID> ancestorIds);
+}
@@ -0,0 +1,58 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for accessing {@link CategoryDeletionJob} entities.
+ */
+@Repository
+public interface CategoryDeletionJobRepository extends JpaRepository<CategoryDeletionJob, UUID> {
+
+    Optional<CategoryDeletionJob> findByIdAndUser(UUID id, User user);
+
+    List<CategoryDeletionJob> findByStatus(CategoryDeletionStatus status);
+
+    /**
+     * Adds a processed chunk to the progress of a job.
+     *
+     * @param id    job id
+     * @param count number of transactions reassigned by the chunk
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryDeletionJob j
+            SET j.reassignedTransactions = j.reassignedTransactions + :count
+            WHERE j.id = :id
+            """)
+    void addReassignedTransactions(@Param("id") UUID id, @Param("count") long count);
+
+    /**
+     * Marks a running job as completed.
+     * Returns 0 when another worker already completed it.
+     *
+     * @param id          job id
+     * @param completedAt completion timestamp
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryDeletionJob j
+            SET j.status = mk.ukim.finki.backend.model.enums.CategoryDeletionStatus.COMPLETED,
+                j.completedAt = :completedAt
+            WHERE j.id = :id
+              AND j.status = mk.ukim.finki.backend.model.enums.CategoryDeletionStatus.RUNNING
+            """)
+    int markCompleted(@Param("id") UUID id, @Param("completedAt") Instant completedAt);
+}
@@ -2,7 +2,9 @@ package mk.ukim.finki.backend.repository;
 
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.enums.CategoryType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,9 +37,26 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     Optional<Category> findByIdAndUser_Id(UUID id, UUID userId);
 
+    /**
+     * Finds a category and locks its row until the end of the transaction, so transactions
+     * referencing it can not be written concurrently.
+     *
+     * @param id category id
+     * @return the locked category, if it still exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Category c WHERE c.id = :id")
+    Optional<Category> findByIdForUpdate(@Param("id") UUID id);
+
     Optional<Category> findByUser_IdAndNameIgnoreCaseAndType(UUID userId, String string, CategoryType categoryType);
 
     boolean existsByUser_IdAndNameIgnoreCaseAndType(UUID userId, String name, CategoryType type);
 
     List<Category> findByPredefinedTrueAndType(CategoryType type);
+
+    List<Category> findByPredefinedTrue();
+
+    List<Category> findByUser_IdAndDeletingFalse(UUID userId);
+
+    List<Category> findByParent_Id(UUID parentId);
 }
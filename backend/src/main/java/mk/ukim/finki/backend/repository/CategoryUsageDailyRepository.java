@@ -0,0 +1,45 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.CategoryUsageDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Repository for {@link CategoryUsageDaily} totals.
+ */
+@Repository
+public interface CategoryUsageDailyRepository extends JpaRepository<CategoryUsageDaily, UUID> {
+
+    /**
+     * Adds an amount to an existing daily total.
+     *
+     * @return number of updated rows; 0 if there is no total for that day yet
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryUsageDaily d
+            SET d.amount = d.amount + :amount
+            WHERE d.user.id = :userId AND d.category.id = :categoryId AND d.date = :date
+            """)
+    int addAmount(@Param("userId") UUID userId,
+                  @Param("categoryId") UUID categoryId,
+                  @Param("date") LocalDate date,
+                  @Param("amount") BigDecimal amount);
+
+    /**
+     * Removes daily totals that have left the trailing window.
+     *
+     * @param date first day to keep
+     * @return number of removed rows
+     */
+    @Modifying
+    @Query("DELETE FROM CategoryUsageDaily d WHERE d.date < :date")
+    int deleteOlderThan(@Param("date") LocalDate date);
+}
@@ -0,0 +1,115 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.dto.category.CategoryUsageProjection;
+import mk.ukim.finki.backend.model.entity.CategoryUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for {@link CategoryUsage} statistics.
+ */
+@Repository
+public interface CategoryUsageRepository extends JpaRepository<CategoryUsage, UUID> {
+
+    /**
+     * Applies a batched delta to existing statistics.
+     *
+     * @param userId      user id
+     * @param categoryId  category id
+     * @param countDelta  change of the transaction count
+     * @param usedOn      latest transaction date in the batch, or null if none was added
+     * @return number of updated rows; 0 if the statistics do not exist yet
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryUsage u
+            SET u.transactionCount = u.transactionCount + :countDelta,
+                u.lastUsedDate = CASE
+                    WHEN u.lastUsedDate IS NULL OR u.lastUsedDate < :usedOn THEN :usedOn
+                    ELSE u.lastUsedDate
+                END
+            WHERE u.user.id = :userId AND u.category.id = :categoryId
+            """)
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("categoryId") UUID categoryId,
+                   @Param("countDelta") long countDelta,
+                   @Param("usedOn") LocalDate usedOn);
+
+    /**
+     * Adds an amount to the trailing total of existing statistics.
+     *
+     * @return number of updated rows; 0 if the statistics do not exist yet
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryUsage u
+            SET u.trailingTotal = u.trailingTotal + :amount
+            WHERE u.user.id = :userId AND u.category.id = :categoryId
+            """)
+    int addTrailingAmount(@Param("userId") UUID userId,
+                          @Param("categoryId") UUID categoryId,
+                          @Param("amount") BigDecimal amount);
+
+    /**
+     * Subtracts the daily totals that are about to be pruned from the trailing totals they were added to.
+     * Must run in the same transaction as {@link CategoryUsageDailyRepository#deleteOlderThan(LocalDate)}.
+     *
+     * @param date first day to keep
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryUsage u
+            SET u.trailingTotal = u.trailingTotal - (
+                SELECT COALESCE(SUM(d.amount), 0) FROM CategoryUsageDaily d
+                WHERE d.user = u.user AND d.category = u.category AND d.date < :date)
+            WHERE EXISTS (
+                SELECT d.id FROM CategoryUsageDaily d
+                WHERE d.user = u.user AND d.category = u.category AND d.date < :date)
+            """)
+    int rollOffOlderThan(@Param("date") LocalDate date);
+
+    /**
+     * Recomputes transaction counts and last used dates from the transactions themselves, and trailing
+     * totals from the daily totals, correcting drift left by deltas that were dropped.
+     *
+     * @return number of reconciled rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE CategoryUsage u
+            SET u.transactionCount =
+                    (SELECT COUNT(e) FROM Expense e WHERE e.user = u.user AND e.category = u.category)
+                    + (SELECT COUNT(i) FROM Income i WHERE i.user = u.user AND i.category = u.category),
+                u.lastUsedDate = COALESCE(
+                    (SELECT MAX(e.date) FROM Expense e WHERE e.user = u.user AND e.category = u.category),
+                    (SELECT MAX(i.date) FROM Income i WHERE i.user = u.user AND i.category = u.category)),
+                u.trailingTotal = (SELECT COALESCE(SUM(d.amount), 0) FROM CategoryUsageDaily d
+                                   WHERE d.user = u.user AND d.category = u.category)
+            """)
+    int reconcileAll();
+
+    /**
+     * Reads the statistics of all categories a user has used, with the total of the trailing window.
+     *
+     * @param userId user id
+     * @return usage statistics per category
+     */
+    @Query("""
+            SELECT u.category.id AS categoryId,
+                   u.transactionCount AS transactionCount,
+                   u.lastUsedDate AS lastUsedDate,
+                   u.trailingTotal AS trailingTotal
+            FROM CategoryUsage u
+            WHERE u.user.id = :userId
+            """)
+    List<CategoryUsageProjection> findByUserId(@Param("userId") UUID userId);
+}
@@ -5,6 +5,8 @@ import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Expense;
 import mk.ukim.finki.backend.model.entity.User;
 import mk.ukim.finki.backend.model.dto.report.MonthlyTrendProjection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -23,11 +25,12 @@ import java.util.UUID;
 public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
 
     /**
-     * Find all expenses by user id ordered descending by date and createdAt.
+     * Find all expenses by user id ordered descending by date and createdAt, together with their categories.
      *
      * @param userId id of user
      * @return list of expenses
      */
+    @EntityGraph(attributePaths = "category")
     List<Expense> findAllByUser_IdOrderByDateDescCreatedAtDesc(UUID userId);
 
     /**
@@ -49,7 +52,8 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
     List<Expense> findAllByCategory_Id(UUID categoryId);
 
     /**
-     * Aggregates total expense amounts by category for a given user and date range.
+     * Aggregates total expense amounts by top-level category for a given user and date range.
+     * Amounts of subcategories roll up into their top-level ancestor through the category closure table.
      * This is used to build reports and category-based charts.
      *
      * @param user the user
@@ -60,9 +64,11 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
     @Query("""
             SELECT new mk.ukim.finki.backend.model.dto.report.CategorySummaryDto(c.name, SUM(e.amount))
             FROM Expense e
-            JOIN e.category c
+            JOIN CategoryClosure cc ON cc.descendant = e.category
+            JOIN cc.ancestor c
             WHERE e.user = :user
             AND e.date BETWEEN :from AND :to
+            AND c.parent IS NULL
             GROUP BY c.name
             ORDER BY SUM(e.amount) DESC
             """)
@@ -71,19 +77,39 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
                                            @Param("to") LocalDate to);
 
     /**
-     * Bulk reassigns all expenses from one category to another.
+     * Counts the expenses in a category.
+     *
+     * @param categoryId category id
+     * @return number of expenses
+     */
+    long countByCategory_Id(UUID categoryId);
+
+    /**
+     * Returns the ids of up to one page of expenses in a category.
      * <p>
-     * This is used when a custom category is deleted to reassign all associated
-     * transactions to a fallback category (typically "Uncategorized").
+     * Used by category deletion to reassign transactions in bounded chunks.
+     *
+     * @param categoryId category id
+     * @param pageable   chunk size
+     * @return expense ids
+     */
+    @Query("SELECT e.id FROM Expense e WHERE e.category.id = :categoryId")
+    List<UUID> findIdsByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    /**
+     * Reassigns the given expenses to another category.
      * <p>
+     * This is used when a custom category is deleted to move a chunk of its
+     * transactions to a fallback category (typically "Uncategorized").
      *
-     * @param oldCategoryId the ID of the category being deleted
-     * @param newCategory   the fallback category to reassign expenses to
+     * @param ids         ids of the expenses to reassign
+     * @param newCategory the fallback category to reassign expenses to
+     * @return number of reassigned expenses
      */
     @Modifying
-    @Query("UPDATE Expense e SET e.category = :newCategory WHERE e.category.id = :oldCategoryId")
-    void reassignCategory(@Param("oldCategoryId") UUID oldCategoryId,
-                          @Param("newCategory") Category newCategory);
+    @Query("UPDATE Expense e SET e.category = :newCategory WHERE e.id IN :ids")
+    int reassignCategory(@Param("ids") List<UUID> ids,
+                         @Param("newCategory") Category newCategory);
 
     /**
      * Calculates total expense amount for a user within a date range.
@@ -0,0 +1,50 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.FailedAutoSaveSweep;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for {@link FailedAutoSaveSweep} entities.
+ */
+@Repository
+public interface FailedAutoSaveSweepRepository extends JpaRepository<FailedAutoSaveSweep, UUID> {
+
+    /**
+     * Finds the failed sweeps that have waited the longest.
+     *
+     * @param limit maximum number of sweeps
+     * @return failed sweeps, oldest failure first
+     */
+    List<FailedAutoSaveSweep> findAllByOrderByFailedAtAsc(Limit limit);
+
+    /**
+     * Removes a failed sweep. Used to claim it before retrying, so concurrent retries
+     * of the same sweep on several instances apply it only once.
+     *
+     * @param incomeId income id
+     * @return 1 if this call removed the sweep, 0 if it was already gone
+     */
+    @Modifying
+    @Query("DELETE FROM FailedAutoSaveSweep f WHERE f.incomeId = :incomeId")
+    int deleteByIncomeId(@Param("incomeId") UUID incomeId);
+
+    /**
+     * Counts one more failed attempt of a sweep.
+     *
+     * @param incomeId income id
+     * @param failedAt failure time
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE FailedAutoSaveSweep f SET f.attempts = f.attempts + 1, f.failedAt = :failedAt WHERE f.incomeId = :incomeId")
+    int registerFailure(@Param("incomeId") UUID incomeId, @Param("failedAt") Instant failedAt);
+}
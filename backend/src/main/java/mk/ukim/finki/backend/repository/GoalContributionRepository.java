@@ -1,9 +1,14 @@
 package mk.ukim.finki.backend.repository;
 
+import mk.ukim.finki.backend.model.dto.saving_goal.MonthlyContributionProjection;
 import mk.ukim.finki.backend.model.entity.GoalContribution;
 import mk.ukim.finki.backend.model.entity.SavingGoal;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,4 +24,54 @@ public interface GoalContributionRepository extends JpaRepository<GoalContributi
      * @return list of contribution records
      */
     List<GoalContribution> findBySavingGoalOrderByCreatedAtDesc(SavingGoal savingGoal);
+
+    /**
+     * Returns the newest contributions of a saving goal.
+     * Served by the {@code (saving_goal_id, created_at)} index, so the cost depends only on {@code limit}.
+     *
+     * @param savingGoal saving goal entity
+     * @param limit      maximum number of records
+     * @return first page of contribution records
+     */
+    List<GoalContribution> findBySavingGoalOrderByCreatedAtDescIdDesc(SavingGoal savingGoal, Limit limit);
+
+    /**
+     * Returns contributions strictly older than the given keyset position, newest first.
+     * The id breaks ties between contributions created at the same instant.
+     *
+     * @param savingGoal saving goal entity
+     * @param createdAt  creation time of the last contribution of the previous page
+     * @param id         id of the last contribution of the previous page
+     * @param limit      maximum number of records
+     * @return next page of contribution records
+     */
+    @Query("""
+            SELECT c FROM GoalContribution c
+            WHERE c.savingGoal = :savingGoal
+              AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<GoalContribution> findPageBefore(@Param("savingGoal") SavingGoal savingGoal,
+                                          @Param("createdAt") Instant createdAt,
+                                          @Param("id") UUID id,
+                                          Limit limit);
+
+    /**
+     * Aggregates deposits and withdrawals of a saving goal per calendar month.
+     *
+     * @param savingGoal saving goal entity
+     * @return monthly totals ordered chronologically
+     */
+    @Query("""
+            SELECT YEAR(c.createdAt) AS year, MONTH(c.createdAt) AS month,
+                   COALESCE(SUM(CASE WHEN c.type = mk.ukim.finki.backend.model.enums.GoalContributionType.DEPOSIT
+                                     THEN c.amount ELSE 0 END), 0) AS deposits,
+                   COALESCE(SUM(CASE WHEN c.type = mk.ukim.finki.backend.model.enums.GoalContributionType.WITHDRAWAL
+                                     THEN c.amount ELSE 0 END), 0) AS withdrawals
+            FROM GoalContribution c
+            WHERE c.savingGoal = :savingGoal
+            GROUP BY YEAR(c.createdAt), MONTH(c.createdAt)
+            ORDER BY YEAR(c.createdAt), MONTH(c.createdAt)
+            """)
+    List<MonthlyContributionProjection> findMonthlyTotals(@Param("savingGoal") SavingGoal savingGoal);
 }
@@ -2,6 +2,8 @@ package mk.ukim.finki.backend.repository;
 
 import mk.ukim.finki.backend.model.entity.HiddenCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,4 +20,13 @@ public interface HiddenCategoryRepository extends JpaRepository<HiddenCategory,
     Optional<HiddenCategory> findByUser_IdAndCategory_Id(UUID userId, UUID categoryId);
 
     boolean existsByUser_IdAndCategory_Id(UUID userId, UUID categoryId);
+
+    /**
+     * Returns only the ids of the system categories hidden by a user, without loading the entities.
+     *
+     * @param userId user id
+     * @return hidden category ids
+     */
+    @Query("SELECT h.category.id FROM HiddenCategory h WHERE h.user.id = :userId")
+    List<UUID> findCategoryIdsByUserId(@Param("userId") UUID userId);
 }
@@ -5,6 +5,8 @@ import mk.ukim.finki.backend.model.dto.report.MonthlyTrendProjection;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Income;
 import mk.ukim.finki.backend.model.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -23,11 +25,12 @@ import java.util.UUID;
 public interface IncomeRepository extends JpaRepository<Income, UUID> {
 
     /**
-     * Find all incomes by user id ordered descending by date and createdAt.
+     * Find all incomes by user id ordered descending by date and createdAt, together with their categories.
      *
      * @param userId id of user
      * @return list of incomes
      */
+    @EntityGraph(attributePaths = "category")
     List<Income> findAllByUser_IdOrderByDateDescCreatedAtDesc(UUID userId);
 
     /**
@@ -49,7 +52,8 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
     List<Income> findAllByCategory_Id(UUID categoryId);
 
     /**
-     * Aggregates total income amounts by category for a given user and date range.
+     * Aggregates total income amounts by top-level category for a given user and date range.
+     * Amounts of subcategories roll up into their top-level ancestor through the category closure table.
      * This is used to build reports and category-based charts.
      *
      * @param user the user
@@ -60,9 +64,11 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
     @Query("""
             SELECT new mk.ukim.finki.backend.model.dto.report.CategorySummaryDto(c.name, SUM(i.amount))
             FROM Income i
-            JOIN i.category c
+            JOIN CategoryClosure cc ON cc.descendant = i.category
+            JOIN cc.ancestor c
             WHERE i.user = :user
             AND i.date BETWEEN :from AND :to
+            AND c.parent IS NULL
             GROUP BY c.name
             ORDER BY SUM(i.amount) DESC
             """)
@@ -71,19 +77,39 @@ public interface IncomeRepository extends JpaRepository<Income, UUID> {
                                            @Param("to") LocalDate to);
 
     /**
-     * Bulk reassigns all incomes from one category to another.
+     * Counts the incomes in a category.
+     *
+     * @param categoryId category id
+     * @return number of incomes
+     */
+    long countByCategory_Id(UUID categoryId);
+
+    /**
+     * Returns the ids of up to one page of incomes in a category.
      * <p>
-     * This is used when a custom category is deleted to reassign all associated
-     * transactions to a fallback category (typically "Uncategorized").
+     * Used by category deletion to reassign transactions in bounded chunks.
+     *
+     * @param categoryId category id
+     * @param pageable   chunk size
+     * @return income ids
+     */
+    @Query("SELECT i.id FROM Income i WHERE i.category.id = :categoryId")
+    List<UUID> findIdsByCategoryId(@Param("categoryId") UUID categoryId, Pageable pageable);
+
+    /**
+     * Reassigns the given incomes to another category.
      * <p>
+     * This is used when a custom category is deleted to move a chunk of its
+     * transactions to a fallback category (typically "Uncategorized").
      *
-     * @param oldCategoryId the ID of the category being deleted
-     * @param newCategory   the fallback category to reassign incomes to
+     * @param ids         ids of the incomes to reassign
+     * @param newCategory the fallback category to reassign incomes to
+     * @return number of reassigned incomes
      */
     @Modifying
-    @Query("UPDATE Income i SET i.category = :newCategory WHERE i.category.id = :oldCategoryId")
-    void reassignCategory(@Param("oldCategoryId") UUID oldCategoryId,
-                          @Param("newCategory") Category newCategory);
+    @Query("UPDATE Income i SET i.category = :newCategory WHERE i.id IN :ids")
+    int reassignCategory(@Param("ids") List<UUID> ids,
+                         @Param("newCategory") Category newCategory);
 
     /**
      * Calculates total income amount for a user within a date range.
@@ -0,0 +1,53 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for {@link RefreshToken} entities.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+    /**
+     * Finds a refresh token by its hash, locking it so concurrent rotations of the same token
+     * are serialized and only one of them succeeds.
+     *
+     * @param tokenHash hex-encoded SHA-256 hash of the token
+     * @return refresh token with its user
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revokes all still active tokens of a login session.
+     *
+     * @param familyId  family id
+     * @param revokedAt revocation time
+     * @return number of revoked tokens
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revokedAt = :revokedAt WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("revokedAt") Instant revokedAt);
+
+    /**
+     * Removes tokens that expired before the given time.
+     *
+     * @param time cut-off time
+     * @return number of removed tokens
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :time")
+    int deleteExpiredBefore(@Param("time") Instant time);
+}
@@ -0,0 +1,39 @@
+package mk.ukim.finki.backend.repository;
+
+import mk.ukim.finki.backend.model.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for {@link RevokedAccessToken} entities.
+ */
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, UUID> {
+
+    /**
+     * Returns the ids of tokens revoked at or after the given time that have not expired yet.
+     *
+     * @param since earliest revocation time (inclusive)
+     * @param now   current time
+     * @return revoked token ids
+     */
+    @Query("SELECT r.tokenId FROM RevokedAccessToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<UUID> findActiveRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    /**
+     * Removes revocations of tokens that have expired anyway.
+     *
+     * @param time cut-off time
+     * @return number of removed revocations
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt < :time")
+    int deleteExpiredBefore(@Param("time") Instant time);
+}
@@ -3,7 +3,12 @@ package mk.ukim.finki.backend.repository;
 import mk.ukim.finki.backend.model.entity.SavingGoal;
 import mk.ukim.finki.backend.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,4 +34,70 @@ public interface SavingGoalRepository extends JpaRepository<SavingGoal, UUID> {
      * @return optional containing the goal if found, empty otherwise
      */
     Optional<SavingGoal> findByIdAndUser(UUID id, User user);
+
+    /**
+     * Finds only the creation time of a user's saving goal, which is all a contribution
+     * needs before the atomic update.
+     *
+     * @param id   the goal identifier
+     * @param user the owner of the goal
+     * @return optional containing the creation time if the goal exists for the user
+     */
+    @Query("SELECT g.createdAt FROM SavingGoal g WHERE g.id = :id AND g.user = :user")
+    Optional<Instant> findCreatedAtByIdAndUser(@Param("id") UUID id, @Param("user") User user);
+
+    /**
+     * Atomically adds an amount to the saved amount of a goal and recomputes its achieved status.
+     * <p>
+     * The increment is applied by the database, so concurrent deposits cannot overwrite each other.
+     * Both assignments read the pre-update row, hence {@code achieved} is evaluated on the new total.
+     * The velocity statistics are advanced in the same statement.
+     *
+     * @param id     the goal identifier
+     * @param user   the owner of the goal
+     * @param amount positive amount to add
+     * @param weight {@code amount} multiplied by {@link SavingGoal#contributionWeight}
+     * @return number of updated rows, 0 if the goal does not exist for the user
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SavingGoal g
+            SET g.currentAmount = g.currentAmount + :amount,
+                g.achieved = CASE WHEN g.currentAmount + :amount >= g.targetAmount THEN true ELSE false END,
+                g.contributionWeightSum = g.contributionWeightSum + :weight
+            WHERE g.id = :id
+              AND g.user = :user
+            """)
+    int deposit(@Param("id") UUID id,
+                @Param("user") User user,
+                @Param("amount") BigDecimal amount,
+                @Param("weight") double weight);
+
+    /**
+     * Atomically subtracts an amount from the saved amount of a goal and recomputes its achieved status.
+     * <p>
+     * The row is only updated if it still holds at least the requested amount,
+     * so the balance check and the subtraction cannot be interleaved by a concurrent withdrawal.
+     * The velocity statistics are advanced in the same statement.
+     *
+     * @param id     the goal identifier
+     * @param user   the owner of the goal
+     * @param amount positive amount to subtract
+     * @param weight {@code amount} multiplied by {@link SavingGoal#contributionWeight}
+     * @return number of updated rows, 0 if the goal does not exist or holds less than {@code amount}
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE SavingGoal g
+            SET g.currentAmount = g.currentAmount - :amount,
+                g.achieved = CASE WHEN g.currentAmount - :amount >= g.targetAmount THEN true ELSE false END,
+                g.contributionWeightSum = g.contributionWeightSum - :weight
+            WHERE g.id = :id
+              AND g.user = :user
+              AND g.currentAmount >= :amount
+            """)
+    int withdraw(@Param("id") UUID id,
+                 @Param("user") User user,
+                 @Param("amount") BigDecimal amount,
+                 @Param("weight") double weight);
 }
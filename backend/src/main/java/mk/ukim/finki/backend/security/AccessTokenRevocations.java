@@ -0,0 +1,112 @@
+package mk.ukim.finki.backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.BloomFilter;
+import mk.ukim.finki.backend.model.entity.RevokedAccessToken;
+import mk.ukim.finki.backend.repository.RevokedAccessTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revocation check for access tokens, designed to cost nothing on the common path.
+ * <p>
+ * Revoked token ids are stored in the database and published to an in-memory {@link BloomFilter}.
+ * A token whose id is not in the filter is certainly not revoked; only filter hits, revoked tokens
+ * and the rare false positive, are confirmed with a primary key lookup. Each instance polls for
+ * revocations made elsewhere every {@code app.jwt.revocation-sync-interval-ms}, and rebuilds the
+ * filter from the still relevant revocations every {@code app.jwt.revocation-rebuild-interval-ms},
+ * dropping revocations of tokens that have expired anyway.
+ */
+@Component
+@Slf4j
+public class AccessTokenRevocations {
+
+    /**
+     * Overlap of consecutive syncs, so revocations committed late by another instance are not missed.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedAccessTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public AccessTokenRevocations(RevokedAccessTokenRepository revokedTokenRepository,
+                                  @Value("${app.jwt.revocation-filter.expected-revocations:100000}") int expectedRevocations,
+                                  @Value("${app.jwt.revocation-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * Checks whether an access token has been revoked.
+     *
+     * @param tokenId token id ({@code jti} claim)
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(UUID tokenId) {
+        return filter.mightContain(tokenId) && revokedTokenRepository.existsById(tokenId);
+    }
+
+    /**
+     * Revokes an access token until its expiry.
+     *
+     * @param tokenId   token id ({@code jti} claim)
+     * @param expiresAt token expiry
+     */
+    @Transactional
+    public void revoke(UUID tokenId, Instant expiresAt) {
+        revokedTokenRepository.save(RevokedAccessToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(Instant.now())
+                .build());
+        filter.add(tokenId);
+    }
+
+    /**
+     * Publishes revocations made by other instances since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-interval-ms:10000}",
+            initialDelayString = "${app.jwt.revocation-sync-interval-ms:10000}")
+    public void sync() {
+        Instant now = Instant.now();
+        List<UUID> revoked = revokedTokenRepository.findActiveRevokedSince(lastSync.minus(SYNC_OVERLAP), now);
+        BloomFilter current = filter;
+        revoked.forEach(current::add);
+        lastSync = now;
+    }
+
+    /**
+     * Rebuilds the filter from revocations of tokens that have not expired yet and removes the rest.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.jwt.revocation-rebuild-interval-ms:3600000}")
+    @Transactional
+    public void rebuild() {
+        Instant now = Instant.now();
+        int removed = revokedTokenRepository.deleteExpiredBefore(now);
+        List<UUID> revoked = revokedTokenRepository.findActiveRevokedSince(Instant.EPOCH, now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate);
+        revoked.forEach(rebuilt::add);
+        filter = rebuilt;
+        lastSync = now;
+
+        log.info("Access token revocation filter rebuilt with {} revocations, {} expired removed", revoked.size(), removed);
+    }
+}
@@ -0,0 +1,40 @@
+package mk.ukim.finki.backend.security;
+
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Principal of a request authenticated by JWT, built from the token's claims alone.
+ * <p>
+ * Requests authenticated this way never load the user from the database.
+ *
+ * @param id    user id
+ * @param email user email, also the principal's name
+ * @param role  user role
+ */
+public record AuthenticatedUser(UUID id, String email, UserRole role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * Returns a detached user carrying only the identity from the token.
+     * <p>
+     * Suitable for scoping queries and as an association target; the password and
+     * timestamps are not loaded.
+     *
+     * @return detached user with id, email and role
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .role(role)
+                .build();
+    }
+}
@@ -1,11 +1,15 @@
 package mk.ukim.finki.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import mk.ukim.finki.backend.metrics.RequestTiming;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,41 +17,84 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Filter that validates JWT tokens from Authorization header and sets authentication in security context.
+ * <p>
+ * The principal is built from the token's claims without loading the user. Revoked tokens are
+ * rejected through {@link AccessTokenRevocations}, which touches the database only for
+ * revoked ids and rare false positives. Setting
+ * {@code app.jwt.check-user-exists} additionally rejects tokens of users that no longer exist,
+ * at the cost of one primary key lookup per request.
+ * <p>
+ * Authentication is charged to the {@code auth} phase of the request's {@link RequestTiming}.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final AccessTokenRevocations revocations;
+    private final boolean checkUserExists;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserService userService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   UserService userService,
+                                   AccessTokenRevocations revocations,
+                                   @Value("${app.jwt.check-user-exists:false}") boolean checkUserExists) {
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.revocations = revocations;
+        this.checkUserExists = checkUserExists;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String bearerToken = getJwtFromRequest(request);
+        RequestTiming timing = RequestTiming.enter(RequestTiming.AUTH);
+        try {
+            String bearerToken = getJwtFromRequest(request);
+            Claims claims = bearerToken != null ? tokenProvider.parseClaims(bearerToken).orElse(null) : null;
 
-        if (bearerToken != null && tokenProvider.validateToken(bearerToken)) {
-            String email = tokenProvider.getEmailFromJWT(bearerToken);
-            UserDetails userDetails = userService.loadUserByUsername(email);
+            UsernamePasswordAuthenticationToken authentication = claims != null ? authenticate(claims) : null;
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) {
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        } finally {
+            RequestTiming.exit(timing);
         }
 
         filterChain.doFilter(request, response);
 
     }
 
+    /**
+     * Builds the authentication from the token's claims. Tokens issued before the id and role
+     * claims existed fall back to loading the user by email.
+     */
+    private UsernamePasswordAuthenticationToken authenticate(Claims claims) {
+        if (claims.getId() != null && revocations.isRevoked(UUID.fromString(claims.getId()))) {
+            return null;
+        }
+
+        AuthenticatedUser principal = tokenProvider.toPrincipal(claims).orElse(null);
+
+        if (principal == null) {
+            UserDetails userDetails = userService.loadUserByUsername(claims.getSubject());
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+
+        if (checkUserExists && !userService.existsById(principal.id())) {
+            return null;
+        }
+
+        return new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name())));
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
@@ -3,48 +3,121 @@ package mk.ukim.finki.backend.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.VerifiedTokenCache;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Provider for creating, parsing and validating JWT tokens.
+ * <p>
+ * Tokens are parsed by a single immutable, thread-safe {@link JwtParser} built at startup.
+ * Verified claims are kept in a {@link VerifiedTokenCache} of {@code app.jwt.cache-size} tokens
+ * until the token expires, so a token sent repeatedly is verified only once.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+
     private final Key key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
     private final long jwtExpirationInMs;
 
     /**
-     * Constructs token provider with secret and expiration time.
+     * Constructs token provider with secret, expiration time and verified-token cache size.
      */
     public JwtTokenProvider(@Value("${app.jwt.secret}") String secret,
-                            @Value("${app.jwt.expiration-ms}") long expirationMs) {
+                            @Value("${app.jwt.expiration-ms}") long expirationMs,
+                            @Value("${app.jwt.cache-size:10000}") int cacheSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(cacheSize);
         this.jwtExpirationInMs = expirationMs;
     }
 
     /**
-     * Generates a signed JWT token containing the subject (email).
+     * Returns the cache of verified tokens, for monitoring.
+     *
+     * @return verified-token cache
+     */
+    public VerifiedTokenCache getVerifiedTokenCache() {
+        return verifiedTokens;
+    }
+
+    /**
+     * Generates a signed JWT token with the user's email as subject and the user's id and role as claims,
+     * so requests can be authenticated without loading the user. Every token gets a unique id
+     * ({@code jti}) through which it can be revoked.
      *
-     * @param email user email to include in token subject
+     * @param user user to issue the token for
      * @return signed JWT token string
      */
-    public String generateToken(String email) {
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId().toString())
+                .claim(ROLE_CLAIM, user.getRole().name())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies a JWT token's signature and expiration and returns its claims.
+     * <p>
+     * This is the only place a token is parsed; callers needing several claims should
+     * parse once and read them from the result. The returned claims may be shared with
+     * other requests and must not be modified.
+     *
+     * @param token JWT token string
+     * @return validated claims, or empty if the token is invalid
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(verifiedTokens.getOrVerify(token, jws -> parser.parseClaimsJws(jws).getBody()));
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.error("JWT validation failed: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Builds the principal described by validated claims.
+     *
+     * @param claims claims returned by {@link #parseClaims(String)}
+     * @return principal, or empty for tokens issued without user id and role claims, or whose claims
+     * name a malformed id or a role that no longer exists
+     */
+    public Optional<AuthenticatedUser> toPrincipal(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role)));
+        } catch (IllegalArgumentException ex) {
+            log.warn("JWT claims name an unknown user id or role: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extracts the email (subject) from a JWT token.
      *
@@ -52,13 +125,9 @@ public class JwtTokenProvider {
      * @return email subject from token
      */
     public String getEmailFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parser.parseClaimsJws(token)
+                .getBody()
+                .getSubject();
     }
 
     /**
@@ -68,16 +137,7 @@ public class JwtTokenProvider {
      * @return true if valid, false otherwise
      */
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (JwtException ex) {
-            log.error("JWT validation failed: {}", ex.getMessage());
-        }
-        return false;
+        return parseClaims(authToken).isPresent();
     }
 
     /**
@@ -0,0 +1,60 @@
+package mk.ukim.finki.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One token bucket per key, holding up to {@code burst} units and refilled at {@code perMinute} units.
+ * <p>
+ * Unlike {@link StripedRateLimit}, keys never share a bucket, so one key can not spend another's budget.
+ * Each bucket is an {@link AtomicLong} holding its theoretical arrival time (the generic cell rate algorithm)
+ * and is updated with compare-and-set. A bucket that has not been used for the time it takes to refill
+ * completely is indistinguishable from a new one, so idle buckets expire after exactly that long.
+ * At most {@code maxKeys} buckets are kept; beyond that the least valuable ones are evicted.
+ */
+final class KeyedRateLimit {
+
+    private final Cache<String, AtomicLong> arrivalTimes;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int burst;
+
+    KeyedRateLimit(int burst, int perMinute, long maxKeys) {
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+        this.burstNanos = intervalNanos * this.burst;
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+    }
+
+    /**
+     * Takes {@code cost} units from the key's bucket. Costs above the burst size are capped to it,
+     * so such a request needs a full bucket instead of never being allowed.
+     *
+     * @param key  key the bucket belongs to
+     * @param now  current time in nanoseconds, from a monotonic clock
+     * @param cost units to take
+     * @return 0 if the units were taken, otherwise nanoseconds until they would be available
+     */
+    long acquire(String key, long now, int cost) {
+        long costNanos = intervalNanos * Math.min(Math.max(1, cost), burst);
+        AtomicLong cell = arrivalTimes.get(key, k -> new AtomicLong());
+        while (true) {
+            long arrival = cell.get();
+            long next = Math.max(arrival, now) + costNanos;
+            long waitNanos = next - burstNanos - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (cell.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package mk.ukim.finki.backend.security;
+
+import mk.ukim.finki.backend.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+import static mk.ukim.finki.backend.util.AuthMessages.LOGIN_RATE_LIMITED;
+
+/**
+ * In-memory token-bucket limiter for login attempts, per email and per client IP.
+ * <p>
+ * Each limit is a {@link StripedRateLimit}, so memory stays constant no matter how many distinct
+ * emails or addresses an attacker uses.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final StripedRateLimit emailLimit;
+    private final StripedRateLimit ipLimit;
+    private final long origin = System.nanoTime();
+
+    public LoginRateLimiter(@Value("${app.auth.login-rate-limit.email.burst:5}") int emailBurst,
+                            @Value("${app.auth.login-rate-limit.email.per-minute:10}") int emailPerMinute,
+                            @Value("${app.auth.login-rate-limit.ip.burst:20}") int ipBurst,
+                            @Value("${app.auth.login-rate-limit.ip.per-minute:60}") int ipPerMinute,
+                            @Value("${app.auth.login-rate-limit.stripes:4096}") int stripes) {
+        this.emailLimit = new StripedRateLimit(emailBurst, emailPerMinute, stripes);
+        this.ipLimit = new StripedRateLimit(ipBurst, ipPerMinute, stripes);
+    }
+
+    /**
+     * Takes one login attempt from the email's and the address's buckets.
+     *
+     * @param email    email the client tries to log in as
+     * @param clientIp client address
+     * @throws TooManyRequestsException if either bucket is empty
+     */
+    public void acquire(String email, String clientIp) {
+        long now = System.nanoTime() - origin;
+        long waitNanos = ipLimit.acquire(clientIp, now, 1);
+        if (waitNanos == 0) {
+            waitNanos = emailLimit.acquire(email.toLowerCase(Locale.ROOT), now, 1);
+        }
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(LOGIN_RATE_LIMITED,
+                    StripedRateLimit.toRetryAfterSeconds(waitNanos));
+        }
+    }
+}
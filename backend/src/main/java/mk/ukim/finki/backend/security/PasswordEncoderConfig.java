@@ -1,5 +1,6 @@
 package mk.ukim.finki.backend.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -11,12 +12,18 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordEncoderConfig {
     /**
-     * Provides the BCrypt password encoder.
+     * Provides the BCrypt password encoder, running on a bounded hashing pool.
+     * <p>
+     * {@code app.auth.password-hashing.threads} defaults to half of the available processors.
      *
+     * @param threads       number of hashing threads; 0 selects the default
+     * @param queueCapacity number of hashing requests allowed to wait for a thread
      * @return PasswordEncoder instance
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.password-hashing.threads:0}") int threads,
+                                           @Value("${app.auth.password-hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity);
     }
 }
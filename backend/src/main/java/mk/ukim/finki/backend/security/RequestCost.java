@@ -0,0 +1,32 @@
+package mk.ukim.finki.backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how much of a user's request budget an endpoint consumes.
+ * <p>
+ * The cost is {@link #value()} plus {@link #perYear()} for every started year between the
+ * {@code from} and {@code to} request parameters, so long reporting periods cost more.
+ * Endpoints without this annotation are not limited.
+ *
+ * @see RequestCostInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestCost {
+
+    /**
+     * Base cost of a request.
+     */
+    int value();
+
+    /**
+     * Additional cost per started year of the requested period.
+     */
+    int perYear() default 0;
+}
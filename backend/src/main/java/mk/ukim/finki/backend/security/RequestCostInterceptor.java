@@ -0,0 +1,88 @@
+package mk.ukim.finki.backend.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import mk.ukim.finki.backend.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+import static mk.ukim.finki.backend.util.AuthMessages.REQUEST_BUDGET_EXCEEDED;
+
+/**
+ * Charges requests to endpoints annotated with {@link RequestCost} against a per-user token bucket.
+ * <p>
+ * Every user gets a budget of {@code app.rate-limit.budget.burst} units, refilled at
+ * {@code app.rate-limit.budget.per-minute}. A request whose cost exceeds the remaining budget is rejected
+ * with {@code 429 Too Many Requests} and a {@code Retry-After} header before any work is done,
+ * so one user running expensive reports can not slow down everyone else. Budgets are kept per user id,
+ * never shared between users, for at most {@code app.rate-limit.budget.max-users} recently active users.
+ */
+@Component
+public class RequestCostInterceptor implements HandlerInterceptor {
+
+    private final KeyedRateLimit budget;
+    private final long origin = System.nanoTime();
+
+    public RequestCostInterceptor(@Value("${app.rate-limit.budget.burst:200}") int burst,
+                                  @Value("${app.rate-limit.budget.per-minute:100}") int perMinute,
+                                  @Value("${app.rate-limit.budget.max-users:100000}") long maxUsers) {
+        this.budget = new KeyedRateLimit(burst, perMinute, maxUsers);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return true;
+        }
+        RequestCost cost = method.getMethodAnnotation(RequestCost.class);
+        String key = userKey();
+        if (cost == null || key == null) {
+            return true;
+        }
+
+        long waitNanos = budget.acquire(key, System.nanoTime() - origin, costOf(cost, request));
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException(REQUEST_BUDGET_EXCEEDED, StripedRateLimit.toRetryAfterSeconds(waitNanos));
+        }
+        return true;
+    }
+
+    /**
+     * Computes the cost of a request; malformed periods are charged the base cost and rejected by the controller.
+     */
+    static int costOf(RequestCost cost, HttpServletRequest request) {
+        if (cost.perYear() == 0) {
+            return cost.value();
+        }
+        try {
+            String from = request.getParameter("from");
+            String to = request.getParameter("to");
+            if (from == null || to == null) {
+                return cost.value();
+            }
+            long years = Math.max(1, ChronoUnit.YEARS.between(LocalDate.parse(from), LocalDate.parse(to)) + 1);
+            return (int) Math.min(Integer.MAX_VALUE, cost.value() + cost.perYear() * years);
+        } catch (DateTimeParseException e) {
+            return cost.value();
+        }
+    }
+
+    private static String userKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id().toString();
+        }
+        return authentication.getName();
+    }
+}
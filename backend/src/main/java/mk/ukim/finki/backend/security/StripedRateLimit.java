@@ -0,0 +1,63 @@
+package mk.ukim.finki.backend.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed number of token buckets, each holding up to {@code burst} units and refilled at {@code perMinute} units.
+ * <p>
+ * Buckets are striped by the key's hash, so memory stays constant no matter how many distinct keys are seen.
+ * A bucket is a single {@code long} holding its theoretical arrival time (the generic cell rate algorithm,
+ * equivalent to a token bucket) and is updated with compare-and-set, without locks. Keys sharing a stripe
+ * share its budget, which only makes the limit stricter for them.
+ */
+final class StripedRateLimit {
+
+    private final AtomicLongArray arrivalTimes;
+    private final int mask;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int burst;
+
+    StripedRateLimit(int burst, int perMinute, int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.arrivalTimes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.burst = Math.max(1, burst);
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+        this.burstNanos = intervalNanos * this.burst;
+    }
+
+    /**
+     * Takes {@code cost} units from the key's bucket. Costs above the burst size are capped to it,
+     * so such a request needs a full bucket instead of never being allowed.
+     *
+     * @param key  key the bucket is selected by
+     * @param now  current time in nanoseconds, from a monotonic clock
+     * @param cost units to take
+     * @return 0 if the units were taken, otherwise nanoseconds until they would be available
+     */
+    long acquire(String key, long now, int cost) {
+        long costNanos = intervalNanos * Math.min(Math.max(1, cost), burst);
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        while (true) {
+            long arrival = arrivalTimes.get(index);
+            long next = Math.max(arrival, now) + costNanos;
+            long waitNanos = next - burstNanos - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (arrivalTimes.compareAndSet(index, arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Rounds a wait up to whole seconds for a {@code Retry-After} header.
+     */
+    static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
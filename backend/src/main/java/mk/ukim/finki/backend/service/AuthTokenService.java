@@ -0,0 +1,42 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.model.dto.auth.AuthResponseDto;
+import mk.ukim.finki.backend.model.entity.User;
+
+/**
+ * Service issuing, rotating and revoking access and refresh tokens.
+ */
+public interface AuthTokenService {
+
+    /**
+     * Starts a login session: issues an access token and a new refresh token.
+     *
+     * @param user authenticated user
+     * @return token pair with expiry and user details
+     */
+    AuthResponseDto issueTokens(User user);
+
+    /**
+     * Exchanges a refresh token for a new token pair, revoking the used refresh token.
+     * <p>
+     * Presenting a refresh token that was already used revokes every token of its session.
+     *
+     * @param refreshToken refresh token
+     * @return new token pair
+     * @throws mk.ukim.finki.backend.exception.InvalidRefreshTokenException if the token is unknown, expired or revoked
+     */
+    AuthResponseDto refresh(String refreshToken);
+
+    /**
+     * Ends a login session: revokes the session's refresh tokens and the presented access token.
+     *
+     * @param refreshToken refresh token of the session
+     * @param accessToken  access token of the request, or null
+     */
+    void logout(String refreshToken, String accessToken);
+
+    /**
+     * Removes refresh tokens that have expired.
+     */
+    void purgeExpiredRefreshTokens();
+}
@@ -0,0 +1,52 @@
+package mk.ukim.finki.backend.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+import mk.ukim.finki.backend.exception.SavingGoalValidationException;
+import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
+import mk.ukim.finki.backend.model.dto.saving_goal.AutoSaveRuleDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for managing auto-save rules and sweeping incomes into saving goals.
+ */
+public interface AutoSaveRuleService {
+
+    /**
+     * Returns all auto-save rules of the current user.
+     *
+     * @return list of rule DTOs ordered by creation date desc
+     */
+    List<AutoSaveRuleDto> getRules();
+
+    /**
+     * Creates an auto-save rule for the current user.
+     *
+     * @param request creation request
+     * @return created rule DTO
+     * @throws EntityNotFoundException             if the category or saving goal does not exist
+     * @throws UnauthorizedCategoryAccessException if the category belongs to another user
+     * @throws SavingGoalValidationException       if the category is not an income category
+     *                                             or its rules would sweep more than 100%
+     */
+    AutoSaveRuleDto createRule(CreateAutoSaveRuleRequest request);
+
+    /**
+     * Deletes an auto-save rule owned by the current user.
+     *
+     * @param id rule id
+     * @throws EntityNotFoundException if not owned/found
+     */
+    void deleteRule(UUID id);
+
+    /**
+     * Moves the configured share of an income into saving goals.
+     * All rules targeting the same goal are merged into a single atomic deposit and contribution record.
+     *
+     * @param event the created income
+     */
+    void sweepIncome(IncomeCreatedEvent event);
+}
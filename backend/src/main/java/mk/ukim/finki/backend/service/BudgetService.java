@@ -2,7 +2,10 @@ package mk.ukim.finki.backend.service;
 
 import jakarta.persistence.EntityNotFoundException;
 import mk.ukim.finki.backend.exception.BudgetValidationException;
+import mk.ukim.finki.backend.model.dto.budget.BudgetBurnDownDto;
 import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationRequest;
 import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
 import mk.ukim.finki.backend.model.dto.budget.UpdateBudgetRequest;
 
@@ -82,4 +85,29 @@ public interface BudgetService {
      * @throws BudgetValidationException if the rollover would overlap with an existing budget
      */
     BudgetDto rolloverBudget(UUID budgetId);
+
+    /**
+     * Builds the burn-down series of a budget: daily cumulative spending across the
+     * budget window compared against the ideal linear pace.
+     * <p>
+     * Spending is loaded with a single grouped-by-date query.
+     *
+     * @param id budget id
+     * @return burn-down DTO with one point per day
+     * @throws EntityNotFoundException if budget does not exist
+     */
+    BudgetBurnDownDto getBudgetBurnDown(UUID id);
+
+    /**
+     * Evaluates hypothetical budgets against the current user's past spending.
+     * <p>
+     * Each budget is replayed over every complete historical period (week or month)
+     * of the lookback window, reporting how often and by how much it would have been exceeded.
+     * The spending history is loaded once and shared by all simulated budgets.
+     *
+     * @param request hypothetical budgets and lookback window
+     * @return simulation results in request order
+     * @throws EntityNotFoundException if a referenced category does not exist
+     */
+    BudgetSimulationDto simulateBudgets(BudgetSimulationRequest request);
 }
@@ -1,9 +1,11 @@
 package mk.ukim.finki.backend.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.exception.CategoryHierarchyException;
 import mk.ukim.finki.backend.exception.DuplicateCategoryNameException;
 import mk.ukim.finki.backend.exception.HiddenCategoryException;
 import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
+import mk.ukim.finki.backend.model.dto.category.CategoryDeletionJobDto;
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
 import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.HideCategoryRequest;
@@ -22,7 +24,10 @@ import java.util.UUID;
  *   <li>System (predefined) categories cannot be edited or deleted, only hidden/unhidden per user.</li>
  *   <li>Hiding is only allowed for system categories.</li>
  *   <li>Custom category names must be unique per user and type.</li>
- *   <li>On deletion of a custom category, all related expenses/incomes must be reassigned to a system fallback.</li>
+ *   <li>A custom category may be nested under a system or own category of the same type; cycles are rejected.
+ *       Spending of subcategories rolls up into their ancestors in budgets and reports.</li>
+ *   <li>On deletion of a custom category, all related expenses/incomes must be reassigned to a system fallback.
+ *       This runs as a background job; the category is hidden from its owner as soon as deletion is requested.</li>
  * </ul>
  */
 public interface CategoryService {
@@ -43,29 +48,43 @@ public interface CategoryService {
      * @param request creation data for the category
      * @return created category DTO
      * @throws DuplicateCategoryNameException if the name/type is not unique for this user
+     * @throws CategoryHierarchyException     if the parent has another type
      */
     CategoryDto createCategory(CreateCategoryRequest request);
 
     /**
      * Updates an existing custom category owned by the current user.
+     * Changing the parent moves the category together with all of its subcategories.
      *
      * @param id      category id
      * @param request update data
      * @return updated category DTO
      * @throws UnauthorizedCategoryAccessException if not owner or system category
      * @throws DuplicateCategoryNameException      if rename would cause a duplicate
+     * @throws CategoryHierarchyException          if the new parent has another type or lies in the category's subtree
      */
     CategoryDto updateCategory(UUID id, UpdateCategoryRequest request);
 
     /**
-     * Deletes a custom category owned by the current user.
-     * Related expense/income transactions must be reassigned to fallback categories.
+     * Starts the deletion of a custom category owned by the current user.
+     * The category is marked as deleting, and a background job reassigns its
+     * expense/income transactions to the fallback category before removing it.
      *
      * @param id category id to delete
+     * @return the started deletion job
      * @throws UnauthorizedCategoryAccessException if not owner or system category
      * @throws EntityNotFoundException             if fallback category is missing
      */
-    void deleteCategory(UUID id);
+    CategoryDeletionJobDto deleteCategory(UUID id);
+
+    /**
+     * Retrieves the progress of a category deletion started by the current user.
+     *
+     * @param jobId deletion job id
+     * @return deletion job progress
+     * @throws EntityNotFoundException if no such job exists for the user
+     */
+    CategoryDeletionJobDto getDeletionJob(UUID jobId);
 
     /**
      * Hides a system (predefined) category for the current user.
@@ -0,0 +1,48 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.model.dto.diagnostics.FlightRecordingDto;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface for on-demand Java Flight Recorder recordings of the running node.
+ * <p>
+ * At most one recording exists at a time; starting a new one discards the previous recording.
+ */
+public interface FlightRecordingService {
+
+    /**
+     * Starts a time-boxed recording, which stops on its own once the duration has passed.
+     *
+     * @param durationSeconds duration of the recording, or {@code null} for the configured default;
+     *                        capped at {@code app.jfr.max-duration-seconds}
+     * @return state of the started recording
+     * @throws mk.ukim.finki.backend.exception.FlightRecordingException if a recording is already running
+     */
+    FlightRecordingDto start(Integer durationSeconds);
+
+    /**
+     * Stops the running recording before its time box ends.
+     *
+     * @return state of the stopped recording
+     * @throws mk.ukim.finki.backend.exception.FlightRecordingException if no recording is running
+     */
+    FlightRecordingDto stop();
+
+    /**
+     * Returns the state of the current recording.
+     *
+     * @return state of the recording
+     * @throws jakarta.persistence.EntityNotFoundException if no recording has been made
+     */
+    FlightRecordingDto getStatus();
+
+    /**
+     * Returns the {@code .jfr} file of the finished recording.
+     *
+     * @return path of the recording file
+     * @throws jakarta.persistence.EntityNotFoundException if no recording has been made
+     * @throws mk.ukim.finki.backend.exception.FlightRecordingException if the recording is still running
+     */
+    Path getRecordingFile();
+}
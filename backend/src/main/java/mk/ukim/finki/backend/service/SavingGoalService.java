@@ -73,10 +73,21 @@ public interface SavingGoalService {
     SavingGoalDto withdrawContribution(UUID id, GoalContributionRequest request);
 
     /**
-     * Returns contribution history for a saving goal owned by the current user ordered by newest first.
+     * Returns one page of contribution history for a saving goal owned by the current user, newest first.
+     * Uses keyset pagination, so every page costs the same regardless of how far back it is.
      *
      * @param savingGoalId goal id
-     * @return list of contribution DTOs
+     * @param cursor       cursor returned with the previous page, or null for the first page
+     * @param limit        page size, clamped to 1-100
+     * @return page of contribution DTOs with the cursor of the next page
      */
-    List<GoalContributionDto> getContributions(UUID savingGoalId);
+    GoalContributionPageDto getContributions(UUID savingGoalId, String cursor, int limit);
+
+    /**
+     * Returns per-month deposit and withdrawal totals with the running balance of a saving goal.
+     *
+     * @param savingGoalId goal id
+     * @return monthly history ordered chronologically
+     */
+    List<MonthlyContributionDto> getMonthlyContributionHistory(UUID savingGoalId);
 }
@@ -5,6 +5,8 @@ import mk.ukim.finki.backend.model.entity.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.UUID;
+
 /**
  * Service interface for user management and authentication.
  */
@@ -20,6 +22,10 @@ public interface UserService extends UserDetailsService {
 
     /**
      * Gets the currently authenticated user.
+     * <p>
+     * For JWT-authenticated requests this is a detached user built from the token's claims
+     * (id, email and role only), returned without a database query. Otherwise the user is loaded
+     * once and remembered for the rest of the request.
      *
      * @return current User entity
      * @throws UsernameNotFoundException if not authenticated
@@ -34,4 +40,12 @@ public interface UserService extends UserDetailsService {
      * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if user not found
      */
     User findByEmail(String email);
+
+    /**
+     * Checks whether a user still exists.
+     *
+     * @param userId user id
+     * @return true if the user exists, false otherwise
+     */
+    boolean existsById(UUID userId);
 }
@@ -2,13 +2,16 @@ package mk.ukim.finki.backend.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.CategoryUsageChangedEvent;
 import mk.ukim.finki.backend.exception.UnauthorizedTransactionAccessException;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.TransactionBase;
 import mk.ukim.finki.backend.model.entity.User;
-import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
 import static mk.ukim.finki.backend.util.TransactionServiceMessages.*;
@@ -21,8 +24,9 @@ import static mk.ukim.finki.backend.util.TransactionServiceMessages.*;
 @RequiredArgsConstructor
 public abstract class AbstractTransactionService<T extends TransactionBase> {
 
-    protected final CategoryRepository categoryRepository;
+    protected final CategoryCatalog categoryCatalog;
     protected final UserService userService;
+    protected final ApplicationEventPublisher eventPublisher;
 
     protected void validateCategoryOwnership(Category category, User user) {
         if (category.isPredefined()) return;
@@ -37,8 +41,22 @@ public abstract class AbstractTransactionService<T extends TransactionBase> {
         }
     }
 
-    protected Category findCategoryOrThrow(UUID id) {
-        return categoryRepository.findById(id)
+    /**
+     * Resolves a transaction category through the {@link CategoryCatalog},
+     * so predefined and own categories do not cost a query on the write path.
+     */
+    protected Category findCategoryOrThrow(UUID id, User user) {
+        return categoryCatalog.findCategory(user.getId(), id)
                 .orElseThrow(() -> new EntityNotFoundException(CATEGORY_NOT_FOUND));
     }
+
+    /**
+     * Publishes the usage change caused by a transaction entering ({@code +1}) or leaving ({@code -1}) its category.
+     * Statistics are applied in batches after commit, never on the write path itself.
+     */
+    protected void publishUsageChange(T entity, int transactionDelta) {
+        BigDecimal amount = transactionDelta > 0 ? entity.getAmount() : entity.getAmount().negate();
+        eventPublisher.publishEvent(new CategoryUsageChangedEvent(entity.getUser().getId(),
+                entity.getCategory().getId(), entity.getDate(), amount, transactionDelta));
+    }
 }
\ No newline at end of file
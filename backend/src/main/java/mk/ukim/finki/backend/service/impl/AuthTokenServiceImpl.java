@@ -0,0 +1,139 @@
+package mk.ukim.finki.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.exception.InvalidRefreshTokenException;
+import mk.ukim.finki.backend.model.dto.auth.AuthResponseDto;
+import mk.ukim.finki.backend.model.entity.RefreshToken;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.repository.RefreshTokenRepository;
+import mk.ukim.finki.backend.security.AccessTokenRevocations;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import mk.ukim.finki.backend.service.AuthTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static mk.ukim.finki.backend.util.AuthMessages.INVALID_REFRESH_TOKEN;
+
+/**
+ * Default implementation of {@link AuthTokenService}.
+ * <p>
+ * Refresh tokens are 256-bit random strings stored only as SHA-256 hashes and valid for
+ * {@code app.jwt.refresh-expiration-ms}. Access tokens stay short-lived, so a revoked session
+ * ends at the latest when its current access token expires, or immediately on logout.
+ */
+@Service
+@Slf4j
+public class AuthTokenServiceImpl implements AuthTokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final AccessTokenRevocations revocations;
+    private final long refreshExpirationMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public AuthTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                JwtTokenProvider tokenProvider,
+                                AccessTokenRevocations revocations,
+                                @Value("${app.jwt.refresh-expiration-ms:2592000000}") long refreshExpirationMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.revocations = revocations;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    @Transactional
+    @Override
+    public AuthResponseDto issueTokens(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    @Override
+    public AuthResponseDto refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN));
+        Instant now = Instant.now();
+
+        if (current.getRevokedAt() != null) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Reuse of refresh token [{}] of user [{}] detected, revoked {} tokens of its session",
+                    current.getId(), current.getUser().getEmail(), revoked);
+            throw new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN);
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN);
+        }
+
+        current.setRevokedAt(now);
+        return issue(current.getUser(), current.getFamilyId());
+    }
+
+    @Transactional
+    @Override
+    public void logout(String refreshToken, String accessToken) {
+        Instant now = Instant.now();
+        refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), now));
+
+        if (accessToken != null) {
+            tokenProvider.parseClaims(accessToken)
+                    .filter(claims -> claims.getId() != null)
+                    .ifPresent(claims -> revocations.revoke(UUID.fromString(claims.getId()),
+                            claims.getExpiration().toInstant()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-cleanup-interval-ms:3600000}",
+            initialDelayString = "${app.jwt.refresh-cleanup-interval-ms:3600000}")
+    @Transactional
+    @Override
+    public void purgeExpiredRefreshTokens() {
+        int removed = refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        if (removed > 0) {
+            log.info("Removed {} expired refresh tokens", removed);
+        }
+    }
+
+    private AuthResponseDto issue(User user, UUID familyId) {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .expiresAt(Instant.now().plusMillis(refreshExpirationMs))
+                .build());
+
+        return new AuthResponseDto(
+                tokenProvider.generateToken(user),
+                refreshToken,
+                tokenProvider.getJwtExpirationInMs(),
+                user.getEmail(),
+                user.getRole().name()
+        );
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
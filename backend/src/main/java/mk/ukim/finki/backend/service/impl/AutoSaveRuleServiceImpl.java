@@ -0,0 +1,195 @@
+package mk.ukim.finki.backend.service.impl;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+import mk.ukim.finki.backend.exception.SavingGoalValidationException;
+import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
+import mk.ukim.finki.backend.model.dto.saving_goal.AutoSaveRuleDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+import mk.ukim.finki.backend.model.entity.*;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.GoalContributionType;
+import mk.ukim.finki.backend.repository.AutoSaveRuleRepository;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.GoalContributionRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import mk.ukim.finki.backend.service.UserService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+
+import static mk.ukim.finki.backend.util.CategoryServiceMessages.CATEGORY_NOT_FOUND;
+import static mk.ukim.finki.backend.util.SavingGoalServiceMessages.*;
+
+/**
+ * Implementation of {@link AutoSaveRuleService}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutoSaveRuleServiceImpl implements AutoSaveRuleService {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final AutoSaveRuleRepository autoSaveRuleRepository;
+    private final CategoryRepository categoryRepository;
+    private final SavingGoalRepository savingGoalRepository;
+    private final GoalContributionRepository goalContributionRepository;
+    private final UserService userService;
+
+    /**
+     * Validates that a category can trigger auto-save rules of the user.
+     *
+     * @param category the income category
+     * @param user     the rule owner
+     * @throws UnauthorizedCategoryAccessException if the category belongs to another user
+     * @throws SavingGoalValidationException       if the category is not an income category
+     */
+    private void validateCategory(Category category, User user) {
+        if (!category.isPredefined()
+                && (category.getUser() == null || !user.getId().equals(category.getUser().getId()))) {
+            throw new UnauthorizedCategoryAccessException();
+        }
+        if (category.getType() != CategoryType.INCOME) {
+            throw new SavingGoalValidationException(AUTO_SAVE_INCOME_CATEGORY_ONLY);
+        }
+    }
+
+    /**
+     * Validates that the rules of a category do not sweep more than the whole income.
+     *
+     * @param category   the income category
+     * @param user       the rule owner
+     * @param percentage percentage of the new rule
+     * @throws SavingGoalValidationException if the total would exceed 100%
+     */
+    private void validateTotalPercentage(Category category, User user, BigDecimal percentage) {
+        BigDecimal total = autoSaveRuleRepository.sumPercentageByCategory(user, category).add(percentage);
+        if (total.compareTo(ONE_HUNDRED) > 0) {
+            throw new SavingGoalValidationException(AUTO_SAVE_PERCENTAGE_EXCEEDED);
+        }
+    }
+
+    private AutoSaveRuleDto toDto(AutoSaveRule rule) {
+        return AutoSaveRuleDto.builder()
+                .id(rule.getId())
+                .categoryId(rule.getCategory().getId())
+                .categoryName(rule.getCategory().getName())
+                .savingGoalId(rule.getSavingGoal().getId())
+                .savingGoalName(rule.getSavingGoal().getName())
+                .percentage(rule.getPercentage())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AutoSaveRuleDto> getRules() {
+        User user = userService.getCurrentUser();
+
+        return autoSaveRuleRepository.findByUserWithDetails(user)
+                .stream()
+                .map(this::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public AutoSaveRuleDto createRule(CreateAutoSaveRuleRequest request) {
+        User user = userService.getCurrentUser();
+
+        Category category = categoryRepository.findById(request.getCategoryId())
+                .filter(c -> !c.isDeleting())
+                .orElseThrow(() -> new EntityNotFoundException(CATEGORY_NOT_FOUND));
+        validateCategory(category, user);
+
+        SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(request.getSavingGoalId(), user)
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
+
+        validateTotalPercentage(category, user, request.getPercentage());
+
+        AutoSaveRule rule = AutoSaveRule.builder()
+                .user(user)
+                .category(category)
+                .savingGoal(savingGoal)
+                .percentage(request.getPercentage())
+                .build();
+
+        autoSaveRuleRepository.save(rule);
+
+        log.info("User [{}] created auto-save rule: {}% of [{}] into saving goal [{}]",
+                user.getEmail(), rule.getPercentage(), category.getName(), savingGoal.getId());
+
+        return toDto(rule);
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(UUID id) {
+        User user = userService.getCurrentUser();
+        AutoSaveRule rule = autoSaveRuleRepository.findByIdAndUser(id, user)
+                .orElseThrow(() -> new EntityNotFoundException(AUTO_SAVE_RULE_NOT_FOUND));
+
+        autoSaveRuleRepository.delete(rule);
+
+        log.info("User [{}] deleted auto-save rule [{}]", user.getEmail(), id);
+    }
+
+    @Override
+    @Transactional
+    public void sweepIncome(IncomeCreatedEvent event) {
+        List<AutoSaveRule> rules = autoSaveRuleRepository.findTriggeredRules(event.userId(), event.categoryId());
+        if (rules.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, GoalSweep> sweeps = new LinkedHashMap<>();
+        for (AutoSaveRule rule : rules) {
+            BigDecimal amount = event.amount()
+                    .multiply(rule.getPercentage())
+                    .divide(ONE_HUNDRED, 2, RoundingMode.DOWN);
+            sweeps.merge(rule.getSavingGoal().getId(),
+                    new GoalSweep(rule.getSavingGoal(), rule.getUser(), amount),
+                    GoalSweep::plus);
+        }
+
+        Instant now = Instant.now();
+        List<GoalContribution> contributions = new ArrayList<>();
+
+        for (GoalSweep sweep : sweeps.values()) {
+            if (sweep.amount().signum() <= 0) {
+                continue;
+            }
+            double weight = sweep.amount().doubleValue() * sweep.savingGoal().contributionWeight(now);
+            if (savingGoalRepository.deposit(sweep.savingGoal().getId(), sweep.user(), sweep.amount(), weight) == 0) {
+                continue;
+            }
+            contributions.add(GoalContribution.builder()
+                    .savingGoal(savingGoalRepository.getReferenceById(sweep.savingGoal().getId()))
+                    .amount(sweep.amount())
+                    .type(GoalContributionType.DEPOSIT)
+                    .build());
+        }
+
+        goalContributionRepository.saveAll(contributions);
+
+        log.info("Swept income [{}] into {} saving goals using {} auto-save rules",
+                event.incomeId(), contributions.size(), rules.size());
+    }
+
+    /**
+     * Amount swept into one saving goal, merged over all rules targeting it.
+     */
+    private record GoalSweep(SavingGoal savingGoal, User user, BigDecimal amount) {
+
+        GoalSweep plus(GoalSweep other) {
+            return new GoalSweep(savingGoal, user, amount.add(other.amount()));
+        }
+    }
+}
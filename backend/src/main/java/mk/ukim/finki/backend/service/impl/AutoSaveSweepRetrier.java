@@ -0,0 +1,102 @@
+package mk.ukim.finki.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+import mk.ukim.finki.backend.model.entity.FailedAutoSaveSweep;
+import mk.ukim.finki.backend.repository.FailedAutoSaveSweepRepository;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Keeps failed auto-save sweeps and retries them.
+ * <p>
+ * A sweep runs in a single transaction, so a failed sweep saved nothing and can safely be replayed.
+ * Failed sweeps are stored in {@code failed_auto_save_sweeps} and retried every
+ * {@code app.auto-save.retry-interval-ms}, each in its own transaction that also removes the row.
+ * A sweep that has failed {@link #MAX_SWEEP_ATTEMPTS} times is dropped.
+ */
+@Component
+@Slf4j
+public class AutoSaveSweepRetrier {
+
+    /**
+     * Number of failed sweeps, including the original one, after which a sweep is dropped.
+     */
+    public static final int MAX_SWEEP_ATTEMPTS = 5;
+
+    private static final int RETRY_BATCH_SIZE = 100;
+
+    private final AutoSaveRuleService autoSaveRuleService;
+    private final FailedAutoSaveSweepRepository failedSweepRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AutoSaveSweepRetrier(AutoSaveRuleService autoSaveRuleService,
+                                FailedAutoSaveSweepRepository failedSweepRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.autoSaveRuleService = autoSaveRuleService;
+        this.failedSweepRepository = failedSweepRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Stores a sweep that failed, so it is retried later.
+     *
+     * @param event the income event whose sweep failed
+     */
+    public void recordFailure(IncomeCreatedEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    failedSweepRepository.save(FailedAutoSaveSweep.of(event, Instant.now())));
+        } catch (RuntimeException e) {
+            log.error("Could not store the failed auto-save sweep of income [{}], it will not be retried",
+                    event.incomeId(), e);
+        }
+    }
+
+    /**
+     * Retries the oldest failed sweeps.
+     */
+    @Scheduled(fixedDelayString = "${app.auto-save.retry-interval-ms:60000}",
+            initialDelayString = "${app.auto-save.retry-interval-ms:60000}")
+    public void retryFailedSweeps() {
+        for (FailedAutoSaveSweep failed : failedSweepRepository.findAllByOrderByFailedAtAsc(Limit.of(RETRY_BATCH_SIZE))) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (failedSweepRepository.deleteByIncomeId(failed.getIncomeId()) > 0) {
+                        autoSaveRuleService.sweepIncome(failed.toEvent());
+                    }
+                });
+                log.info("Retried auto-save sweep of income [{}]", failed.getIncomeId());
+            } catch (RuntimeException e) {
+                registerFailure(failed, e);
+            }
+        }
+    }
+
+    private void registerFailure(FailedAutoSaveSweep failed, RuntimeException cause) {
+        int attempts = failed.getAttempts() + 1;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (attempts >= MAX_SWEEP_ATTEMPTS) {
+                    failedSweepRepository.deleteByIncomeId(failed.getIncomeId());
+                } else {
+                    failedSweepRepository.registerFailure(failed.getIncomeId(), Instant.now());
+                }
+            });
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        if (attempts >= MAX_SWEEP_ATTEMPTS) {
+            log.error("Dropping auto-save sweep of income [{}] after {} failed attempts",
+                    failed.getIncomeId(), attempts, cause);
+        } else {
+            log.warn("Auto-save sweep of income [{}] failed again ({} attempts)", failed.getIncomeId(), attempts, cause);
+        }
+    }
+}
@@ -3,15 +3,18 @@ package mk.ukim.finki.backend.service.impl;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
 import mk.ukim.finki.backend.exception.BudgetValidationException;
+import mk.ukim.finki.backend.jfr.BudgetProgressEvent;
 import mk.ukim.finki.backend.mapper.BudgetMapper;
-import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
-import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
-import mk.ukim.finki.backend.model.dto.budget.UpdateBudgetRequest;
+import mk.ukim.finki.backend.model.dto.budget.*;
+import mk.ukim.finki.backend.model.dto.category.CategoryDescendantProjection;
 import mk.ukim.finki.backend.model.entity.Budget;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.BudgetPeriod;
 import mk.ukim.finki.backend.repository.BudgetRepository;
+import mk.ukim.finki.backend.repository.CategoryClosureRepository;
 import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.service.BudgetService;
 import mk.ukim.finki.backend.service.UserService;
@@ -20,11 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static mk.ukim.finki.backend.util.BudgetServiceMessages.*;
 
@@ -40,6 +44,8 @@ public class BudgetServiceImpl implements BudgetService {
     private final BudgetRepository budgetRepository;
     private final UserService userService;
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final CategoryClosureRepository categoryClosureRepository;
     private final BudgetMapper budgetMapper;
 
     /**
@@ -92,13 +98,44 @@ public class BudgetServiceImpl implements BudgetService {
      * @return budget with updated progressPercentage
      */
     private Budget calculateProgress(Budget budget) {
-        BigDecimal spent = Optional.ofNullable(
-                budgetRepository.sumSpentByBudget(
-                        budget.getUser(),
-                        budget.getCategory(),
-                        budget.getStartDate(),
-                        budget.getEndDate())
-        ).orElse(BigDecimal.ZERO);
+        BudgetProgressEvent event = new BudgetProgressEvent();
+        event.begin();
+        BigDecimal spent = budgetRepository.sumSpentByBudget(
+                budget.getUser(),
+                budget.getCategory(),
+                budget.getStartDate(),
+                budget.getEndDate());
+        applyProgress(budget, spent);
+        event.commit(String.valueOf(budget.getUser().getId()), 1);
+        return budget;
+    }
+
+    /**
+     * Calculates the progress of a list of budgets, loading the spending of all the user's budgets
+     * with one query instead of one per budget.
+     *
+     * @param user    owner of the budgets
+     * @param budgets budgets of the user
+     * @return DTOs with progress, in the order of the budgets
+     */
+    private List<BudgetDto> toDtosWithProgress(User user, List<Budget> budgets) {
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+        BudgetProgressEvent event = new BudgetProgressEvent();
+        event.begin();
+        Map<UUID, BigDecimal> spentByBudget = budgetRepository.sumSpentPerBudget(user).stream()
+                .collect(Collectors.toMap(BudgetSpendingDto::getBudgetId, BudgetSpendingDto::getSpent));
+        budgets.forEach(budget -> applyProgress(budget, spentByBudget.get(budget.getId())));
+        event.commit(String.valueOf(user.getId()), budgets.size());
+
+        return budgets.stream()
+                .map(budgetMapper::toDto)
+                .toList();
+    }
+
+    private Budget applyProgress(Budget budget, BigDecimal spentOrNull) {
+        BigDecimal spent = Optional.ofNullable(spentOrNull).orElse(BigDecimal.ZERO);
 
         BigDecimal progress = budget.getAmount().compareTo(BigDecimal.ZERO) > 0
                 ? spent.divide(budget.getAmount(), 2, RoundingMode.HALF_UP)
@@ -115,11 +152,7 @@ public class BudgetServiceImpl implements BudgetService {
         User user = userService.getCurrentUser();
         archiveExpiredBudgets();
 
-        return budgetRepository.findByUserOrderByStartDateDesc(user)
-                .stream()
-                .map(this::calculateProgress)
-                .map(budgetMapper::toDto)
-                .toList();
+        return toDtosWithProgress(user, budgetRepository.findByUserOrderByStartDateDesc(user));
     }
 
     @Override
@@ -234,10 +267,7 @@ public class BudgetServiceImpl implements BudgetService {
         User user = userService.getCurrentUser();
         List<Budget> expiredBudgets = budgetRepository.findByUserAndArchivedTrueOrderByEndDateDesc(user);
 
-        return expiredBudgets.stream()
-                .map(this::calculateProgress)
-                .map(budgetMapper::toDto)
-                .toList();
+        return toDtosWithProgress(user, expiredBudgets);
     }
 
     @Override
@@ -269,6 +299,310 @@ public class BudgetServiceImpl implements BudgetService {
         return budgetMapper.toDto(newBudget);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public BudgetBurnDownDto getBudgetBurnDown(UUID id) {
+        User user = userService.getCurrentUser();
+
+        Budget budget = budgetRepository.findByIdAndUser(id, user)
+                .orElseThrow(() -> new EntityNotFoundException(BUDGET_NOT_FOUND));
+
+        Map<LocalDate, BigDecimal> dailySpending = budgetRepository.findDailySpendingByBudget(
+                        user, budget.getCategory(), budget.getStartDate(), budget.getEndDate())
+                .stream()
+                .collect(Collectors.toMap(
+                        DailySpendingProjection::getDate,
+                        DailySpendingProjection::getTotalAmount
+                ));
+
+        List<BurnDownPointDto> points = buildBurnDownPoints(budget, dailySpending);
+        BigDecimal totalSpent = dailySpending.values().stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return BudgetBurnDownDto.builder()
+                .budgetId(budget.getId())
+                .categoryName(budget.getCategory() != null ? budget.getCategory().getName() : "Overall")
+                .amount(budget.getAmount())
+                .startDate(budget.getStartDate())
+                .endDate(budget.getEndDate())
+                .archived(budget.isArchived())
+                .totalSpent(totalSpent)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Expands sparse daily totals into a dense day-by-day series.
+     * Active budgets are only expanded up to today, archived ones cover their full window.
+     *
+     * @param budget        the budget
+     * @param dailySpending spending keyed by day, days without expenses are absent
+     * @return burn-down points ordered by date
+     */
+    private List<BurnDownPointDto> buildBurnDownPoints(Budget budget, Map<LocalDate, BigDecimal> dailySpending) {
+        LocalDate start = budget.getStartDate();
+        LocalDate end = budget.getEndDate();
+        LocalDate today = LocalDate.now();
+        LocalDate last = !budget.isArchived() && today.isBefore(end) ? today : end;
+
+        long totalDays = ChronoUnit.DAYS.between(start, end) + 1;
+        BigDecimal totalDaysDecimal = BigDecimal.valueOf(totalDays);
+
+        List<BurnDownPointDto> points = new ArrayList<>();
+        BigDecimal cumulative = BigDecimal.ZERO;
+        long dayIndex = 1;
+
+        for (LocalDate day = start; !day.isAfter(last); day = day.plusDays(1), dayIndex++) {
+            BigDecimal spent = dailySpending.getOrDefault(day, BigDecimal.ZERO);
+            cumulative = cumulative.add(spent);
+            BigDecimal ideal = budget.getAmount()
+                    .multiply(BigDecimal.valueOf(dayIndex))
+                    .divide(totalDaysDecimal, 2, RoundingMode.HALF_UP);
+
+            points.add(BurnDownPointDto.builder()
+                    .date(day)
+                    .spent(spent)
+                    .cumulativeSpent(cumulative)
+                    .idealSpent(ideal)
+                    .build());
+        }
+        return points;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BudgetSimulationDto simulateBudgets(BudgetSimulationRequest request) {
+        User user = userService.getCurrentUser();
+
+        LocalDate to = LocalDate.now().withDayOfMonth(1).minusDays(1);
+        LocalDate from = to.plusDays(1).minusMonths(request.getLookbackMonths());
+
+        Map<UUID, Category> categories = findSimulatedCategories(request.getBudgets(), user);
+        SpendingHistory history = new SpendingHistory(from, to,
+                budgetRepository.findDailySpendingByCategory(user, from, to),
+                findSubtrees(categories.keySet()));
+
+        Map<BudgetPeriod, List<SimulationPeriod>> periods = new EnumMap<>(BudgetPeriod.class);
+
+        List<BudgetSimulationResultDto> results = request.getBudgets().stream()
+                .map(candidate -> simulateBudget(candidate,
+                        candidate.getCategoryId() != null ? categories.get(candidate.getCategoryId()) : null,
+                        periods.computeIfAbsent(candidate.getPeriod(), p -> splitIntoPeriods(p, from, to)),
+                        history))
+                .toList();
+
+        log.info("User [{}] simulated {} budgets over {} - {}",
+                user.getEmail(), results.size(), from, to);
+
+        return BudgetSimulationDto.builder()
+                .from(from)
+                .to(to)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Resolves the categories referenced by simulated budgets through the {@link CategoryCatalog}.
+     * Only predefined categories and the user's own categories can be simulated; ids of other
+     * users' categories are reported as missing, so they reveal neither names nor existence.
+     *
+     * @param budgets simulated budgets
+     * @param user    current user
+     * @return categories keyed by id
+     * @throws EntityNotFoundException if any referenced category does not exist or belongs to another user
+     */
+    private Map<UUID, Category> findSimulatedCategories(List<SimulatedBudgetRequest> budgets, User user) {
+        Set<UUID> ids = budgets.stream()
+                .map(SimulatedBudgetRequest::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<UUID, Category> categories = new HashMap<>();
+        for (UUID id : ids) {
+            Category category = categoryCatalog.findCategory(user.getId(), id)
+                    .filter(c -> c.isPredefined() || isOwnedBy(c, user))
+                    .orElseThrow(() -> new EntityNotFoundException(CATEGORY_NOT_FOUND));
+            categories.put(id, category);
+        }
+        return categories;
+    }
+
+    private boolean isOwnedBy(Category category, User user) {
+        return category.getUser() != null && user.getId().equals(category.getUser().getId());
+    }
+
+    /**
+     * Loads the descendants of the simulated categories, so budgets on a parent category cover its subcategories.
+     *
+     * @param categoryIds simulated category ids
+     * @return each category id mapped to itself and its descendants
+     */
+    private Map<UUID, Set<UUID>> findSubtrees(Set<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        return categoryClosureRepository.findDescendants(categoryIds).stream()
+                .collect(Collectors.groupingBy(CategoryDescendantProjection::getAncestorId,
+                        Collectors.mapping(CategoryDescendantProjection::getDescendantId, Collectors.toSet())));
+    }
+
+    /**
+     * Splits the simulation window into complete periods.
+     * Weekly periods start on Monday; a trailing partial week is dropped.
+     *
+     * @param period budget period
+     * @param from   window start (first day of a month)
+     * @param to     window end (last day of a month)
+     * @return complete periods in chronological order
+     */
+    private List<SimulationPeriod> splitIntoPeriods(BudgetPeriod period, LocalDate from, LocalDate to) {
+        List<SimulationPeriod> periods = new ArrayList<>();
+
+        if (period == BudgetPeriod.MONTHLY) {
+            for (LocalDate start = from; !start.isAfter(to); start = start.plusMonths(1)) {
+                periods.add(new SimulationPeriod(start, start.plusMonths(1).minusDays(1)));
+            }
+        } else {
+            LocalDate start = from.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+            for (; !start.plusDays(6).isAfter(to); start = start.plusWeeks(1)) {
+                periods.add(new SimulationPeriod(start, start.plusDays(6)));
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Replays a single hypothetical budget over all historical periods.
+     * All arithmetic is done in cents on the preloaded history.
+     *
+     * @param candidate simulated budget
+     * @param category  resolved category, null for an overall budget
+     * @param periods   complete periods of the window
+     * @param history   preloaded spending history
+     * @return simulation result
+     */
+    private BudgetSimulationResultDto simulateBudget(SimulatedBudgetRequest candidate,
+                                                     Category category,
+                                                     List<SimulationPeriod> periods,
+                                                     SpendingHistory history) {
+        long limit = toCents(candidate.getAmount());
+        long totalSpent = 0;
+        long totalOverspend = 0;
+        long maxOverspend = 0;
+        int exceeded = 0;
+
+        for (SimulationPeriod period : periods) {
+            long spent = history.spentCents(candidate.getCategoryId(), period.start(), period.end());
+            totalSpent += spent;
+            if (spent > limit) {
+                long overspend = spent - limit;
+                exceeded++;
+                totalOverspend += overspend;
+                maxOverspend = Math.max(maxOverspend, overspend);
+            }
+        }
+
+        int evaluated = periods.size();
+
+        return BudgetSimulationResultDto.builder()
+                .categoryId(candidate.getCategoryId())
+                .categoryName(category != null ? category.getName() : "Overall")
+                .amount(candidate.getAmount())
+                .period(candidate.getPeriod())
+                .periodsEvaluated(evaluated)
+                .periodsExceeded(exceeded)
+                .exceededPercentage(evaluated > 0
+                        ? BigDecimal.valueOf(exceeded * 100L).divide(BigDecimal.valueOf(evaluated), 2, RoundingMode.HALF_UP)
+                        : BigDecimal.ZERO)
+                .averageSpent(averageOf(totalSpent, evaluated))
+                .averageOverspend(averageOf(totalOverspend, exceeded))
+                .maxOverspend(BigDecimal.valueOf(maxOverspend, 2))
+                .build();
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal averageOf(long cents, int count) {
+        return count > 0
+                ? BigDecimal.valueOf(cents, 2).divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+
+    private record SimulationPeriod(LocalDate start, LocalDate end) {
+    }
+
+    /**
+     * Compact in-memory spending history of one user.
+     * <p>
+     * Spending is kept in cents as prefix sums over day offsets from the window start,
+     * one {@code long[]} per category plus one for overall spending,
+     * so the spending of any category in any date range is a constant-time lookup.
+     * Categories with subcategories get one more array summing their whole subtree.
+     */
+    private static final class SpendingHistory {
+        private final LocalDate from;
+        private final int days;
+        private final Map<UUID, long[]> prefixByCategory = new HashMap<>();
+        private final Map<UUID, long[]> prefixBySubtree = new HashMap<>();
+        private final long[] prefixTotal;
+
+        SpendingHistory(LocalDate from, LocalDate to, List<CategoryDailySpendingProjection> dailySpending,
+                        Map<UUID, Set<UUID>> subtrees) {
+            this.from = from;
+            this.days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+            this.prefixTotal = new long[days + 1];
+
+            for (CategoryDailySpendingProjection row : dailySpending) {
+                int day = (int) ChronoUnit.DAYS.between(from, row.getDate());
+                long cents = toCents(row.getTotalAmount());
+                prefixByCategory.computeIfAbsent(row.getCategoryId(), id -> new long[days + 1])[day + 1] += cents;
+                prefixTotal[day + 1] += cents;
+            }
+
+            prefixByCategory.values().forEach(SpendingHistory::accumulate);
+            accumulate(prefixTotal);
+
+            subtrees.forEach((root, descendants) -> {
+                if (descendants.size() > 1) {
+                    prefixBySubtree.put(root, sumOf(descendants));
+                }
+            });
+        }
+
+        private long[] sumOf(Set<UUID> categoryIds) {
+            long[] sum = new long[days + 1];
+            for (UUID id : categoryIds) {
+                long[] prefix = prefixByCategory.get(id);
+                if (prefix != null) {
+                    for (int i = 0; i < sum.length; i++) {
+                        sum[i] += prefix[i];
+                    }
+                }
+            }
+            return sum;
+        }
+
+        private static void accumulate(long[] values) {
+            for (int i = 1; i < values.length; i++) {
+                values[i] += values[i - 1];
+            }
+        }
+
+        long spentCents(UUID categoryId, LocalDate start, LocalDate end) {
+            long[] prefix = categoryId == null
+                    ? prefixTotal
+                    : prefixBySubtree.getOrDefault(categoryId, prefixByCategory.get(categoryId));
+            if (prefix == null) {
+                return 0;
+            }
+            int startDay = (int) ChronoUnit.DAYS.between(from, start);
+            int endDay = (int) ChronoUnit.DAYS.between(from, end);
+            return prefix[endDay + 1] - prefix[startDay];
+        }
+    }
+
     private record RolloverPeriod(LocalDate start, LocalDate end) {
     }
 
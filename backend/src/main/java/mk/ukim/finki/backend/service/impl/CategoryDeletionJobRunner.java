@@ -0,0 +1,117 @@
+package mk.ukim.finki.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.jfr.BackgroundJobEvent;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.CategoryDeletionJobRepository;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.IncomeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Executes category deletion jobs.
+ * <p>
+ * Transactions of the deleted category are reassigned to the fallback category in chunks of
+ * {@code app.categories.deletion-chunk-size} rows, each chunk in its own transaction, so row locks
+ * are held only briefly. Every chunk re-selects the rows still pointing at the category, which makes
+ * a job safe to re-run after a crash: it simply continues with whatever is left.
+ * <p>
+ * Completion locks the category row first, so no further transaction can be written into it, and
+ * reassigns whatever was committed after the last chunk before the category is deleted.
+ */
+@Component
+@Slf4j
+public class CategoryDeletionJobRunner {
+
+    private final CategoryDeletionJobRepository jobRepository;
+    private final CategoryRepository categoryRepository;
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CategoryDeletionJobRunner(CategoryDeletionJobRepository jobRepository,
+                                     CategoryRepository categoryRepository,
+                                     ExpenseRepository expenseRepository,
+                                     IncomeRepository incomeRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.categories.deletion-chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.categoryRepository = categoryRepository;
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs a deletion job to completion. Jobs that are missing or already completed are ignored.
+     *
+     * @param jobId job id
+     */
+    public void run(UUID jobId) {
+        CategoryDeletionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != CategoryDeletionStatus.RUNNING) {
+            return;
+        }
+
+        BackgroundJobEvent event = new BackgroundJobEvent();
+        event.begin();
+        long reassigned = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> reassignChunk(job));
+            reassigned += chunk;
+        } while (chunk > 0);
+
+        transactionTemplate.executeWithoutResult(status -> complete(job));
+        event.commit("category-deletion", job.getId(), reassigned);
+
+        log.info("Category deletion job [{}] completed: category '{}', ID={}, {} transactions reassigned in this run",
+                job.getId(), job.getCategoryName(), job.getCategoryId(), reassigned);
+    }
+
+    private int reassignChunk(CategoryDeletionJob job) {
+        PageRequest page = PageRequest.ofSize(chunkSize);
+        boolean expense = job.getCategoryType() == CategoryType.EXPENSE;
+
+        List<UUID> ids = expense
+                ? expenseRepository.findIdsByCategoryId(job.getCategoryId(), page)
+                : incomeRepository.findIdsByCategoryId(job.getCategoryId(), page);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Category fallback = categoryRepository.getReferenceById(job.getFallbackCategoryId());
+        int moved = expense
+                ? expenseRepository.reassignCategory(ids, fallback)
+                : incomeRepository.reassignCategory(ids, fallback);
+
+        jobRepository.addReassignedTransactions(job.getId(), moved);
+        return moved;
+    }
+
+    private void complete(CategoryDeletionJob job) {
+        categoryRepository.findByIdForUpdate(job.getCategoryId());
+        // Picks up writes that resolved the category before it was marked as deleting
+        int chunk;
+        do {
+            chunk = reassignChunk(job);
+        } while (chunk > 0);
+        if (jobRepository.markCompleted(job.getId(), Instant.now()) == 1) {
+            categoryRepository.deleteById(job.getCategoryId());
+        }
+    }
+}
@@ -3,30 +3,44 @@ package mk.ukim.finki.backend.service.impl;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.CategoryDeletionRequestedEvent;
+import mk.ukim.finki.backend.exception.CategoryHierarchyException;
 import mk.ukim.finki.backend.exception.DuplicateCategoryNameException;
 import mk.ukim.finki.backend.exception.HiddenCategoryException;
 import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
 import mk.ukim.finki.backend.mapper.CategoryMapper;
+import mk.ukim.finki.backend.model.dto.category.CategoryDeletionJobDto;
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
+import mk.ukim.finki.backend.model.dto.category.CategoryUsageProjection;
 import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.HideCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.UpdateCategoryRequest;
 import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
 import mk.ukim.finki.backend.model.entity.HiddenCategory;
 import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
 import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.CategoryClosureRepository;
+import mk.ukim.finki.backend.repository.CategoryDeletionJobRepository;
 import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageRepository;
 import mk.ukim.finki.backend.repository.HiddenCategoryRepository;
 import mk.ukim.finki.backend.repository.ExpenseRepository;
 import mk.ukim.finki.backend.repository.IncomeRepository;
 import mk.ukim.finki.backend.service.CategoryService;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static mk.ukim.finki.backend.util.CategoryServiceMessages.*;
@@ -41,12 +55,18 @@ public class CategoryServiceImpl implements CategoryService {
     private final IncomeRepository incomeRepository;
     private final CategoryMapper categoryMapper;
     private final UserService userService;
+    private final CategoryCatalog categoryCatalog;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryDeletionJobRepository categoryDeletionJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryUsageRepository categoryUsageRepository;
 
     private static final UUID FALLBACK_EXPENSE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
     private static final UUID FALLBACK_INCOME_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
 
     private Category findCategoryOrThrow(UUID id) {
         return categoryRepository.findById(id)
+                .filter(category -> !category.isDeleting())
                 .orElseThrow(() -> new EntityNotFoundException(CATEGORY_NOT_FOUND));
     }
 
@@ -60,24 +80,88 @@ public class CategoryServiceImpl implements CategoryService {
         return (type == CategoryType.EXPENSE) ? FALLBACK_EXPENSE_ID : FALLBACK_INCOME_ID;
     }
 
+    /**
+     * Resolves the requested parent of a category: a visible system category or one of the user's own,
+     * of the same type.
+     */
+    private Category findParentOrThrow(UUID parentId, CategoryType type, User user) {
+        if (parentId == null) {
+            return null;
+        }
+
+        Category parent = findCategoryOrThrow(parentId);
+        if (!parent.isPredefined() && (parent.getUser() == null || !user.getId().equals(parent.getUser().getId())))
+            throw new UnauthorizedCategoryAccessException();
+
+        if (parent.getType() != type)
+            throw new CategoryHierarchyException(PARENT_TYPE_MISMATCH);
+
+        return parent;
+    }
+
+    /**
+     * Moves a category together with its whole subtree under a new parent (or to the top level).
+     */
+    private void moveSubtree(Category category, Category newParent) {
+        categoryClosureRepository.detachSubtree(category.getId());
+        if (newParent != null) {
+            categoryClosureRepository.attachSubtree(category.getId(), newParent.getId());
+        }
+        category.setParent(newParent);
+    }
+
+    private CategoryDeletionJobDto toDeletionJobDto(CategoryDeletionJob job) {
+        long total = job.getTotalTransactions();
+        long reassigned = Math.min(job.getReassignedTransactions(), total);
+        float progress = job.getStatus() == CategoryDeletionStatus.COMPLETED || total == 0
+                ? 100f
+                : reassigned * 100f / total;
+
+        return CategoryDeletionJobDto.builder()
+                .id(job.getId())
+                .categoryId(job.getCategoryId())
+                .categoryName(job.getCategoryName())
+                .status(job.getStatus())
+                .totalTransactions(total)
+                .reassignedTransactions(reassigned)
+                .progressPercentage(progress)
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<CategoryDto> getAllCategories(CategoryType type) {
         User user = userService.getCurrentUser();
 
-        Set<UUID> hiddenCategoriesIds = hiddenCategoryRepository.findByUser_Id(user.getId())
+        Map<UUID, CategoryUsageProjection> usageByCategory = categoryUsageRepository
+                .findByUserId(user.getId())
                 .stream()
-                .map(h -> h.getCategory().getId())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toMap(CategoryUsageProjection::getCategoryId, Function.identity()));
 
-        return categoryRepository.findVisibleByUserIdAndType(user.getId(), type)
+        return categoryCatalog.findVisible(user.getId(), type)
                 .stream()
                 .filter(category -> !category.getId().equals(FALLBACK_EXPENSE_ID) && !category.getId().equals(FALLBACK_INCOME_ID))
-                .filter(category -> !category.isPredefined() || !hiddenCategoriesIds.contains(category.getId()))
-                .map(categoryMapper::toDto)
+                .map(category -> toDtoWithUsage(category, usageByCategory.get(category.getId())))
                 .toList();
     }
 
+    /**
+     * Maps a category and attaches the user's usage statistics; categories without statistics have never been used.
+     */
+    private CategoryDto toDtoWithUsage(Category category, CategoryUsageProjection usage) {
+        CategoryDto dto = categoryMapper.toDto(category);
+        if (usage == null) {
+            dto.setLast30DaysTotal(BigDecimal.ZERO);
+        } else {
+            dto.setTransactionCount(usage.getTransactionCount());
+            dto.setLastUsedDate(usage.getLastUsedDate());
+            dto.setLast30DaysTotal(usage.getTrailingTotal());
+        }
+        return dto;
+    }
+
     @Transactional
     @Override
     public CategoryDto createCategory(CreateCategoryRequest request) {
@@ -87,8 +171,11 @@ public class CategoryServiceImpl implements CategoryService {
         if (categoryRepository.existsByUser_IdAndNameIgnoreCaseAndType(user.getId(), name, request.getType()))
             throw new DuplicateCategoryNameException(DUPLICATE_CATEGORY_CREATE);
 
+        Category parent = findParentOrThrow(request.getParentId(), request.getType(), user);
+
         Category category = Category.builder()
                 .user(user)
+                .parent(parent)
                 .name(name)
                 .type(request.getType())
                 .predefined(false)
@@ -97,6 +184,11 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
 
         categoryRepository.save(category);
+        categoryClosureRepository.insertSelf(category.getId());
+        if (parent != null) {
+            categoryClosureRepository.attachSubtree(category.getId(), parent.getId());
+        }
+        categoryCatalog.invalidate(user.getId());
 
         log.info("User [{}] created custom category '{}', type={}", user.getEmail(), name, request.getType());
 
@@ -110,18 +202,27 @@ public class CategoryServiceImpl implements CategoryService {
         String name = request.getName().trim();
         Category category = findCategoryOrThrow(id);
 
-        if (category.isPredefined() || !user.equals(category.getUser()))
-            throw new UnauthorizedCategoryAccessException();
+        assertOwnership(category, user);
 
         if (categoryRepository.existsByUser_IdAndNameIgnoreCaseAndType(user.getId(), name, category.getType())
                 && !category.getName().equalsIgnoreCase(name))
             throw new DuplicateCategoryNameException(DUPLICATE_CATEGORY_UPDATE);
 
+        UUID currentParentId = category.getParent() != null ? category.getParent().getId() : null;
+        if (!Objects.equals(currentParentId, request.getParentId())) {
+            Category parent = findParentOrThrow(request.getParentId(), category.getType(), user);
+            if (parent != null && (parent.getId().equals(category.getId())
+                    || categoryClosureRepository.isInSubtree(category.getId(), parent.getId())))
+                throw new CategoryHierarchyException(PARENT_CYCLE);
+            moveSubtree(category, parent);
+        }
+
         category.setName(name);
         category.setIcon(request.getIcon());
         category.setColorCode(request.getColorCode());
 
         categoryRepository.save(category);
+        categoryCatalog.invalidate(user.getId());
 
         log.info("User [{}] updated category ID [{}]: name '{}'", user.getEmail(), category.getId(), name);
 
@@ -130,7 +231,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Transactional
     @Override
-    public void deleteCategory(UUID id) {
+    public CategoryDeletionJobDto deleteCategory(UUID id) {
         User user = userService.getCurrentUser();
         Category category = findCategoryOrThrow(id);
         assertOwnership(category, user);
@@ -140,17 +241,45 @@ public class CategoryServiceImpl implements CategoryService {
         Category fallback = categoryRepository.findById(fallbackId)
                 .orElseThrow(() -> new EntityNotFoundException(FALLBACK_NOT_FOUND));
 
-        if (category.getType() == CategoryType.EXPENSE) {
-            expenseRepository.reassignCategory(category.getId(), fallback);
-        } else if (category.getType() == CategoryType.INCOME) {
-            incomeRepository.reassignCategory(category.getId(), fallback);
+        for (Category child : categoryRepository.findByParent_Id(category.getId())) {
+            moveSubtree(child, category.getParent());
         }
 
-        categoryRepository.delete(category);
+        long total = category.getType() == CategoryType.EXPENSE
+                ? expenseRepository.countByCategory_Id(category.getId())
+                : incomeRepository.countByCategory_Id(category.getId());
+
+        category.setDeleting(true);
+        categoryRepository.save(category);
+        categoryCatalog.invalidate(user.getId());
 
-        log.info("User [{}] deleted custom category '{}', ID={}, type={}. Transactions reassigned to '{}', fallback ID={}",
-                user.getEmail(), category.getName(), category.getId(), category.getType(),
+        CategoryDeletionJob job = categoryDeletionJobRepository.save(CategoryDeletionJob.builder()
+                .user(user)
+                .categoryId(category.getId())
+                .categoryName(category.getName())
+                .categoryType(category.getType())
+                .fallbackCategoryId(fallback.getId())
+                .status(CategoryDeletionStatus.RUNNING)
+                .totalTransactions(total)
+                .build());
+
+        eventPublisher.publishEvent(new CategoryDeletionRequestedEvent(job.getId()));
+
+        log.info("User [{}] requested deletion of custom category '{}', ID={}, type={}. {} transactions will be reassigned to '{}', fallback ID={}",
+                user.getEmail(), category.getName(), category.getId(), category.getType(), total,
                 fallback.getName(), fallback.getId());
+
+        return toDeletionJobDto(job);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CategoryDeletionJobDto getDeletionJob(UUID jobId) {
+        User user = userService.getCurrentUser();
+
+        return categoryDeletionJobRepository.findByIdAndUser(jobId, user)
+                .map(this::toDeletionJobDto)
+                .orElseThrow(() -> new EntityNotFoundException(DELETION_JOB_NOT_FOUND));
     }
 
     @Transactional
@@ -171,6 +300,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
 
         hiddenCategoryRepository.save(hiddenCategory);
+        categoryCatalog.invalidate(user.getId());
 
         log.info("User [{}] hid system category '{}', ID={}", user.getEmail(), category.getName(), category.getId());
     }
@@ -183,10 +313,11 @@ public class CategoryServiceImpl implements CategoryService {
         HiddenCategory hiddenCategory = hiddenCategoryRepository.findById(hiddenCategoryId)
                 .orElseThrow(() -> new EntityNotFoundException(HIDDEN_CATEGORY_NOT_FOUND));
 
-        if (!hiddenCategory.getUser().equals(user))
+        if (!hiddenCategory.getUser().getId().equals(user.getId()))
             throw new UnauthorizedCategoryAccessException();
 
         hiddenCategoryRepository.delete(hiddenCategory);
+        categoryCatalog.invalidate(user.getId());
 
         log.info("User [{}] unhid category '{}', ID={}", user.getEmail(), hiddenCategory.getCategory().getName(), hiddenCategory.getCategory().getId());
     }
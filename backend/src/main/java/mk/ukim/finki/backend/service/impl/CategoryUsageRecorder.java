@@ -0,0 +1,279 @@
+package mk.ukim.finki.backend.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.event.CategoryUsageChangedEvent;
+import mk.ukim.finki.backend.model.entity.CategoryUsage;
+import mk.ukim.finki.backend.model.entity.CategoryUsageDaily;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageDailyRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains category usage statistics in batches.
+ * <p>
+ * Committed transaction writes only merge their delta into an in-memory buffer, which never
+ * touches the database. The buffer is flushed every {@code app.categories.usage-flush-interval-ms}
+ * in one short transaction, so a burst of writes to the same category costs one update per
+ * category instead of one per transaction.
+ * <p>
+ * If the batch fails, each delta is retried in its own transaction, so one bad key cannot hold back
+ * the others. A delta that violates a constraint is dropped only if its category or user has been
+ * deleted in the meantime; otherwise another node inserted the first row for the same key concurrently,
+ * and the delta is applied again as an update. Deltas that fail for any other reason are put back for
+ * the next run, at most {@link #MAX_FLUSH_ATTEMPTS} times.
+ * <p>
+ * Trailing totals are kept as daily buckets, and each bucket's amount is added to the category's
+ * trailing total in the same transaction. Buckets older than {@link #TRAILING_DAYS} days are pruned
+ * once a day, and their amounts are subtracted from the trailing totals as they leave the window.
+ * <p>
+ * Every {@code app.categories.usage-reconcile-interval-ms} the statistics are recomputed from the
+ * transactions, so deltas that were dropped or lost on a crash do not leave them wrong for good.
+ */
+@Component
+@Slf4j
+public class CategoryUsageRecorder {
+
+    /**
+     * Length of the trailing window exposed as the category's recent total, in days.
+     */
+    public static final int TRAILING_DAYS = 30;
+
+    /**
+     * Number of failed flushes after which a delta is dropped instead of being put back.
+     */
+    public static final int MAX_FLUSH_ATTEMPTS = 5;
+
+    private interface BufferedKey {
+        UUID userId();
+
+        UUID categoryId();
+    }
+
+    private record UsageKey(UUID userId, UUID categoryId) implements BufferedKey {
+    }
+
+    private record DailyKey(UUID userId, UUID categoryId, LocalDate date) implements BufferedKey {
+    }
+
+    private record UsageDelta(long count, LocalDate lastUsedDate) {
+
+        UsageDelta merge(UsageDelta other) {
+            LocalDate latest = lastUsedDate == null
+                    || (other.lastUsedDate != null && other.lastUsedDate.isAfter(lastUsedDate))
+                    ? other.lastUsedDate : lastUsedDate;
+            return new UsageDelta(count + other.count, latest);
+        }
+    }
+
+    private final Map<UsageKey, UsageDelta> usageDeltas = new ConcurrentHashMap<>();
+    private final Map<DailyKey, BigDecimal> dailyDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * Failed flushes per buffered key, for keys whose last flush failed.
+     */
+    private final Map<Object, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private final CategoryUsageRepository usageRepository;
+    private final CategoryUsageDailyRepository dailyRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile LocalDate lastPrunedOn;
+
+    public CategoryUsageRecorder(CategoryUsageRepository usageRepository,
+                                 CategoryUsageDailyRepository dailyRepository,
+                                 UserRepository userRepository,
+                                 CategoryRepository categoryRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.usageRepository = usageRepository;
+        this.dailyRepository = dailyRepository;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Buffers a committed usage change until the next flush.
+     *
+     * @param event usage change of a single transaction
+     */
+    public void record(CategoryUsageChangedEvent event) {
+        LocalDate usedOn = event.transactionDelta() > 0 ? event.date() : null;
+        usageDeltas.merge(new UsageKey(event.userId(), event.categoryId()),
+                new UsageDelta(event.transactionDelta(), usedOn), UsageDelta::merge);
+
+        if (!event.date().isBefore(windowStart(LocalDate.now()))) {
+            dailyDeltas.merge(new DailyKey(event.userId(), event.categoryId(), event.date()),
+                    event.amount(), BigDecimal::add);
+        }
+    }
+
+    /**
+     * Writes all buffered deltas to the database.
+     */
+    @Scheduled(fixedDelayString = "${app.categories.usage-flush-interval-ms:5000}")
+    public void flush() {
+        Map<UsageKey, UsageDelta> usage = drain(usageDeltas);
+        Map<DailyKey, BigDecimal> daily = drain(dailyDeltas);
+        LocalDate today = LocalDate.now();
+        // Buffered before midnight, but already outside the window the prune below keeps
+        daily.keySet().removeIf(key -> key.date().isBefore(windowStart(today)));
+        boolean prune = !today.equals(lastPrunedOn);
+
+        if (usage.isEmpty() && daily.isEmpty() && !prune) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                usage.forEach(this::applyUsage);
+                daily.forEach(this::applyDaily);
+                if (prune) {
+                    usageRepository.rollOffOlderThan(windowStart(today));
+                    dailyRepository.deleteOlderThan(windowStart(today));
+                }
+            });
+            if (prune) {
+                lastPrunedOn = today;
+            }
+            if (!failedAttempts.isEmpty()) {
+                usage.keySet().forEach(failedAttempts::remove);
+                daily.keySet().forEach(failedAttempts::remove);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Flushing {} category usage deltas failed, applying them one at a time",
+                    usage.size() + daily.size(), e);
+            usage.forEach((key, delta) -> applySeparately(key, () -> applyUsage(key, delta),
+                    () -> usageDeltas.merge(key, delta, UsageDelta::merge)));
+            daily.forEach((key, amount) -> applySeparately(key, () -> applyDaily(key, amount),
+                    () -> dailyDeltas.merge(key, amount, BigDecimal::add)));
+        }
+    }
+
+    /**
+     * Recomputes all usage statistics from the transactions. Buffered deltas are flushed first, so
+     * they are not applied on top of counts that already include their transactions.
+     */
+    @Scheduled(fixedDelayString = "${app.categories.usage-reconcile-interval-ms:86400000}",
+            initialDelayString = "${app.categories.usage-reconcile-interval-ms:86400000}")
+    public void reconcile() {
+        flush();
+        Integer reconciled = transactionTemplate.execute(status -> usageRepository.reconcileAll());
+        log.info("Reconciled usage statistics of {} categories", reconciled);
+    }
+
+    /**
+     * Flushes whatever is still buffered when the application shuts down.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Returns the number of deltas waiting for the next flush.
+     *
+     * @return buffered usage and daily deltas
+     */
+    public int pendingDeltas() {
+        return usageDeltas.size() + dailyDeltas.size();
+    }
+
+    /**
+     * Returns the first day of the trailing window ending on the given day.
+     *
+     * @param today last day of the window
+     * @return first day of the window (inclusive)
+     */
+    public static LocalDate windowStart(LocalDate today) {
+        return today.minusDays(TRAILING_DAYS - 1);
+    }
+
+    /**
+     * Applies a single delta in its own transaction. A constraint violation drops the delta if its category
+     * or user is gone, and retries it once otherwise; other failures put it back until it has failed
+     * {@link #MAX_FLUSH_ATTEMPTS} times.
+     */
+    private void applySeparately(BufferedKey key, Runnable apply, Runnable putBack) {
+        try {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply.run());
+            } catch (DataIntegrityViolationException e) {
+                if (!userRepository.existsById(key.userId()) || !categoryRepository.existsById(key.categoryId())) {
+                    failedAttempts.remove(key);
+                    log.warn("Dropping category usage delta {}, its category or user no longer exists: {}",
+                            key, e.getMostSpecificCause().getMessage());
+                    return;
+                }
+                // Lost the race to insert the first row for this key; the row exists now, so this updates it
+                transactionTemplate.executeWithoutResult(status -> apply.run());
+            }
+            failedAttempts.remove(key);
+        } catch (RuntimeException e) {
+            int attempts = failedAttempts.merge(key, 1, Integer::sum);
+            if (attempts >= MAX_FLUSH_ATTEMPTS) {
+                failedAttempts.remove(key);
+                log.error("Dropping category usage delta {} after {} failed flushes", key, attempts, e);
+            } else {
+                putBack.run();
+            }
+        }
+    }
+
+    private void applyUsage(UsageKey key, UsageDelta delta) {
+        int updated = usageRepository.applyDelta(key.userId(), key.categoryId(), delta.count(), delta.lastUsedDate());
+        if (updated == 0) {
+            usageRepository.save(CategoryUsage.builder()
+                    .user(userRepository.getReferenceById(key.userId()))
+                    .category(categoryRepository.getReferenceById(key.categoryId()))
+                    .transactionCount(Math.max(delta.count(), 0))
+                    .lastUsedDate(delta.lastUsedDate())
+                    .build());
+        }
+    }
+
+    private void applyDaily(DailyKey key, BigDecimal amount) {
+        int updated = dailyRepository.addAmount(key.userId(), key.categoryId(), key.date(), amount);
+        if (updated == 0) {
+            dailyRepository.save(CategoryUsageDaily.builder()
+                    .user(userRepository.getReferenceById(key.userId()))
+                    .category(categoryRepository.getReferenceById(key.categoryId()))
+                    .date(key.date())
+                    .amount(amount)
+                    .build());
+        }
+        if (usageRepository.addTrailingAmount(key.userId(), key.categoryId(), amount) == 0) {
+            usageRepository.save(CategoryUsage.builder()
+                    .user(userRepository.getReferenceById(key.userId()))
+                    .category(categoryRepository.getReferenceById(key.categoryId()))
+                    .trailingTotal(amount)
+                    .build());
+        }
+    }
+
+    private static <K, V> Map<K, V> drain(Map<K, V> buffer) {
+        Map<K, V> drained = new HashMap<>();
+        for (K key : buffer.keySet()) {
+            V value = buffer.remove(key);
+            if (value != null) {
+                drained.put(key, value);
+            }
+        }
+        return drained;
+    }
+}
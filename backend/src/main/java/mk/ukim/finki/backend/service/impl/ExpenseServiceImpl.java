@@ -2,16 +2,18 @@ package mk.ukim.finki.backend.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
 import mk.ukim.finki.backend.mapper.ExpenseMapper;
+import mk.ukim.finki.backend.metrics.ApplicationMetrics;
 import mk.ukim.finki.backend.model.dto.transaction.ExpenseDto;
 import mk.ukim.finki.backend.model.dto.transaction.ExpenseRequest;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Expense;
 import mk.ukim.finki.backend.model.entity.User;
-import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.repository.ExpenseRepository;
 import mk.ukim.finki.backend.service.ExpenseService;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,10 +34,11 @@ public class ExpenseServiceImpl extends AbstractTransactionService<Expense> impl
     private final ExpenseMapper expenseMapper;
 
     public ExpenseServiceImpl(ExpenseRepository expenseRepository,
-                              CategoryRepository categoryRepository,
+                              CategoryCatalog categoryCatalog,
                               ExpenseMapper expenseMapper,
-                              UserService userService) {
-        super(categoryRepository, userService);
+                              UserService userService,
+                              ApplicationEventPublisher eventPublisher) {
+        super(categoryCatalog, userService, eventPublisher);
         this.expenseRepository = expenseRepository;
         this.expenseMapper = expenseMapper;
     }
@@ -65,7 +68,7 @@ public class ExpenseServiceImpl extends AbstractTransactionService<Expense> impl
     @Transactional
     public ExpenseDto create(ExpenseRequest request) {
         User user = userService.getCurrentUser();
-        Category category = findCategoryOrThrow(request.getCategoryId());
+        Category category = findCategoryOrThrow(request.getCategoryId(), user);
         validateCategoryOwnership(category, user);
 
         Expense expense = Expense.builder()
@@ -77,6 +80,8 @@ public class ExpenseServiceImpl extends AbstractTransactionService<Expense> impl
                 .build();
 
         expenseRepository.save(expense);
+        publishUsageChange(expense, 1);
+        ApplicationMetrics.transactionWritten("expense", "create");
 
         log.info("User [{}] created an expense: amount={}, category={}, date={}",
                 user.getEmail(), expense.getAmount(), category.getName(), expense.getDate());
@@ -92,15 +97,18 @@ public class ExpenseServiceImpl extends AbstractTransactionService<Expense> impl
                 .orElseThrow(() -> new EntityNotFoundException(EXPENSE_NOT_FOUND));
         validateOwnership(expense, user);
 
-        Category category = findCategoryOrThrow(request.getCategoryId());
+        Category category = findCategoryOrThrow(request.getCategoryId(), user);
         validateCategoryOwnership(category, user);
 
+        publishUsageChange(expense, -1);
         expense.setAmount(request.getAmount());
         expense.setCategory(category);
         expense.setDate(request.getDate());
         expense.setDescription(request.getDescription());
 
         expenseRepository.save(expense);
+        publishUsageChange(expense, 1);
+        ApplicationMetrics.transactionWritten("expense", "update");
 
         log.info("User [{}] updated expense ID [{}]: amount={}, category={}, date={}",
                 user.getEmail(), id, expense.getAmount(), category.getName(), expense.getDate());
@@ -117,6 +125,8 @@ public class ExpenseServiceImpl extends AbstractTransactionService<Expense> impl
         validateOwnership(expense, user);
 
         expenseRepository.delete(expense);
+        publishUsageChange(expense, -1);
+        ApplicationMetrics.transactionWritten("expense", "delete");
 
         log.info("User [{}] deleted expense ID [{}], amount={}, category={}, date={}",
                 user.getEmail(), id, expense.getAmount(), expense.getCategory().getName(), expense.getDate());
@@ -2,6 +2,10 @@ package mk.ukim.finki.backend.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.jfr.PdfRenderingEvent;
+import mk.ukim.finki.backend.metrics.ApplicationMetrics;
+import mk.ukim.finki.backend.metrics.RequestTiming;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto;
 import mk.ukim.finki.backend.model.dto.report.*;
 import mk.ukim.finki.backend.model.entity.Budget;
 import mk.ukim.finki.backend.model.entity.SavingGoal;
@@ -16,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
@@ -38,6 +43,60 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     @Override
     public FinancialReportDto generateDashboard(LocalDate from, LocalDate to) {
         log.info("Generating dashboard for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("dashboard");
+        RequestTiming timing = RequestTiming.enter(RequestTiming.REPORT);
+        try {
+            return buildDashboard(from, to);
+        } finally {
+            RequestTiming.exit(timing);
+        }
+    }
+
+    @Override
+    public FinancialReportDto generateReport(LocalDate from, LocalDate to) {
+        log.info("Generating detailed report for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("report");
+        return timedReport(from, to);
+    }
+
+    @Override
+    public byte[] exportToPdf(LocalDate from, LocalDate to) {
+        log.info("Exporting PDF report for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("pdf");
+        try {
+            FinancialReportDto report = timedReport(from, to);
+            RequestTiming timing = RequestTiming.enter(RequestTiming.PDF);
+            PdfRenderingEvent event = new PdfRenderingEvent();
+            event.begin();
+            byte[] pdf;
+            try {
+                pdf = PdfExportUtil.generateReportPdf(report);
+            } finally {
+                RequestTiming.exit(timing);
+            }
+            event.commit(report.getExpenseByCategory().size() + report.getIncomeByCategory().size(),
+                    report.getBudgets().size(), report.getSavingGoals().size(), pdf.length);
+            ApplicationMetrics.pdfExported(pdf.length);
+            return pdf;
+        } catch (Exception e) {
+            log.error("PDF generation failed for period {} to {}", from, to, e);
+            throw new RuntimeException(ReportConstants.ERROR_PDF_GENERATION_FAILED, e);
+        }
+    }
+
+    /**
+     * Builds the detailed report, charged to the {@code report} phase of the request timing.
+     */
+    private FinancialReportDto timedReport(LocalDate from, LocalDate to) {
+        RequestTiming timing = RequestTiming.enter(RequestTiming.REPORT);
+        try {
+            return buildReport(from, to);
+        } finally {
+            RequestTiming.exit(timing);
+        }
+    }
+
+    private FinancialReportDto buildDashboard(LocalDate from, LocalDate to) {
         validateDateRange(from, to);
 
         User user = userService.getCurrentUser();
@@ -70,10 +129,8 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                 .build();
     }
 
-    @Override
-    public FinancialReportDto generateReport(LocalDate from, LocalDate to) {
-        log.info("Generating detailed report for period: {} to {}", from, to);
-        FinancialReportDto report = generateDashboard(from, to);
+    private FinancialReportDto buildReport(LocalDate from, LocalDate to) {
+        FinancialReportDto report = buildDashboard(from, to);
 
         User user = userService.getCurrentUser();
         report.setBudgets(mapBudgets(user, from, to));
@@ -82,21 +139,10 @@ public class FinancialReportServiceImpl implements FinancialReportService {
         return report;
     }
 
-    @Override
-    public byte[] exportToPdf(LocalDate from, LocalDate to) {
-        log.info("Exporting PDF report for period: {} to {}", from, to);
-        try {
-            FinancialReportDto report = generateReport(from, to);
-            return PdfExportUtil.generateReportPdf(report);
-        } catch (Exception e) {
-            log.error("PDF generation failed for period {} to {}", from, to, e);
-            throw new RuntimeException(ReportConstants.ERROR_PDF_GENERATION_FAILED, e);
-        }
-    }
-
     @Override
     public List<MonthlyTrendDto> getMonthlyTrends(LocalDate from, LocalDate to) {
         log.info("Generating monthly trends for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("trends");
         validateDateRange(from, to);
 
         User user = userService.getCurrentUser();
@@ -142,6 +188,7 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     @Override
     public CategoryBreakdownDto getCategoryBreakdown(LocalDate from, LocalDate to, String type) {
         log.info("Generating category breakdown for type: {}, period: {} to {}", type, from, to);
+        ApplicationMetrics.reportGenerated("category-breakdown");
         validateDateRange(from, to);
 
         User user = userService.getCurrentUser();
@@ -170,6 +217,7 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     @Override
     public BudgetPerformanceDto getBudgetPerformance(LocalDate from, LocalDate to) {
         log.info("Generating budget performance report for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("budget-performance");
         User user = userService.getCurrentUser();
 
         List<BudgetReportDto> budgets = mapBudgets(user, from, to);
@@ -191,6 +239,7 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     @Override
     public QuickStatsDto getQuickStats(LocalDate from, LocalDate to) {
         log.info("Generating quick stats for period: {} to {}", from, to);
+        ApplicationMetrics.reportGenerated("quick-stats");
         validateDateRange(from, to);
 
         User user = userService.getCurrentUser();
@@ -220,7 +269,8 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     @Override
     public byte[] exportToCsv(LocalDate from, LocalDate to) {
         log.info("Exporting CSV report for period: {} to {}", from, to);
-        FinancialReportDto report = generateReport(from, to);
+        ApplicationMetrics.reportGenerated("csv");
+        FinancialReportDto report = timedReport(from, to);
 
         StringBuilder csv = new StringBuilder();
         csv.append(ReportConstants.CSV_HEADER);
@@ -294,10 +344,18 @@ public class FinancialReportServiceImpl implements FinancialReportService {
      * @return list of budget report DTOs
      */
     private List<BudgetReportDto> mapBudgets(User user, LocalDate from, LocalDate to) {
-        return budgetRepository.findByUserOrderByStartDateDesc(user).stream()
+        List<Budget> budgets = budgetRepository.findByUserOrderByStartDateDesc(user).stream()
                 .filter(budget -> isBudgetRelevantForReport(budget, from, to))
+                .toList();
+        if (budgets.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, BigDecimal> spentByBudget = budgetRepository.sumSpentPerBudgetWithin(user, from, to).stream()
+                .collect(Collectors.toMap(BudgetSpendingDto::getBudgetId, BudgetSpendingDto::getSpent));
+
+        return budgets.stream()
                 .map(budget -> {
-                    BigDecimal spent = calculateBudgetSpending(user, budget, from, to);
+                    BigDecimal spent = spentByBudget.getOrDefault(budget.getId(), BigDecimal.ZERO);
                     float progress = calculateProgressPercentage(spent, budget.getAmount());
 
                     return BudgetReportDto.builder()
@@ -318,6 +376,9 @@ public class FinancialReportServiceImpl implements FinancialReportService {
      * @return list of saving goal report DTOs
      */
     private List<SavingGoalReportDto> mapSavingGoals(User user) {
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now();
+
         return savingGoalRepository.findByUserOrderByCreatedAtDesc(user).stream()
                 .map(goal -> {
                     float progress = calculateProgressPercentage(goal.getCurrentAmount(), goal.getTargetAmount());
@@ -328,6 +389,9 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                             .currentAmount(goal.getCurrentAmount())
                             .progressPercentage(progress)
                             .achieved(goal.isAchieved())
+                            .deadline(goal.getDeadline())
+                            .projectedCompletionDate(goal.projectCompletionDate(now))
+                            .requiredMonthlyContribution(goal.requiredMonthlyContribution(today))
                             .build();
                 })
                 .toList();
@@ -346,22 +410,6 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                 !budget.getStartDate().isAfter(reportTo);
     }
 
-    /**
-     * Calculates spending for a budget within the relevant period.
-     *
-     * @param user       the user
-     * @param budget     the budget
-     * @param reportFrom report start date
-     * @param reportTo   report end date
-     * @return total spent amount
-     */
-    private BigDecimal calculateBudgetSpending(User user, Budget budget, LocalDate reportFrom, LocalDate reportTo) {
-        LocalDate effectiveFrom = reportFrom.isAfter(budget.getStartDate()) ? reportFrom : budget.getStartDate();
-        LocalDate effectiveTo = reportTo.isBefore(budget.getEndDate()) ? reportTo : budget.getEndDate();
-
-        return budgetRepository.sumSpentByBudget(user, budget.getCategory(), effectiveFrom, effectiveTo);
-    }
-
     /**
      * Calculates progress percentage.
      *
@@ -0,0 +1,151 @@
+package mk.ukim.finki.backend.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.exception.FlightRecordingException;
+import mk.ukim.finki.backend.model.dto.diagnostics.FlightRecordingDto;
+import mk.ukim.finki.backend.service.FlightRecordingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import static mk.ukim.finki.backend.util.FlightRecordingMessages.*;
+
+/**
+ * Service implementation for on-demand flight recordings.
+ * <p>
+ * Recordings use the JDK's {@code app.jfr.settings} configuration ({@code profile} by default), which
+ * also enables the application's own events in the {@code FinTrack} category. Data is written to a
+ * temporary file once the recording stops, either when its time box ends or on request.
+ */
+@Service
+@Slf4j
+public class FlightRecordingServiceImpl implements FlightRecordingService {
+
+    private final String settings;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+
+    private Recording recording;
+    private Path file;
+
+    public FlightRecordingServiceImpl(@Value("${app.jfr.settings:profile}") String settings,
+                                      @Value("${app.jfr.default-duration-seconds:60}") long defaultDurationSeconds,
+                                      @Value("${app.jfr.max-duration-seconds:900}") long maxDurationSeconds) {
+        this.settings = settings;
+        this.defaultDuration = Duration.ofSeconds(defaultDurationSeconds);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+    }
+
+    @Override
+    public synchronized FlightRecordingDto start(Integer durationSeconds) {
+        if (isRunning()) {
+            throw new FlightRecordingException(RECORDING_ALREADY_RUNNING);
+        }
+        Duration duration = durationSeconds != null ? Duration.ofSeconds(Math.max(durationSeconds, 1)) : defaultDuration;
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+
+        discard();
+        try {
+            file = Files.createTempFile("fintrack-", ".jfr");
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("fintrack-on-demand");
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDuration(duration);
+            recording.start();
+        } catch (IOException | ParseException e) {
+            discard();
+            throw new IllegalStateException(RECORDING_FAILED, e);
+        }
+
+        log.info("Started flight recording for {} seconds with '{}' settings", duration.toSeconds(), settings);
+        return toDto();
+    }
+
+    @Override
+    public synchronized FlightRecordingDto stop() {
+        if (!isRunning()) {
+            throw new FlightRecordingException(RECORDING_NOT_RUNNING);
+        }
+        recording.stop();
+
+        log.info("Stopped flight recording");
+        return toDto();
+    }
+
+    @Override
+    public synchronized FlightRecordingDto getStatus() {
+        if (recording == null) {
+            throw new EntityNotFoundException(RECORDING_NOT_FOUND);
+        }
+        return toDto();
+    }
+
+    @Override
+    public synchronized Path getRecordingFile() {
+        if (recording == null) {
+            throw new EntityNotFoundException(RECORDING_NOT_FOUND);
+        }
+        if (isRunning()) {
+            throw new FlightRecordingException(RECORDING_STILL_RUNNING);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        discard();
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete flight recording file {}", file, e);
+            }
+            file = null;
+        }
+    }
+
+    private boolean isRunning() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    private FlightRecordingDto toDto() {
+        return FlightRecordingDto.builder()
+                .state(recording.getState().name())
+                .startTime(recording.getStartTime())
+                .durationSeconds(recording.getDuration().toSeconds())
+                .sizeBytes(size())
+                .build();
+    }
+
+    private long size() {
+        if (isRunning()) {
+            return recording.getSize();
+        }
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
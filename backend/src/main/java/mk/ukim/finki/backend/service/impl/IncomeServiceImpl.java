@@ -2,16 +2,19 @@ package mk.ukim.finki.backend.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
 import mk.ukim.finki.backend.mapper.IncomeMapper;
+import mk.ukim.finki.backend.metrics.ApplicationMetrics;
 import mk.ukim.finki.backend.model.dto.transaction.IncomeDto;
 import mk.ukim.finki.backend.model.dto.transaction.IncomeRequest;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Income;
 import mk.ukim.finki.backend.model.entity.User;
-import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.repository.IncomeRepository;
 import mk.ukim.finki.backend.service.IncomeService;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,10 +35,11 @@ public class IncomeServiceImpl extends AbstractTransactionService<Income> implem
     private final IncomeMapper incomeMapper;
 
     public IncomeServiceImpl(IncomeRepository incomeRepository,
-                             CategoryRepository categoryRepository,
+                             CategoryCatalog categoryCatalog,
                              IncomeMapper incomeMapper,
-                             UserService userService) {
-        super(categoryRepository, userService);
+                             UserService userService,
+                             ApplicationEventPublisher eventPublisher) {
+        super(categoryCatalog, userService, eventPublisher);
         this.incomeRepository = incomeRepository;
         this.incomeMapper = incomeMapper;
     }
@@ -66,7 +70,7 @@ public class IncomeServiceImpl extends AbstractTransactionService<Income> implem
     public IncomeDto create(IncomeRequest request) {
         User user = userService.getCurrentUser();
 
-        Category category = findCategoryOrThrow(request.getCategoryId());
+        Category category = findCategoryOrThrow(request.getCategoryId(), user);
         validateCategoryOwnership(category, user);
 
         Income income = Income.builder()
@@ -78,6 +82,10 @@ public class IncomeServiceImpl extends AbstractTransactionService<Income> implem
                 .build();
 
         incomeRepository.save(income);
+        publishUsageChange(income, 1);
+        eventPublisher.publishEvent(
+                new IncomeCreatedEvent(user.getId(), income.getId(), category.getId(), income.getAmount()));
+        ApplicationMetrics.transactionWritten("income", "create");
 
         log.info("User [{}] created an income: amount={}, category={}, date={}",
                 user.getEmail(), income.getAmount(), category.getName(), income.getDate());
@@ -93,15 +101,18 @@ public class IncomeServiceImpl extends AbstractTransactionService<Income> implem
                 .orElseThrow(() -> new EntityNotFoundException(INCOME_NOT_FOUND));
         validateOwnership(income, user);
 
-        Category category = findCategoryOrThrow(request.getCategoryId());
+        Category category = findCategoryOrThrow(request.getCategoryId(), user);
         validateCategoryOwnership(category, user);
 
+        publishUsageChange(income, -1);
         income.setAmount(request.getAmount());
         income.setCategory(category);
         income.setDate(request.getDate());
         income.setDescription(request.getDescription());
 
         incomeRepository.save(income);
+        publishUsageChange(income, 1);
+        ApplicationMetrics.transactionWritten("income", "update");
 
         log.info("User [{}] updated income ID [{}]: amount={}, category={}, date={}",
                 user.getEmail(), id, income.getAmount(), category.getName(), income.getDate());
@@ -118,6 +129,8 @@ public class IncomeServiceImpl extends AbstractTransactionService<Income> implem
         validateOwnership(income, user);
 
         incomeRepository.delete(income);
+        publishUsageChange(income, -1);
+        ApplicationMetrics.transactionWritten("income", "delete");
 
         log.info("User [{}] deleted income ID [{}], amount={}, category={}, date={}",
                 user.getEmail(), id, income.getAmount(), income.getCategory().getName(), income.getDate());
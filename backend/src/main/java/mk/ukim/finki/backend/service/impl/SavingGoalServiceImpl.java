@@ -15,10 +15,16 @@ import mk.ukim.finki.backend.repository.GoalContributionRepository;
 import mk.ukim.finki.backend.repository.SavingGoalRepository;
 import mk.ukim.finki.backend.service.SavingGoalService;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -39,6 +45,8 @@ public class SavingGoalServiceImpl implements SavingGoalService {
     private final SavingGoalMapper savingGoalMapper;
     private final GoalContributionMapper goalContributionMapper;
 
+    private static final int MAX_CONTRIBUTION_PAGE_SIZE = 100;
+
     /**
      * Validates business rules for updating a saving goal.
      * Ensures the new target amount is not less than the already saved amount.
@@ -54,16 +62,18 @@ public class SavingGoalServiceImpl implements SavingGoalService {
     }
 
     /**
-     * Validates that a withdrawal amount does not exceed the current saved amount.
+     * Weights a contribution amount for the goal's exponentially weighted velocity.
+     * Only the goal's creation time is read, so the goal itself is loaded once, after the atomic update.
      *
-     * @param savingGoal the saving goal to withdraw from
-     * @param amount     the amount to withdraw
-     * @throws SavingGoalValidationException if the current amount is less than the requested withdrawal
+     * @param id     the saving goal receiving the contribution
+     * @param user   the owner of the goal
+     * @param amount the contribution amount
+     * @return forward-decay weighted amount
      */
-    private void validateWithdrawal(SavingGoal savingGoal, BigDecimal amount) {
-        if (savingGoal.getCurrentAmount().compareTo(amount) < 0) {
-            throw new SavingGoalValidationException(WITHDRAW_NOT_ENOUGH);
-        }
+    private double weightedAmount(UUID id, User user, BigDecimal amount) {
+        Instant createdAt = savingGoalRepository.findCreatedAtByIdAndUser(id, user)
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
+        return amount.doubleValue() * SavingGoal.contributionWeight(createdAt, Instant.now());
     }
 
     @Override
@@ -146,8 +156,14 @@ public class SavingGoalServiceImpl implements SavingGoalService {
     @Transactional
     public SavingGoalDto addContribution(UUID id, GoalContributionRequest request) {
         User user = userService.getCurrentUser();
+        double weight = weightedAmount(id, user, request.getAmount());
+
+        if (savingGoalRepository.deposit(id, user, request.getAmount(), weight) == 0) {
+            throw new EntityNotFoundException(SAVING_GOAL_NOT_FOUND);
+        }
+
         SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(id, user)
-                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));  // ✅ Use constant
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
 
         GoalContribution contribution = GoalContribution.builder()
                 .savingGoal(savingGoal)
@@ -156,10 +172,6 @@ public class SavingGoalServiceImpl implements SavingGoalService {
                 .build();
         goalContributionRepository.save(contribution);
 
-        savingGoal.setCurrentAmount(savingGoal.getCurrentAmount().add(request.getAmount()));
-        savingGoal.updateAchievedStatus();
-        savingGoalRepository.save(savingGoal);
-
         log.info("User [{}] contributed {} to saving goal [{}] (current={})",
                 user.getEmail(), request.getAmount(), savingGoal.getId(), savingGoal.getCurrentAmount());
 
@@ -170,10 +182,14 @@ public class SavingGoalServiceImpl implements SavingGoalService {
     @Transactional
     public SavingGoalDto withdrawContribution(UUID id, GoalContributionRequest request) {
         User user = userService.getCurrentUser();
-        SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(id, user)
-                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));  // ✅ Use constant
+        double weight = weightedAmount(id, user, request.getAmount());
 
-        validateWithdrawal(savingGoal, request.getAmount());
+        if (savingGoalRepository.withdraw(id, user, request.getAmount(), weight) == 0) {
+            throw new SavingGoalValidationException(WITHDRAW_NOT_ENOUGH);
+        }
+
+        SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(id, user)
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
 
         GoalContribution contribution = GoalContribution.builder()
                 .savingGoal(savingGoal)
@@ -182,10 +198,6 @@ public class SavingGoalServiceImpl implements SavingGoalService {
                 .build();
         goalContributionRepository.save(contribution);
 
-        savingGoal.setCurrentAmount(savingGoal.getCurrentAmount().subtract(request.getAmount()));
-        savingGoal.updateAchievedStatus();
-        savingGoalRepository.save(savingGoal);
-
         log.info("User [{}] withdrew {} from saving goal [{}] (current={})",
                 user.getEmail(), request.getAmount(), savingGoal.getId(), savingGoal.getCurrentAmount());
 
@@ -194,15 +206,83 @@ public class SavingGoalServiceImpl implements SavingGoalService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<GoalContributionDto> getContributions(UUID savingGoalId) {
+    public GoalContributionPageDto getContributions(UUID savingGoalId, String cursor, int limit) {
         User user = userService.getCurrentUser();
 
         SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(savingGoalId, user)
-                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));  // ✅ Use constant
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_CONTRIBUTION_PAGE_SIZE));
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<GoalContribution> contributions;
+        if (cursor == null || cursor.isBlank()) {
+            contributions = goalContributionRepository.findBySavingGoalOrderByCreatedAtDescIdDesc(savingGoal, fetchLimit);
+        } else {
+            ContributionCursor position = ContributionCursor.decode(cursor);
+            contributions = goalContributionRepository.findPageBefore(
+                    savingGoal, position.createdAt(), position.id(), fetchLimit);
+        }
 
-        return goalContributionRepository.findBySavingGoalOrderByCreatedAtDesc(savingGoal)
-                .stream()
-                .map(goalContributionMapper::toDto)
-                .collect(Collectors.toList());
+        boolean hasMore = contributions.size() > pageSize;
+        List<GoalContribution> page = hasMore ? contributions.subList(0, pageSize) : contributions;
+
+        return GoalContributionPageDto.builder()
+                .items(page.stream().map(goalContributionMapper::toDto).toList())
+                .nextCursor(hasMore ? ContributionCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlyContributionDto> getMonthlyContributionHistory(UUID savingGoalId) {
+        User user = userService.getCurrentUser();
+
+        SavingGoal savingGoal = savingGoalRepository.findByIdAndUser(savingGoalId, user)
+                .orElseThrow(() -> new EntityNotFoundException(SAVING_GOAL_NOT_FOUND));
+
+        List<MonthlyContributionDto> history = new ArrayList<>();
+        BigDecimal balance = BigDecimal.ZERO;
+
+        for (MonthlyContributionProjection month : goalContributionRepository.findMonthlyTotals(savingGoal)) {
+            balance = balance.add(month.getDeposits()).subtract(month.getWithdrawals());
+            history.add(MonthlyContributionDto.builder()
+                    .period(YearMonth.of(month.getYear(), month.getMonth()))
+                    .deposits(month.getDeposits())
+                    .withdrawals(month.getWithdrawals())
+                    .balance(balance)
+                    .build());
+        }
+        return history;
+    }
+
+    /**
+     * Keyset position of a contribution, exchanged with clients as an opaque URL-safe string.
+     */
+    private record ContributionCursor(Instant createdAt, UUID id) {
+
+        private static final String SEPARATOR = "|";
+
+        static ContributionCursor of(GoalContribution contribution) {
+            return new ContributionCursor(contribution.getCreatedAt(), contribution.getId());
+        }
+
+        static ContributionCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(SEPARATOR);
+                return new ContributionCursor(
+                        Instant.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new SavingGoalValidationException(INVALID_CONTRIBUTION_CURSOR);
+            }
+        }
+
+        String encode() {
+            String raw = createdAt + SEPARATOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
@@ -6,7 +6,9 @@ import mk.ukim.finki.backend.model.dto.auth.UserRegistrationDto;
 import mk.ukim.finki.backend.model.entity.User;
 import mk.ukim.finki.backend.model.enums.UserRole;
 import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.AuthenticatedUser;
 import mk.ukim.finki.backend.service.UserService;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,6 +16,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * Default implementation of UserService.
  */
@@ -59,8 +63,28 @@ public class UserServiceImpl implements UserService {
             throw new UsernameNotFoundException("No authenticated user found");
         }
 
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.toUser();
+        }
+
         String email = authentication.getName();
-        return findByEmail(email);
+        User user = findByEmail(email);
+        rememberCurrentUser(authentication, user);
+        return user;
+    }
+
+    /**
+     * Replaces the authentication of the current request with one whose principal carries the resolved user,
+     * so later lookups in the same request, including async tasks it started, need no query.
+     * The security context is cleared at the end of each request, which bounds the memoization to the request.
+     */
+    private void rememberCurrentUser(Authentication authentication, User user) {
+        UsernamePasswordAuthenticationToken resolved = UsernamePasswordAuthenticationToken.authenticated(
+                new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole()),
+                authentication.getCredentials(),
+                authentication.getAuthorities());
+        resolved.setDetails(authentication.getDetails());
+        SecurityContextHolder.getContext().setAuthentication(resolved);
     }
 
     @Override
@@ -68,4 +92,9 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
+
+    @Override
+    public boolean existsById(UUID userId) {
+        return userRepository.existsById(userId);
+    }
 }
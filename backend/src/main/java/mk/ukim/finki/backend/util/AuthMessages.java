@@ -0,0 +1,16 @@
+package mk.ukim.finki.backend.util;
+
+public final class AuthMessages {
+    public static final String INVALID_CREDENTIALS = "Invalid credentials";
+
+    public static final String LOGIN_RATE_LIMITED = "Too many login attempts, please try again later";
+
+    public static final String PASSWORD_HASHING_BUSY = "The server is busy, please try again shortly";
+
+    public static final String REQUEST_BUDGET_EXCEEDED = "Too many expensive requests, please try again later";
+
+    public static final String INVALID_REFRESH_TOKEN = "Invalid or expired refresh token";
+
+    private AuthMessages() {
+    }
+}
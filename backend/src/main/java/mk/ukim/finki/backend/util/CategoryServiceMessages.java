@@ -11,4 +11,7 @@ public final class CategoryServiceMessages {
     public static final String HIDE_NON_SYSTEM = "You can only hide system categories";
     public static final String ALREADY_HIDDEN = "Already hidden";
     public static final String HIDDEN_CATEGORY_NOT_FOUND = "Hidden category not found";
+    public static final String PARENT_TYPE_MISMATCH = "Parent category must have the same type";
+    public static final String PARENT_CYCLE = "A category cannot be placed under itself or one of its subcategories";
+    public static final String DELETION_JOB_NOT_FOUND = "Category deletion job not found";
 }
@@ -0,0 +1,16 @@
+package mk.ukim.finki.backend.util;
+
+public final class FlightRecordingMessages {
+    public static final String RECORDING_ALREADY_RUNNING = "A flight recording is already running";
+
+    public static final String RECORDING_NOT_RUNNING = "No flight recording is running";
+
+    public static final String RECORDING_STILL_RUNNING = "The flight recording is still running; stop it first";
+
+    public static final String RECORDING_NOT_FOUND = "No flight recording has been made";
+
+    public static final String RECORDING_FAILED = "Could not start the flight recording";
+
+    private FlightRecordingMessages() {
+    }
+}
@@ -8,4 +8,8 @@ public class SavingGoalServiceMessages {
     public static final String SAVING_GOAL_NOT_FOUND = "Saving goal not found";
     public static final String TARGET_NOT_LESS_THAN_CURRENT = "Target amount cannot be less than current saved amount";
     public static final String WITHDRAW_NOT_ENOUGH = "Not enough amount to withdraw";
+    public static final String INVALID_CONTRIBUTION_CURSOR = "Invalid contribution cursor";
+    public static final String AUTO_SAVE_RULE_NOT_FOUND = "Auto-save rule not found";
+    public static final String AUTO_SAVE_INCOME_CATEGORY_ONLY = "Auto-save rules can only use income categories";
+    public static final String AUTO_SAVE_PERCENTAGE_EXCEEDED = "Auto-save rules for a category cannot exceed 100%";
 }
@@ -0,0 +1,251 @@
+package mk.ukim.finki.backend.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import mk.ukim.finki.backend.model.dto.auth.UserRegistrationDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto;
+import mk.ukim.finki.backend.model.dto.report.BudgetReportDto;
+import mk.ukim.finki.backend.model.dto.report.CategorySummaryDto;
+import mk.ukim.finki.backend.model.dto.report.FinancialReportDto;
+import mk.ukim.finki.backend.model.dto.report.MonthlyTrendProjection;
+import mk.ukim.finki.backend.model.dto.report.SavingGoalReportDto;
+import mk.ukim.finki.backend.model.entity.Budget;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.Expense;
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.service.UserService;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic in-memory data shared by the benchmarks.
+ * <p>
+ * Sizes mirror a heavy user: a few dozen categories, budgets and goals and several years of monthly data.
+ * Repositories are replaced by proxies returning canned results, so benchmarks measure the computation
+ * and not the database.
+ */
+final class BenchmarkFixtures {
+
+    static final User USER = User.builder()
+            .id(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+            .email("benchmark@example.com")
+            .role(UserRole.USER)
+            .build();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Silences a class's logger; benchmarked methods log every call at INFO.
+     */
+    static void quiet(Class<?> type) {
+        ((Logger) LoggerFactory.getLogger(type)).setLevel(Level.WARN);
+    }
+
+    /**
+     * Creates a repository whose methods return the given results by method name, and null otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + " stub";
+                    default -> results.get(method.getName());
+                });
+    }
+
+    static List<Category> categories(int count) {
+        List<Category> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(Category.builder()
+                    .id(new UUID(1, i))
+                    .user(USER)
+                    .name("Category " + i)
+                    .type(CategoryType.EXPENSE)
+                    .icon("icon")
+                    .colorCode("#336699")
+                    .createdAt(Instant.EPOCH)
+                    .build());
+        }
+        return categories;
+    }
+
+    static List<Expense> expenses(int count, List<Category> categories) {
+        Random random = new Random(42);
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenses.add(Expense.builder()
+                    .id(new UUID(2, i))
+                    .user(USER)
+                    .category(categories.get(i % categories.size()))
+                    .amount(BigDecimal.valueOf(100 + random.nextInt(100_000), 2))
+                    .date(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                    .description("Expense " + i)
+                    .createdAt(Instant.EPOCH)
+                    .build());
+        }
+        return expenses;
+    }
+
+    static List<Budget> budgets(int count, List<Category> categories) {
+        Random random = new Random(42);
+        List<Budget> budgets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = LocalDate.of(2024, 1, 1).plusMonths(i % 12);
+            budgets.add(Budget.builder()
+                    .id(new UUID(3, i))
+                    .user(USER)
+                    .category(categories.get(i % categories.size()))
+                    .amount(BigDecimal.valueOf(10_000 + random.nextInt(100_000), 2))
+                    .startDate(start)
+                    .endDate(start.plusMonths(1).minusDays(1))
+                    .progressPercentage((float) random.nextInt(150))
+                    .createdAt(Instant.EPOCH)
+                    .build());
+        }
+        return budgets;
+    }
+
+    static List<BudgetSpendingDto> budgetSpending(int count) {
+        Random random = new Random(42);
+        List<BudgetSpendingDto> spending = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            spending.add(new BudgetSpendingDto(new UUID(3, i), BigDecimal.valueOf(random.nextInt(100_000), 2)));
+        }
+        return spending;
+    }
+
+    static List<SavingGoal> savingGoals(int count) {
+        Random random = new Random(42);
+        List<SavingGoal> goals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            goals.add(SavingGoal.builder()
+                    .id(new UUID(4, i))
+                    .user(USER)
+                    .name("Goal " + i)
+                    .targetAmount(BigDecimal.valueOf(100_000 + random.nextInt(1_000_000), 2))
+                    .currentAmount(BigDecimal.valueOf(random.nextInt(100_000), 2))
+                    .deadline(LocalDate.of(2030, 1, 1).plusDays(i))
+                    .createdAt(Instant.parse("2024-01-01T00:00:00Z"))
+                    .contributionWeightSum(1.0 + i)
+                    .build());
+        }
+        return goals;
+    }
+
+    /**
+     * Monthly totals for every month between the two months, inclusive.
+     */
+    static List<MonthlyTrendProjection> monthlyTrends(YearMonth from, YearMonth to, long seed) {
+        Random random = new Random(seed);
+        List<MonthlyTrendProjection> trends = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            BigDecimal total = BigDecimal.valueOf(100_000 + random.nextInt(1_000_000), 2);
+            YearMonth period = month;
+            trends.add(new MonthlyTrendProjection() {
+                @Override
+                public Integer getYear() {
+                    return period.getYear();
+                }
+
+                @Override
+                public Integer getMonth() {
+                    return period.getMonthValue();
+                }
+
+                @Override
+                public BigDecimal getTotalAmount() {
+                    return total;
+                }
+            });
+        }
+        return trends;
+    }
+
+    /**
+     * A fully populated yearly report, as rendered by the PDF export and the reports endpoint.
+     */
+    static FinancialReportDto report(int categories, int budgets, int goals) {
+        Random random = new Random(42);
+        List<CategorySummaryDto> expenseByCategory = new ArrayList<>();
+        List<CategorySummaryDto> incomeByCategory = new ArrayList<>();
+        for (int i = 0; i < categories; i++) {
+            expenseByCategory.add(new CategorySummaryDto("Expense category " + i,
+                    BigDecimal.valueOf(random.nextInt(10_000_000), 2)));
+            incomeByCategory.add(new CategorySummaryDto("Income category " + i,
+                    BigDecimal.valueOf(random.nextInt(10_000_000), 2)));
+        }
+        List<BudgetReportDto> budgetReports = new ArrayList<>();
+        for (int i = 0; i < budgets; i++) {
+            float progress = random.nextInt(150);
+            budgetReports.add(new BudgetReportDto("Budget " + i, BigDecimal.valueOf(100_000, 2),
+                    BigDecimal.valueOf((long) (progress * 1_000), 2), progress, progress > 100));
+        }
+        List<SavingGoalReportDto> goalReports = new ArrayList<>();
+        for (int i = 0; i < goals; i++) {
+            goalReports.add(new SavingGoalReportDto("Goal " + i, BigDecimal.valueOf(1_000_000, 2),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2), (float) random.nextInt(100), false,
+                    LocalDate.of(2030, 1, 1), LocalDate.of(2029, 6, 1), BigDecimal.valueOf(12_345, 2)));
+        }
+        return FinancialReportDto.builder()
+                .from(LocalDate.of(2024, 1, 1))
+                .to(LocalDate.of(2024, 12, 31))
+                .totalIncome(BigDecimal.valueOf(12_345_678, 2))
+                .totalExpense(BigDecimal.valueOf(9_876_543, 2))
+                .balance(BigDecimal.valueOf(2_469_135, 2))
+                .expenseByCategory(expenseByCategory)
+                .incomeByCategory(incomeByCategory)
+                .budgets(budgetReports)
+                .savingGoals(goalReports)
+                .emptyData(false)
+                .build();
+    }
+
+    /**
+     * User service without a database, whose current user is {@link #USER}.
+     */
+    static UserService userService() {
+        return new UserService() {
+            @Override
+            public UserDetails loadUserByUsername(String email) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean existsById(UUID userId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public User registerUser(UserRegistrationDto registrationDto) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public User getCurrentUser() {
+                return USER;
+            }
+
+            @Override
+            public User findByEmail(String email) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
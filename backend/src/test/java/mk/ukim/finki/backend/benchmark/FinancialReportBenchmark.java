@@ -0,0 +1,82 @@
+package mk.ukim.finki.backend.benchmark;
+
+import mk.ukim.finki.backend.model.dto.report.BudgetPerformanceDto;
+import mk.ukim.finki.backend.model.dto.report.MonthlyTrendDto;
+import mk.ukim.finki.backend.model.dto.report.QuickStatsDto;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.repository.BudgetRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.IncomeRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.service.impl.FinancialReportServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory computations of {@link FinancialReportServiceImpl} with repositories returning canned data.
+ * <p>
+ * {@code monthlyTrends} merges income and expense projections over {@code years} of data,
+ * {@code budgetPerformance} maps budgets and computes their statistics and {@code quickStats}
+ * averages the progress of active saving goals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinancialReportBenchmark {
+
+    @Param({"1", "10"})
+    private int years;
+
+    private FinancialReportServiceImpl service;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quiet(FinancialReportServiceImpl.class);
+        from = LocalDate.of(2024, 1, 1);
+        to = from.plusYears(years).minusDays(1);
+        YearMonth lastMonth = YearMonth.from(to);
+        List<Category> categories = BenchmarkFixtures.categories(20);
+
+        ExpenseRepository expenseRepository = BenchmarkFixtures.repository(ExpenseRepository.class, Map.of(
+                "findMonthlyExpenseTrends", BenchmarkFixtures.monthlyTrends(YearMonth.from(from), lastMonth, 1),
+                "sumAmountByUserAndDateRange", BigDecimal.valueOf(9_876_543, 2)));
+        IncomeRepository incomeRepository = BenchmarkFixtures.repository(IncomeRepository.class, Map.of(
+                "findMonthlyIncomeTrends", BenchmarkFixtures.monthlyTrends(YearMonth.from(from), lastMonth, 2),
+                "sumAmountByUserAndDateRange", BigDecimal.valueOf(12_345_678, 2)));
+        BudgetRepository budgetRepository = BenchmarkFixtures.repository(BudgetRepository.class, Map.of(
+                "findByUserOrderByStartDateDesc", BenchmarkFixtures.budgets(50, categories),
+                "findActiveBudgets", BenchmarkFixtures.budgets(10, categories),
+                "sumSpentPerBudgetWithin", BenchmarkFixtures.budgetSpending(50)));
+        SavingGoalRepository savingGoalRepository = BenchmarkFixtures.repository(SavingGoalRepository.class, Map.of(
+                "findByUserOrderByCreatedAtDesc", BenchmarkFixtures.savingGoals(50)));
+
+        service = new FinancialReportServiceImpl(expenseRepository, incomeRepository, budgetRepository,
+                savingGoalRepository, BenchmarkFixtures.userService());
+    }
+
+    @Benchmark
+    public List<MonthlyTrendDto> monthlyTrends() {
+        return service.getMonthlyTrends(from, to);
+    }
+
+    @Benchmark
+    public BudgetPerformanceDto budgetPerformance() {
+        return service.getBudgetPerformance(from, to);
+    }
+
+    @Benchmark
+    public QuickStatsDto quickStats() {
+        return service.getQuickStats(from, to);
+    }
+}
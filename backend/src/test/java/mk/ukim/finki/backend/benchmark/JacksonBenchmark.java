@@ -0,0 +1,36 @@
+package mk.ukim.finki.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import mk.ukim.finki.backend.model.dto.report.FinancialReportDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing a fully populated {@link FinancialReportDto}, as returned by {@code /api/reports},
+ * with an object mapper configured like the one Spring MVC uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    private ObjectWriter writer;
+    private FinancialReportDto report;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(FinancialReportDto.class);
+        report = BenchmarkFixtures.report(20, 30, 10);
+    }
+
+    @Benchmark
+    public byte[] serializeReport() throws JsonProcessingException {
+        return writer.writeValueAsBytes(report);
+    }
+}
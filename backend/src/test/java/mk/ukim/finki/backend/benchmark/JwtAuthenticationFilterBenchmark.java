@@ -0,0 +1,77 @@
+package mk.ukim.finki.backend.benchmark;
+
+import mk.ukim.finki.backend.security.AccessTokenRevocations;
+import mk.ukim.finki.backend.security.JwtAuthenticationFilter;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of JWT authentication.
+ * <p>
+ * {@code filter} runs {@link JwtAuthenticationFilter} end to end, building the principal from claims,
+ * with a warm verified-token cache. {@code parseCached} is the cached lookup the filter performs,
+ * {@code parseOnce} a full verification without the cache and {@code validateThenExtract}
+ * the former validate-then-extract sequence that parsed every token twice. {@code generate} signs a new token.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkbenchmarkbenchmarkbenchmarkbenchmark";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider uncachedTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000);
+        uncachedTokenProvider = new JwtTokenProvider(SECRET, 3_600_000, 0);
+        filter = new JwtAuthenticationFilter(tokenProvider, BenchmarkFixtures.userService(),
+                new AccessTokenRevocations(null, 1000, 0.01), false);
+        token = tokenProvider.generateToken(BenchmarkFixtures.USER);
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/expenses");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(BenchmarkFixtures.USER);
+    }
+
+    @Benchmark
+    public Object parseCached() {
+        return tokenProvider.parseClaims(token).orElseThrow().getSubject();
+    }
+
+    @Benchmark
+    public Object parseOnce() {
+        return uncachedTokenProvider.parseClaims(token).orElseThrow().getSubject();
+    }
+
+    @Benchmark
+    public Object validateThenExtract() {
+        return uncachedTokenProvider.validateToken(token) ? uncachedTokenProvider.getEmailFromJWT(token) : null;
+    }
+}
@@ -0,0 +1,78 @@
+package mk.ukim.finki.backend.benchmark;
+
+import mk.ukim.finki.backend.mapper.BudgetMapper;
+import mk.ukim.finki.backend.mapper.CategoryMapper;
+import mk.ukim.finki.backend.mapper.ExpenseMapper;
+import mk.ukim.finki.backend.mapper.SavingGoalMapper;
+import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
+import mk.ukim.finki.backend.model.dto.category.CategoryDto;
+import mk.ukim.finki.backend.model.dto.transaction.ExpenseDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.SavingGoalDto;
+import mk.ukim.finki.backend.model.entity.Budget;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.Expense;
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MapStruct mappers on list sizes typical for the listing endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ExpenseMapper expenseMapper = Mappers.getMapper(ExpenseMapper.class);
+    private final CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+    private final BudgetMapper budgetMapper = Mappers.getMapper(BudgetMapper.class);
+    private final SavingGoalMapper savingGoalMapper = Mappers.getMapper(SavingGoalMapper.class);
+
+    private List<Category> categories;
+    private List<Expense> expenses;
+    private List<Budget> budgets;
+    private List<SavingGoal> goals;
+
+    @Setup
+    public void setUp() {
+        categories = BenchmarkFixtures.categories(50);
+        expenses = BenchmarkFixtures.expenses(1_000, categories);
+        budgets = BenchmarkFixtures.budgets(50, categories);
+        goals = BenchmarkFixtures.savingGoals(20);
+    }
+
+    @Benchmark
+    public List<ExpenseDto> expenses() {
+        return expenseMapper.toDtoList(expenses);
+    }
+
+    @Benchmark
+    public List<CategoryDto> categories() {
+        return categoryMapper.toDtoList(categories);
+    }
+
+    @Benchmark
+    public List<BudgetDto> budgets() {
+        List<BudgetDto> dtos = new ArrayList<>(budgets.size());
+        for (Budget budget : budgets) {
+            dtos.add(budgetMapper.toDto(budget));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<SavingGoalDto> savingGoals() {
+        List<SavingGoalDto> dtos = new ArrayList<>(goals.size());
+        for (SavingGoal goal : goals) {
+            dtos.add(savingGoalMapper.toDto(goal));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,32 @@
+package mk.ukim.finki.backend.benchmark;
+
+import mk.ukim.finki.backend.model.dto.report.FinancialReportDto;
+import mk.ukim.finki.backend.util.PdfExportUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a fully populated yearly report with {@link PdfExportUtil#generateReportPdf}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfExportBenchmark {
+
+    private FinancialReportDto report;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quiet(PdfExportUtil.class);
+        report = BenchmarkFixtures.report(20, 30, 10);
+    }
+
+    @Benchmark
+    public byte[] generateReportPdf() throws Exception {
+        return PdfExportUtil.generateReportPdf(report);
+    }
+}
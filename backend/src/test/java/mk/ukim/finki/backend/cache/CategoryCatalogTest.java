@@ -0,0 +1,131 @@
+package mk.ukim.finki.backend.cache;
+
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.HiddenCategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCatalogTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private HiddenCategoryRepository hiddenCategoryRepository;
+
+    private CategoryCatalog categoryCatalog;
+
+    private UUID userId;
+    private Category food;
+    private Category rent;
+    private Category salary;
+    private Category custom;
+
+    @BeforeEach
+    void setUp() {
+        categoryCatalog = new CategoryCatalog(categoryRepository, hiddenCategoryRepository, 100, Duration.ofMinutes(30));
+        userId = UUID.randomUUID();
+        food = category("Food", CategoryType.EXPENSE, true, null);
+        rent = category("Rent", CategoryType.EXPENSE, true, null);
+        salary = category("Salary", CategoryType.INCOME, true, null);
+        custom = category("Coffee", CategoryType.EXPENSE, false, User.builder().id(userId).build());
+
+        when(categoryRepository.findByPredefinedTrue()).thenReturn(List.of(rent, salary, food));
+        categoryCatalog.loadPredefined();
+    }
+
+    private Category category(String name, CategoryType type, boolean predefined, User user) {
+        return Category.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .type(type)
+                .predefined(predefined)
+                .user(user)
+                .build();
+    }
+
+    private void stubUserCategories(List<UUID> hiddenIds) {
+        when(categoryRepository.findByUser_IdAndDeletingFalse(userId)).thenReturn(List.of(custom));
+        when(hiddenCategoryRepository.findCategoryIdsByUserId(userId)).thenReturn(hiddenIds);
+    }
+
+    @Test
+    void findVisible_excludesHiddenAndOtherTypes_andCachesPerUser() {
+        stubUserCategories(List.of(rent.getId()));
+
+        assertThat(categoryCatalog.findVisible(userId, CategoryType.EXPENSE)).containsExactly(food, custom);
+        assertThat(categoryCatalog.findVisible(userId, CategoryType.INCOME)).containsExactly(salary);
+
+        verify(categoryRepository, times(1)).findByUser_IdAndDeletingFalse(userId);
+        verify(hiddenCategoryRepository, times(1)).findCategoryIdsByUserId(userId);
+    }
+
+    @Test
+    void findCategory_predefined_servedFromMemory() {
+        assertThat(categoryCatalog.findCategory(userId, food.getId())).contains(food);
+
+        verify(categoryRepository, never()).findById(any());
+        verify(categoryRepository, never()).findByUser_IdAndDeletingFalse(any());
+    }
+
+    @Test
+    void findCategory_ownCustom_servedFromUserCache() {
+        stubUserCategories(List.of());
+
+        assertThat(categoryCatalog.findCategory(userId, custom.getId())).contains(custom);
+        assertThat(categoryCatalog.findCategory(userId, custom.getId())).contains(custom);
+
+        verify(categoryRepository, times(1)).findByUser_IdAndDeletingFalse(userId);
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    @Test
+    void findCategory_unknown_fallsBackToRepository() {
+        stubUserCategories(List.of());
+        UUID foreignId = UUID.randomUUID();
+        when(categoryRepository.findById(foreignId)).thenReturn(Optional.empty());
+
+        assertThat(categoryCatalog.findCategory(userId, foreignId)).isEmpty();
+        verify(categoryRepository).findById(foreignId);
+    }
+
+    @Test
+    void invalidate_reloadsUserCategoriesOnNextAccess() {
+        stubUserCategories(List.of());
+        categoryCatalog.findVisible(userId, CategoryType.EXPENSE);
+
+        categoryCatalog.invalidate(userId);
+        when(hiddenCategoryRepository.findCategoryIdsByUserId(userId)).thenReturn(List.of(food.getId()));
+
+        assertThat(categoryCatalog.findVisible(userId, CategoryType.EXPENSE)).containsExactly(rent, custom);
+        verify(categoryRepository, times(2)).findByUser_IdAndDeletingFalse(userId);
+    }
+
+    @Test
+    void expiredUserEntry_isReloadedOnNextAccess() {
+        categoryCatalog = new CategoryCatalog(categoryRepository, hiddenCategoryRepository, 100, Duration.ZERO);
+        categoryCatalog.loadPredefined();
+        stubUserCategories(List.of());
+
+        categoryCatalog.findVisible(userId, CategoryType.EXPENSE);
+        categoryCatalog.findVisible(userId, CategoryType.EXPENSE);
+
+        verify(categoryRepository, times(2)).findByUser_IdAndDeletingFalse(userId);
+        assertThat(categoryCatalog.hitCount()).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package mk.ukim.finki.backend.cache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private Function<String, Claims> verifierExpiringIn(long millis) {
+        return token -> {
+            verifications.incrementAndGet();
+            return Jwts.claims()
+                    .setSubject(token)
+                    .setExpiration(new Date(System.currentTimeMillis() + millis));
+        };
+    }
+
+    @Test
+    void getOrVerify_verifiesEachTokenOnce() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        Claims first = cache.getOrVerify("a.b.c", verifierExpiringIn(60_000));
+        Claims second = cache.getOrVerify("a.b.c", verifierExpiringIn(60_000));
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    void getOrVerify_reverifiesExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.getOrVerify("a.b.c", verifierExpiringIn(-1));
+
+        assertThatThrownBy(() -> cache.getOrVerify("a.b.c", token -> {
+            throw new ExpiredJwtException(null, null, "expired");
+        })).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void getOrVerify_doesNotCacheFailures() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        assertThatThrownBy(() -> cache.getOrVerify("bad", token -> {
+            throw new IllegalArgumentException("bad");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getOrVerify_staysWithinMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(3);
+
+        for (int i = 0; i < 10; i++) {
+            cache.getOrVerify("token-" + i, verifierExpiringIn(60_000));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void getOrVerify_withZeroSize_alwaysVerifies() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.getOrVerify("a.b.c", verifierExpiringIn(60_000));
+        cache.getOrVerify("a.b.c", verifierExpiringIn(60_000));
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package mk.ukim.finki.backend.controller;
+
+import mk.ukim.finki.backend.datagen.SyntheticDataGenerator;
+import mk.ukim.finki.backend.metrics.ThreadAllocation;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Allocation budgets of the heaviest read endpoints for a user with a year of history.
+ * <p>
+ * Each request is repeated until class loading and caches have settled, and the smallest of several
+ * measurements is compared against the budget, so the budgets catch growth in garbage per request
+ * and not measurement noise. Budgets are roughly twice the allocation measured when they were set.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:allocations;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.rate-limit.budget.burst=1000000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class AllocationBudgetIntegrationTest {
+
+    private static final int TRANSACTIONS = 1_000;
+    private static final int HISTORY_DAYS = 365;
+    private static final int WARMUP = 5;
+    private static final int MEASUREMENTS = 5;
+    private static final long KB = 1024;
+    private static final long MB = 1024 * KB;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String authorization;
+    private final String from = LocalDate.now().minusDays(HISTORY_DAYS).toString();
+    private final String to = LocalDate.now().toString();
+
+    @BeforeAll
+    void seed() throws Exception {
+        assumeTrue(ThreadAllocation.isSupported(), "JVM does not measure allocations per thread");
+        UUID userId = new SyntheticDataGenerator(dataSource, new SyntheticDataGenerator.Settings(
+                1, TRANSACTIONS, HISTORY_DAYS, 42, "allocations", "not-used", 500)).generate().get(0).id();
+        authorization = "Bearer " + jwtTokenProvider.generateToken(userRepository.findById(userId).orElseThrow());
+    }
+
+    @Test
+    void expenseController_allocationBudget() throws Exception {
+        assertAllocationBudget("/api/expenses", get("/api/expenses"), 4 * MB);
+    }
+
+    @Test
+    void budgetController_allocationBudget() throws Exception {
+        assertAllocationBudget("/api/budgets", get("/api/budgets"), MB);
+    }
+
+    @Test
+    void financialReportController_allocationBudget() throws Exception {
+        assertAllocationBudget("/api/dashboard", get("/api/dashboard").param("from", from).param("to", to), 512 * KB);
+        assertAllocationBudget("/api/reports", get("/api/reports").param("from", from).param("to", to), MB);
+        assertAllocationBudget("/api/reports/export/pdf",
+                get("/api/reports/export/pdf").param("from", from).param("to", to), 40 * MB);
+        assertAllocationBudget("/api/reports/export/csv",
+                get("/api/reports/export/csv").param("from", from).param("to", to), MB);
+    }
+
+    /**
+     * Asserts that a warmed-up request allocates at most {@code budget} bytes.
+     */
+    private void assertAllocationBudget(String endpoint, MockHttpServletRequestBuilder request, long budget)
+            throws Exception {
+        request.header("Authorization", authorization);
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            long start = ThreadAllocation.current();
+            mockMvc.perform(request).andExpect(status().isOk());
+            allocated = Math.min(allocated, ThreadAllocation.current() - start);
+        }
+
+        assertThat(allocated).as("bytes allocated by %s with %d transactions", endpoint, TRANSACTIONS)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -1,6 +1,8 @@
 package mk.ukim.finki.backend.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import mk.ukim.finki.backend.model.dto.auth.RefreshTokenRequest;
 import mk.ukim.finki.backend.model.dto.auth.UserLoginDto;
 import mk.ukim.finki.backend.model.dto.auth.UserRegistrationDto;
 import org.junit.jupiter.api.BeforeAll;
@@ -13,7 +15,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -69,6 +73,7 @@ public class AuthControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty())
                 .andExpect(jsonPath("$.expiresIn").value(86400000));
     }
 
@@ -84,4 +89,125 @@ public class AuthControllerIntegrationTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(content().string("Invalid credentials"));
     }
+
+    @Test
+    void testTokenAuthenticatesRequestsFromClaims() throws Exception {
+        UserLoginDto loginDto = new UserLoginDto();
+        loginDto.setEmail(email);
+        loginDto.setPassword(password);
+
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String token = objectMapper.readTree(response).get("token").asText();
+
+        mockMvc.perform(get("/api/auth/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.role").value("USER"));
+
+        mockMvc.perform(get("/api/expenses")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRepeatedLoginsAreRateLimited() throws Exception {
+        UserLoginDto loginDto = new UserLoginDto();
+        loginDto.setEmail("rate-limited@example.com");
+        loginDto.setPassword("WrongPassword1!");
+        String body = objectMapper.writeValueAsString(loginDto);
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void testRefreshRotatesTokenAndRevokesSessionOnReuse() throws Exception {
+        String firstRefreshToken = registerAndLogin("refresh@example.com").get("refreshToken").asText();
+
+        String response = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(firstRefreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String secondRefreshToken = objectMapper.readTree(response).get("refreshToken").asText();
+        assertThat(secondRefreshToken).isNotEqualTo(firstRefreshToken);
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(firstRefreshToken))))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(secondRefreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testLogoutRevokesAccessAndRefreshTokens() throws Exception {
+        JsonNode tokens = registerAndLogin("logout@example.com");
+        String token = tokens.get("token").asText();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        mockMvc.perform(get("/api/expenses")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/expenses")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode registerAndLogin(String userEmail) throws Exception {
+        UserRegistrationDto registrationDto = new UserRegistrationDto();
+        registrationDto.setEmail(userEmail);
+        registrationDto.setPassword(password);
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registrationDto)))
+                .andExpect(status().isOk());
+
+        UserLoginDto loginDto = new UserLoginDto();
+        loginDto.setEmail(userEmail);
+        loginDto.setPassword(password);
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response);
+    }
 }
@@ -0,0 +1,135 @@
+package mk.ukim.finki.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.config.SecurityConfig;
+import mk.ukim.finki.backend.exception.SavingGoalValidationException;
+import mk.ukim.finki.backend.model.dto.saving_goal.AutoSaveRuleDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+import mk.ukim.finki.backend.security.JwtAuthenticationFilter;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = AutoSaveRuleController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = SecurityConfig.class),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, value = JwtAuthenticationFilter.class)
+        })
+@AutoConfigureMockMvc(addFilters = false)
+public class AutoSaveRuleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AutoSaveRuleService autoSaveRuleService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private UUID ruleId;
+    private AutoSaveRuleDto ruleDto;
+    private CreateAutoSaveRuleRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        ruleId = UUID.randomUUID();
+
+        ruleDto = AutoSaveRuleDto.builder()
+                .id(ruleId)
+                .categoryName("Salary")
+                .savingGoalName("Vacation Fund")
+                .percentage(BigDecimal.TEN)
+                .build();
+
+        createRequest = CreateAutoSaveRuleRequest.builder()
+                .categoryId(UUID.randomUUID())
+                .savingGoalId(UUID.randomUUID())
+                .percentage(BigDecimal.TEN)
+                .build();
+    }
+
+    private String asJson(Object obj) throws Exception {
+        return objectMapper.writeValueAsString(obj);
+    }
+
+    @Test
+    void getAll_success() throws Exception {
+        when(autoSaveRuleService.getRules()).thenReturn(List.of(ruleDto));
+
+        mockMvc.perform(get("/api/auto-save-rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryName").value("Salary"))
+                .andExpect(jsonPath("$[0].percentage").value(10));
+    }
+
+    @Test
+    void create_success() throws Exception {
+        when(autoSaveRuleService.createRule(any(CreateAutoSaveRuleRequest.class)))
+                .thenReturn(ruleDto);
+
+        mockMvc.perform(post("/api/auto-save-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJson(createRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.savingGoalName").value("Vacation Fund"));
+    }
+
+    @Test
+    void create_percentageOutOfRange_throwsBadRequest() throws Exception {
+        createRequest.setPercentage(BigDecimal.valueOf(150));
+
+        mockMvc.perform(post("/api/auto-save-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJson(createRequest)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(autoSaveRuleService);
+    }
+
+    @Test
+    void create_totalExceeded_throwsBadRequest() throws Exception {
+        when(autoSaveRuleService.createRule(any(CreateAutoSaveRuleRequest.class)))
+                .thenThrow(new SavingGoalValidationException("Auto-save rules for a category cannot exceed 100%"));
+
+        mockMvc.perform(post("/api/auto-save-rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJson(createRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Auto-save rules for a category cannot exceed 100%"));
+    }
+
+    @Test
+    void delete_success() throws Exception {
+        doNothing().when(autoSaveRuleService).deleteRule(ruleId);
+
+        mockMvc.perform(delete("/api/auto-save-rules/{id}", ruleId))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void delete_notFound() throws Exception {
+        doThrow(new EntityNotFoundException("Auto-save rule not found"))
+                .when(autoSaveRuleService).deleteRule(ruleId);
+
+        mockMvc.perform(delete("/api/auto-save-rules/{id}", ruleId))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,9 +3,15 @@ package mk.ukim.finki.backend.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import mk.ukim.finki.backend.config.SecurityConfig;
+import mk.ukim.finki.backend.model.dto.budget.BudgetBurnDownDto;
 import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationRequest;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationResultDto;
 import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
+import mk.ukim.finki.backend.model.dto.budget.SimulatedBudgetRequest;
 import mk.ukim.finki.backend.model.dto.budget.UpdateBudgetRequest;
+import mk.ukim.finki.backend.model.enums.BudgetPeriod;
 import mk.ukim.finki.backend.security.JwtAuthenticationFilter;
 import mk.ukim.finki.backend.service.BudgetService;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +30,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -213,4 +220,88 @@ public class BudgetControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(budgetId.toString()));
     }
+
+    @Test
+    void getBurnDown_archived_isCacheable() throws Exception {
+        BudgetBurnDownDto burnDown = BudgetBurnDownDto.builder()
+                .budgetId(budgetId)
+                .amount(BigDecimal.valueOf(100))
+                .archived(true)
+                .points(List.of())
+                .build();
+        when(budgetService.getBudgetBurnDown(budgetId))
+                .thenReturn(burnDown);
+
+        mockMvc.perform(get("/api/budgets/{id}/burn-down", budgetId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(jsonPath("$.budgetId").value(budgetId.toString()));
+    }
+
+    @Test
+    void getBurnDown_active_requiresRevalidation() throws Exception {
+        BudgetBurnDownDto burnDown = BudgetBurnDownDto.builder()
+                .budgetId(budgetId)
+                .archived(false)
+                .points(List.of())
+                .build();
+        when(budgetService.getBudgetBurnDown(budgetId))
+                .thenReturn(burnDown);
+
+        mockMvc.perform(get("/api/budgets/{id}/burn-down", budgetId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")));
+    }
+
+    @Test
+    void getBurnDown_notFound() throws Exception {
+        when(budgetService.getBudgetBurnDown(budgetId))
+                .thenThrow(new EntityNotFoundException("Budget not found"));
+
+        mockMvc.perform(get("/api/budgets/{id}/burn-down", budgetId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void simulateBudgets_success() throws Exception {
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .amount(BigDecimal.valueOf(500))
+                        .period(BudgetPeriod.MONTHLY)
+                        .build()))
+                .build();
+        BudgetSimulationDto simulation = BudgetSimulationDto.builder()
+                .results(List.of(BudgetSimulationResultDto.builder()
+                        .categoryName("Overall")
+                        .periodsEvaluated(12)
+                        .periodsExceeded(3)
+                        .build()))
+                .build();
+        when(budgetService.simulateBudgets(any(BudgetSimulationRequest.class)))
+                .thenReturn(simulation);
+
+        mockMvc.perform(post("/api/budgets/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJson(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].categoryName").value("Overall"))
+                .andExpect(jsonPath("$.results[0].periodsExceeded").value(3));
+    }
+
+    @Test
+    void simulateBudgets_lookbackOutOfRange_throwsBadRequest() throws Exception {
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .amount(BigDecimal.valueOf(500))
+                        .period(BudgetPeriod.MONTHLY)
+                        .build()))
+                .lookbackMonths(36)
+                .build();
+
+        mockMvc.perform(post("/api/budgets/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(asJson(request)))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(budgetService);
+    }
 }
@@ -6,10 +6,12 @@ import mk.ukim.finki.backend.config.SecurityConfig;
 import mk.ukim.finki.backend.exception.DuplicateCategoryNameException;
 import mk.ukim.finki.backend.exception.HiddenCategoryException;
 import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
+import mk.ukim.finki.backend.model.dto.category.CategoryDeletionJobDto;
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
 import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.HideCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.UpdateCategoryRequest;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
 import mk.ukim.finki.backend.model.enums.CategoryType;
 import mk.ukim.finki.backend.security.JwtAuthenticationFilter;
 import mk.ukim.finki.backend.service.CategoryService;
@@ -165,10 +167,44 @@ public class CategoryControllerTest {
 
     @Test
     void deleteCategory_success() throws Exception {
-        doNothing().when(categoryService).deleteCategory(any());
+        UUID jobId = UUID.randomUUID();
+        when(categoryService.deleteCategory(any()))
+                .thenReturn(CategoryDeletionJobDto.builder()
+                        .id(jobId)
+                        .status(CategoryDeletionStatus.RUNNING)
+                        .totalTransactions(1200)
+                        .build());
 
         mockMvc.perform(delete("/api/categories/{id}", UUID.randomUUID()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/categories/deletions/" + jobId))
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.totalTransactions").value(1200));
+    }
+
+    @Test
+    void getDeletion_success() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        when(categoryService.getDeletionJob(jobId))
+                .thenReturn(CategoryDeletionJobDto.builder()
+                        .id(jobId)
+                        .status(CategoryDeletionStatus.COMPLETED)
+                        .progressPercentage(100f)
+                        .build());
+
+        mockMvc.perform(get("/api/categories/deletions/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.progressPercentage").value(100.0));
+    }
+
+    @Test
+    void getDeletion_notFound() throws Exception {
+        when(categoryService.getDeletionJob(any()))
+                .thenThrow(new jakarta.persistence.EntityNotFoundException("Category deletion job not found"));
+
+        mockMvc.perform(get("/api/categories/deletions/{jobId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -0,0 +1,93 @@
+package mk.ukim.finki.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.category.UpdateCategoryRequest;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies category ownership checks for requests authenticated from JWT claims, where the
+ * current user is a detached entity built from the token.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CategoryOwnershipIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void updateCategory_ownerWithJwtCanRenameAndOthersAreRejected() throws Exception {
+        User owner = user();
+        String ownerAuthorization = bearer(owner);
+
+        mockMvc.perform(post("/api/categories")
+                        .header("Authorization", ownerAuthorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateCategoryRequest.builder()
+                                .name("Groceries")
+                                .type(CategoryType.EXPENSE)
+                                .build())))
+                .andExpect(status().isCreated());
+        UUID categoryId = categoryRepository.findByUser_IdAndDeletingFalse(owner.getId()).get(0).getId();
+        String rename = objectMapper.writeValueAsString(UpdateCategoryRequest.builder().name("Food").build());
+
+        mockMvc.perform(put("/api/categories/" + categoryId)
+                        .header("Authorization", ownerAuthorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(rename))
+                .andExpect(status().isOk());
+        assertThat(categoryRepository.findById(categoryId).orElseThrow().getName()).isEqualTo("Food");
+
+        mockMvc.perform(put("/api/categories/" + categoryId)
+                        .header("Authorization", bearer(user()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(rename))
+                .andExpect(status().isForbidden());
+        assertThat(categoryRepository.findById(categoryId).orElseThrow().getName()).isEqualTo("Food");
+    }
+
+    private User user() {
+        return userRepository.save(User.builder()
+                .email("owner-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtTokenProvider.generateToken(user);
+    }
+}
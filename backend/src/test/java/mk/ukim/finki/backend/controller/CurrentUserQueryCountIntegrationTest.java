@@ -0,0 +1,95 @@
+package mk.ukim.finki.backend.controller;
+
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies how often the current user is loaded per request: at most once when the principal
+ * carries only an email, and never for tokens carrying the user's claims.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CurrentUserQueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void createUser() {
+        user = userRepository.save(User.builder()
+                .email("current-user-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    @Test
+    void emailPrincipal_loadsUserAtMostOncePerRequest() throws Exception {
+        for (MockHttpServletRequestBuilder request : endpoints()) {
+            clearInvocations(userRepository);
+
+            mockMvc.perform(request.with(user(user.getEmail())))
+                    .andExpect(status().isOk());
+
+            verify(userRepository, atMost(1)).findByEmail(anyString());
+        }
+    }
+
+    @Test
+    void tokenPrincipal_neverLoadsUser() throws Exception {
+        String token = jwtTokenProvider.generateToken(user);
+
+        for (MockHttpServletRequestBuilder request : endpoints()) {
+            clearInvocations(userRepository);
+
+            mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+    }
+
+    private List<MockHttpServletRequestBuilder> endpoints() {
+        String from = LocalDate.now().withDayOfMonth(1).toString();
+        String to = LocalDate.now().toString();
+        return List.of(
+                get("/api/reports").param("from", from).param("to", to),
+                get("/api/dashboard").param("from", from).param("to", to),
+                get("/api/budgets"),
+                get("/api/expenses"),
+                get("/api/incomes"),
+                get("/api/categories").param("type", "EXPENSE"),
+                get("/api/saving-goals"),
+                get("/api/auth/me"));
+    }
+}
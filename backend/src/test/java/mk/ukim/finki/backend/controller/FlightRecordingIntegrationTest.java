@@ -0,0 +1,110 @@
+package mk.ukim.finki.backend.controller;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that administrators can record the running node with JFR and that the recording
+ * carries the application's domain events.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class FlightRecordingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void flightRecording_requiresAdminRole() throws Exception {
+        mockMvc.perform(post("/api/admin/flight-recordings")
+                        .header("Authorization", bearer(UserRole.USER)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void flightRecording_recordsDomainEvents() throws Exception {
+        String authorization = bearer(UserRole.ADMIN);
+
+        mockMvc.perform(post("/api/admin/flight-recordings")
+                        .header("Authorization", authorization)
+                        .param("durationSeconds", "120"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.durationSeconds").value(120));
+        mockMvc.perform(get("/api/admin/flight-recordings/file").header("Authorization", authorization))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/reports/export/pdf")
+                        .header("Authorization", authorization)
+                        .param("from", LocalDate.now().withDayOfMonth(1).toString())
+                        .param("to", LocalDate.now().toString()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/flight-recordings/stop").header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CLOSED"));
+        byte[] recording = mockMvc.perform(get("/api/admin/flight-recordings/file")
+                        .header("Authorization", authorization))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.write(tempDir.resolve("recording.jfr"), recording);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("fintrack."))
+                .toList();
+
+        assertThat(events)
+                .anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("fintrack.ReportGeneration");
+                    assertThat(event.getString("report")).isEqualTo("exportToPdf");
+                    assertThat(event.getLong("periodDays")).isEqualTo(LocalDate.now().getDayOfMonth());
+                })
+                .anySatisfy(event -> assertThat(event.getEventType().getName()).isEqualTo("fintrack.PdfRendering"))
+                .anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("fintrack.CacheLookup");
+                    assertThat(event.getString("cache")).isEqualTo("verified-tokens");
+                });
+    }
+
+    private String bearer(UserRole role) {
+        User user = userRepository.save(User.builder()
+                .email("jfr-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(role)
+                .build());
+        return "Bearer " + jwtTokenProvider.generateToken(user);
+    }
+}
@@ -0,0 +1,134 @@
+package mk.ukim.finki.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.transaction.ExpenseRequest;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that requests are visible on the Prometheus scrape endpoint at every layer:
+ * HTTP, services, repositories, the connection pool, caches, the business counters and allocations.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void prometheusEndpoint_exposesMetricsOfEveryLayer() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("metrics-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        String authorization = "Bearer " + jwtTokenProvider.generateToken(user);
+
+        mockMvc.perform(post("/api/categories")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(CreateCategoryRequest.builder()
+                                .name("Groceries")
+                                .type(CategoryType.EXPENSE)
+                                .build())))
+                .andExpect(status().isCreated());
+        UUID categoryId = categoryRepository.findByUser_IdAndDeletingFalse(user.getId()).get(0).getId();
+
+        mockMvc.perform(post("/api/expenses")
+                        .header("Authorization", authorization)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ExpenseRequest.builder()
+                                .amount(BigDecimal.TEN)
+                                .categoryId(categoryId)
+                                .date(LocalDate.now())
+                                .build())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/expenses").header("Authorization", authorization))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/reports/export/pdf")
+                        .header("Authorization", authorization)
+                        .param("from", LocalDate.now().withDayOfMonth(1).toString())
+                        .param("to", LocalDate.now().toString()))
+                .andExpect(status().isOk());
+
+        User admin = userRepository.save(User.builder()
+                .email("metrics-admin-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.ADMIN)
+                .build());
+        String scrape = mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.generateToken(admin)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/expenses\"")
+                .contains("app_service_invocations_seconds_bucket{")
+                .contains("service=\"ExpenseServiceImpl\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("hikaricp_connections_active{")
+                .contains("cache_gets_total{")
+                .contains("cache=\"verified-tokens\"")
+                .contains("cache=\"user-categories\"")
+                .contains("app_transactions_written_total{")
+                .contains("app_reports_generated_total{")
+                .contains("report=\"pdf\"")
+                .contains("app_reports_pdf_size_bytes_count{")
+                .contains("app_http_allocated_bytes_count{");
+    }
+
+    @Test
+    void prometheusEndpoint_requiresAdminRole_whileHealthStaysOpen() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("metrics-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.generateToken(user)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -241,22 +242,50 @@ public class SavingGoalControllerTest {
                 .type(GoalContributionType.DEPOSIT)
                 .build();
 
-        when(savingGoalService.getContributions(goalId))
-                .thenReturn(List.of(dto));
+        GoalContributionPageDto page = GoalContributionPageDto.builder()
+                .items(List.of(dto))
+                .nextCursor("next")
+                .hasMore(true)
+                .build();
 
-        mockMvc.perform(get("/api/saving-goals/{id}/contributions", goalId))
+        when(savingGoalService.getContributions(goalId, "abc", 10))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/saving-goals/{id}/contributions", goalId)
+                        .param("cursor", "abc")
+                        .param("limit", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].amount").value(100))
-                .andExpect(jsonPath("$[0].type").value("DEPOSIT"));
+                .andExpect(jsonPath("$.items[0].amount").value(100))
+                .andExpect(jsonPath("$.items[0].type").value("DEPOSIT"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
     }
 
     @Test
     void getContributions_goalNotFound() throws Exception {
-        when(savingGoalService.getContributions(goalId))
+        when(savingGoalService.getContributions(goalId, null, 20))
                 .thenThrow(new EntityNotFoundException("Goal not found"));
 
         mockMvc.perform(get("/api/saving-goals/{id}/contributions", goalId))
                 .andExpect(status().isNotFound())
                 .andExpect(content().string("Goal not found"));
     }
+
+    @Test
+    void getMonthlyContributionHistory_success() throws Exception {
+        MonthlyContributionDto month = MonthlyContributionDto.builder()
+                .period(YearMonth.of(2025, 1))
+                .deposits(BigDecimal.valueOf(100))
+                .withdrawals(BigDecimal.ZERO)
+                .balance(BigDecimal.valueOf(100))
+                .build();
+
+        when(savingGoalService.getMonthlyContributionHistory(goalId))
+                .thenReturn(List.of(month));
+
+        mockMvc.perform(get("/api/saving-goals/{id}/contributions/monthly", goalId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].deposits").value(100))
+                .andExpect(jsonPath("$[0].balance").value(100));
+    }
 }
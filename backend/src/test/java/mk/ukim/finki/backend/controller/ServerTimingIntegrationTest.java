@@ -0,0 +1,62 @@
+package mk.ukim.finki.backend.controller;
+
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the {@code Server-Timing} header breaks a report request down into authentication,
+ * database access, report building, PDF rendering and serialization.
+ */
+@SpringBootTest(properties = "app.server-timing.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void pdfExport_reportsEveryPhaseInServerTimingHeader() throws Exception {
+        User user = userRepository.save(User.builder()
+                .email("timing-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+
+        String header = mockMvc.perform(get("/api/reports/export/pdf")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.generateToken(user))
+                        .param("from", LocalDate.now().withDayOfMonth(1).toString())
+                        .param("to", LocalDate.now().toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Server-Timing");
+
+        assertThat(header)
+                .contains("auth;dur=")
+                .containsPattern("db;dur=[0-9.]+;desc=\"[1-9][0-9]* statements\"")
+                .contains("report;dur=")
+                .contains("pdf;dur=")
+                .contains("serialize;dur=")
+                .contains("total;dur=");
+    }
+}
@@ -0,0 +1,231 @@
+package mk.ukim.finki.backend.controller;
+
+import mk.ukim.finki.backend.metrics.SqlStatementCounter;
+import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
+import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateSavingGoalRequest;
+import mk.ukim.finki.backend.model.dto.saving_goal.GoalContributionRequest;
+import mk.ukim.finki.backend.model.dto.transaction.ExpenseRequest;
+import mk.ukim.finki.backend.model.dto.transaction.IncomeRequest;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.JwtTokenProvider;
+import mk.ukim.finki.backend.service.AutoSaveRuleService;
+import mk.ukim.finki.backend.service.BudgetService;
+import mk.ukim.finki.backend.service.CategoryService;
+import mk.ukim.finki.backend.service.ExpenseService;
+import mk.ukim.finki.backend.service.IncomeService;
+import mk.ukim.finki.backend.service.SavingGoalService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets of the read endpoints of every controller.
+ * <p>
+ * Every endpoint is called for a user with a little and a user with a lot of data, each record in its own
+ * category; both calls must stay within the endpoint's budget, and a count that grows with the data
+ * (an N+1 query) fails the build.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SqlStatementBudgetIntegrationTest {
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private SavingGoalRepository savingGoalRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private ExpenseService expenseService;
+    @Autowired
+    private IncomeService incomeService;
+    @Autowired
+    private BudgetService budgetService;
+    @Autowired
+    private SavingGoalService savingGoalService;
+    @Autowired
+    private AutoSaveRuleService autoSaveRuleService;
+
+    private record Seeded(String token, UUID expenseId, UUID goalId) {
+    }
+
+    private Seeded small;
+    private Seeded large;
+
+    @BeforeAll
+    void seed() {
+        small = seed(SMALL);
+        large = seed(LARGE);
+    }
+
+    @Test
+    void authController_statementBudget() throws Exception {
+        assertBudget("/api/auth/me", seeded -> get("/api/auth/me"), 0);
+    }
+
+    @Test
+    void expenseController_statementBudget() throws Exception {
+        assertBudget("/api/expenses", seeded -> get("/api/expenses"), 1);
+        assertBudget("/api/expenses/{id}", seeded -> get("/api/expenses/" + seeded.expenseId()), 2);
+    }
+
+    @Test
+    void incomeController_statementBudget() throws Exception {
+        assertBudget("/api/incomes", seeded -> get("/api/incomes"), 1);
+    }
+
+    @Test
+    void categoryController_statementBudget() throws Exception {
+        assertBudget("/api/categories", seeded -> get("/api/categories").param("type", "EXPENSE"), 1);
+    }
+
+    @Test
+    void budgetController_statementBudget() throws Exception {
+        assertBudget("/api/budgets", seeded -> get("/api/budgets"), 3);
+        assertBudget("/api/budgets/expired", seeded -> get("/api/budgets/expired"), 3);
+    }
+
+    @Test
+    void savingGoalController_statementBudget() throws Exception {
+        assertBudget("/api/saving-goals", seeded -> get("/api/saving-goals"), 1);
+        assertBudget("/api/saving-goals/{id}/contributions",
+                seeded -> get("/api/saving-goals/" + seeded.goalId() + "/contributions"), 2);
+    }
+
+    @Test
+    void autoSaveRuleController_statementBudget() throws Exception {
+        assertBudget("/api/auto-save-rules", seeded -> get("/api/auto-save-rules"), 1);
+    }
+
+    @Test
+    void financialReportController_statementBudget() throws Exception {
+        String from = LocalDate.now().withDayOfMonth(1).toString();
+        String to = LocalDate.now().toString();
+        assertBudget("/api/dashboard", seeded -> get("/api/dashboard").param("from", from).param("to", to), 4);
+        assertBudget("/api/reports", seeded -> get("/api/reports").param("from", from).param("to", to), 7);
+        assertBudget("/api/quick-stats", seeded -> get("/api/quick-stats").param("from", from).param("to", to), 4);
+        assertBudget("/api/budgets/performance",
+                seeded -> get("/api/budgets/performance").param("from", from).param("to", to), 2);
+    }
+
+    /**
+     * Asserts that a request stays within its statement budget, and issues as many statements
+     * for the large data set as for the small one.
+     */
+    private void assertBudget(String endpoint, Function<Seeded, MockHttpServletRequestBuilder> request, int budget)
+            throws Exception {
+        long smallCount = statements(request, small);
+        long largeCount = statements(request, large);
+
+        assertThat(largeCount).as("statements of %s with %d vs %d records", endpoint, LARGE, SMALL)
+                .isEqualTo(smallCount);
+        assertThat(largeCount).as("statements of %s", endpoint).isLessThanOrEqualTo(budget);
+    }
+
+    private long statements(Function<Seeded, MockHttpServletRequestBuilder> request, Seeded seeded) throws Exception {
+        long start = SqlStatementCounter.current();
+        mockMvc.perform(request.apply(seeded).header("Authorization", "Bearer " + seeded.token()))
+                .andExpect(status().isOk());
+        return SqlStatementCounter.current() - start;
+    }
+
+    /**
+     * Seeds a user with {@code size} expense and income categories, each holding one expense, income,
+     * budget, and auto-save rule into its own saving goal with two contributions.
+     */
+    private Seeded seed(int size) {
+        User user = userRepository.save(User.builder()
+                .email("statements-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user.getEmail(), null, List.of()));
+        try {
+            LocalDate today = LocalDate.now();
+            for (int i = 0; i < size; i++) {
+                categoryService.createCategory(category("Expense " + i, CategoryType.EXPENSE));
+                categoryService.createCategory(category("Income " + i, CategoryType.INCOME));
+                savingGoalService.createSavingGoal(CreateSavingGoalRequest.builder()
+                        .name("Goal " + i)
+                        .targetAmount(BigDecimal.valueOf(1_000))
+                        .deadline(today.plusYears(1))
+                        .build());
+            }
+            List<Category> categories = categoryRepository.findByUser_IdAndDeletingFalse(user.getId());
+            List<SavingGoal> goals = savingGoalRepository.findByUserOrderByCreatedAtDesc(user);
+
+            int goal = 0;
+            for (Category category : categories) {
+                if (category.getType() == CategoryType.EXPENSE) {
+                    expenseService.create(ExpenseRequest.builder()
+                            .amount(BigDecimal.TEN).categoryId(category.getId()).date(today).build());
+                    budgetService.createBudget(CreateBudgetRequest.builder()
+                            .categoryId(category.getId())
+                            .amount(BigDecimal.valueOf(100))
+                            .startDate(today.withDayOfMonth(1))
+                            .endDate(today.withDayOfMonth(today.lengthOfMonth()))
+                            .build());
+                } else {
+                    UUID goalId = goals.get(goal++).getId();
+                    savingGoalService.addContribution(goalId, GoalContributionRequest.builder().amount(BigDecimal.ONE).build());
+                    savingGoalService.addContribution(goalId, GoalContributionRequest.builder().amount(BigDecimal.ONE).build());
+                    autoSaveRuleService.createRule(CreateAutoSaveRuleRequest.builder()
+                            .categoryId(category.getId()).savingGoalId(goalId).percentage(BigDecimal.TEN).build());
+                    incomeService.create(IncomeRequest.builder()
+                            .amount(BigDecimal.valueOf(50)).categoryId(category.getId()).date(today).build());
+                }
+            }
+
+            UUID expenseId = expenseRepository.findAllByUser_IdOrderByDateDescCreatedAtDesc(user.getId()).get(0).getId();
+            return new Seeded(jwtTokenProvider.generateToken(user), expenseId, goals.get(0).getId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static CreateCategoryRequest category(String name, CategoryType type) {
+        return CreateCategoryRequest.builder().name(name).type(type).build();
+    }
+}
@@ -0,0 +1,91 @@
+package mk.ukim.finki.backend.datagen;
+
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:datagen;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+class SyntheticDataGeneratorIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbc;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private ExpenseRepository expenseRepository;
+    @Autowired
+    private SavingGoalRepository savingGoalRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<SyntheticDataGenerator.GeneratedUser> generate(String prefix, long seed) throws Exception {
+        return new SyntheticDataGenerator(dataSource, new SyntheticDataGenerator.Settings(
+                3, 100, 365, seed, prefix, passwordEncoder.encode("DataGen1!"), 7)).generate();
+    }
+
+    @Test
+    void generatesConsistentHistories() throws Exception {
+        List<SyntheticDataGenerator.GeneratedUser> users = generate("consistent", 42);
+
+        assertThat(users).hasSize(3);
+        for (SyntheticDataGenerator.GeneratedUser user : users) {
+            assertThat(user.email()).startsWith("consistent-");
+            assertThat(count("SELECT COUNT(*) FROM expenses WHERE user_id = ?", user)).isEqualTo(80);
+            assertThat(count("SELECT COUNT(*) FROM incomes WHERE user_id = ?", user)).isEqualTo(20);
+            assertThat(count("SELECT COUNT(*) FROM budgets WHERE user_id = ?", user)).isEqualTo(36);
+            assertThat(count("SELECT COUNT(*) FROM auto_save_rules WHERE user_id = ?", user)).isEqualTo(1);
+            assertThat(expenseRepository.findAllByUser_IdOrderByDateDescCreatedAtDesc(user.id())).hasSize(80);
+
+            assertThat(count("SELECT COALESCE(SUM(transaction_count), 0) FROM category_usage WHERE user_id = ?", user))
+                    .isEqualTo(100);
+            assertThat(count("SELECT COUNT(*) FROM categories c WHERE c.user_id = ? AND NOT EXISTS "
+                    + "(SELECT 1 FROM category_closure cc WHERE cc.descendant_id = c.id AND cc.depth = 0)", user))
+                    .isZero();
+
+            List<SavingGoal> goals = savingGoalRepository.findByUserOrderByCreatedAtDesc(
+                    userRepository.findById(user.id()).orElseThrow());
+            assertThat(goals).isNotEmpty();
+            for (SavingGoal goal : goals) {
+                BigDecimal contributed = jdbc.queryForObject("SELECT COALESCE(SUM(CASE WHEN type = 'DEPOSIT' "
+                                + "THEN amount ELSE -amount END), 0) FROM goal_contributions WHERE saving_goal_id = ?",
+                        BigDecimal.class, goal.getId());
+                assertThat(goal.getCurrentAmount()).isEqualByComparingTo(contributed);
+                assertThat(goal.getCurrentAmount()).isNotNegative();
+                assertThat(goal.isAchieved()).isEqualTo(goal.getCurrentAmount().compareTo(goal.getTargetAmount()) >= 0);
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGeneratesSameData() throws Exception {
+        List<SyntheticDataGenerator.GeneratedUser> first = generate("seeded-a", 7);
+        List<SyntheticDataGenerator.GeneratedUser> second = generate("seeded-b", 7);
+
+        assertThat(amounts(first.get(0))).isEqualTo(amounts(second.get(0)));
+    }
+
+    private long count(String sql, SyntheticDataGenerator.GeneratedUser user) {
+        return jdbc.queryForObject(sql, Long.class, user.id());
+    }
+
+    private List<BigDecimal> amounts(SyntheticDataGenerator.GeneratedUser user) {
+        return jdbc.queryForList("SELECT amount FROM expenses WHERE user_id = ? ORDER BY date, amount",
+                BigDecimal.class, user.id());
+    }
+}
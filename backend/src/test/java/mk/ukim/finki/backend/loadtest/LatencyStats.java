@@ -0,0 +1,53 @@
+package mk.ukim.finki.backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and errors of one endpoint, recorded by a single thread and merged afterwards.
+ */
+final class LatencyStats {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private int errors;
+
+    void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyStats other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the latency below which the given fraction of requests completed, in milliseconds.
+     */
+    double percentileMillis(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(count - 1, Math.ceil(fraction * count) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,318 @@
+package mk.ukim.finki.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mk.ukim.finki.backend.BackendApplication;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.datagen.SyntheticDataGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * End-to-end load test: boots the application, seeds users with large histories and drives concurrent
+ * authenticated traffic at every controller, reporting p50/p95/p99 latency and throughput per endpoint.
+ * <p>
+ * The run is repeated for every data size, each against a fresh database, so the results form scaling curves.
+ * By default each size runs on an in-memory H2 database in PostgreSQL mode; set {@code loadtest.jdbc-url}
+ * (with {@code loadtest.jdbc-username} and {@code loadtest.jdbc-password}) to run against an empty PostgreSQL
+ * database migrated by Liquibase instead, one size per database. Results are printed and appended
+ * to {@code target/loadtest/results.csv}.
+ * <p>
+ * Run with {@code mvn -Ploadtest verify}; settings are the {@code loadtest.*} properties of that profile.
+ */
+public final class LoadTest {
+
+    private record Settings(List<Integer> sizes, int users, int threads, int warmupSeconds, int durationSeconds,
+                            long seed, String jdbcUrl, String jdbcUsername, String jdbcPassword, Path output) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Arrays.stream(System.getProperty("loadtest.sizes", "1000,100000,1000000").split(","))
+                            .map(String::trim)
+                            .map(Integer::parseInt)
+                            .toList(),
+                    Integer.getInteger("loadtest.users", 2),
+                    Integer.getInteger("loadtest.threads", 16),
+                    Integer.getInteger("loadtest.warmup-seconds", 10),
+                    Integer.getInteger("loadtest.duration-seconds", 30),
+                    Long.getLong("loadtest.seed", 42),
+                    System.getProperty("loadtest.jdbc-url", ""),
+                    System.getProperty("loadtest.jdbc-username", ""),
+                    System.getProperty("loadtest.jdbc-password", ""),
+                    Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+        }
+    }
+
+    private static final String PASSWORD = "LoadTest1!";
+    private static final int HISTORY_DAYS = 3 * 365;
+
+    /**
+     * Seeded user and the ids traffic needs to address its resources.
+     */
+    private record SeededUser(String email, UUID expenseCategoryId, List<UUID> goalIds) {
+    }
+
+    /**
+     * Request template, resolved against the user sending it.
+     */
+    private record Endpoint(String name, String method, Function<SeededUser, String> path,
+                            Function<SeededUser, String> body) {
+
+        static Endpoint get(String name, Function<SeededUser, String> path) {
+            return new Endpoint(name, "GET", path, user -> null);
+        }
+    }
+
+    private final Settings settings;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private LoadTest(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        new LoadTest(Settings.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        Files.createDirectories(settings.output());
+        Path results = settings.output().resolve("results.csv");
+        boolean header = Files.notExists(results);
+
+        for (int size : settings.sizes()) {
+            try (ConfigurableApplicationContext context = start(size);
+                 PrintWriter csv = new PrintWriter(Files.newBufferedWriter(results,
+                         StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                if (header) {
+                    csv.println("transactions_per_user,endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms");
+                    header = false;
+                }
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+                long seedingStart = System.nanoTime();
+                List<SeededUser> users = seed(context, size);
+                context.getBean(CategoryCatalog.class).loadPredefined();
+                System.out.printf(Locale.ROOT, "%nSeeded %d users x %d transactions in %.1f s%n",
+                        users.size(), size, (System.nanoTime() - seedingStart) / 1e9);
+
+                Map<String, String> tokens = login(baseUrl, users, context.getBean(ObjectMapper.class));
+                List<Endpoint> endpoints = endpoints();
+
+                drive(baseUrl, users, tokens, endpoints, settings.warmupSeconds());
+                Map<String, LatencyStats> stats = drive(baseUrl, users, tokens, endpoints, settings.durationSeconds());
+                report(size, stats, csv);
+            }
+        }
+        System.out.println("\nResults appended to " + results.toAbsolutePath());
+    }
+
+    private ConfigurableApplicationContext start(int size) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.liquibase", "WARN");
+        properties.put("logging.level.mk.ukim.finki.backend", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("app.jwt.expiration-ms", 86_400_000);
+        properties.put("app.categories.usage-flush-interval-ms", 5_000);
+        // The load comes from a handful of users on one address; rate limits would only measure 429s
+        properties.put("app.auth.login-rate-limit.email.burst", 1_000_000);
+        properties.put("app.auth.login-rate-limit.ip.burst", 1_000_000);
+        properties.put("app.rate-limit.budget.burst", 1_000_000);
+        properties.put("app.rate-limit.budget.per-minute", 100_000_000);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BackendApplication.class);
+        if (settings.jdbcUrl().isEmpty()) {
+            builder.profiles("test");
+            properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + size
+                    + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+                    + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+            properties.put("spring.liquibase.enabled", false);
+        } else {
+            properties.put("spring.datasource.url", settings.jdbcUrl());
+            properties.put("spring.datasource.username", settings.jdbcUsername());
+            properties.put("spring.datasource.password", settings.jdbcPassword());
+            properties.put("app.jwt.secret", UUID.randomUUID() + "-" + UUID.randomUUID());
+        }
+        // Passed as command line arguments, which take precedence over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return builder.run(args);
+    }
+
+    /**
+     * Generates the users with {@link SyntheticDataGenerator} and looks up the ids their requests address.
+     */
+    private List<SeededUser> seed(ConfigurableApplicationContext context, int size) throws SQLException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(context.getBean(DataSource.class),
+                new SyntheticDataGenerator.Settings(settings.users(), size, HISTORY_DAYS, settings.seed(),
+                        "size" + size, context.getBean(PasswordEncoder.class).encode(PASSWORD), 5_000));
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        return generator.generate().stream()
+                .map(user -> new SeededUser(user.email(),
+                        jdbc.queryForObject("SELECT category_id FROM expenses WHERE user_id = ? LIMIT 1",
+                                UUID.class, user.id()),
+                        jdbc.queryForList("SELECT id FROM saving_goals WHERE user_id = ? ORDER BY created_at",
+                                UUID.class, user.id())))
+                .toList();
+    }
+
+    private List<Endpoint> endpoints() {
+        LocalDate to = LocalDate.now();
+        String period = "from=" + to.minusYears(1).plusDays(1) + "&to=" + to;
+        return List.of(
+                Endpoint.get("GET /api/auth/me", user -> "/api/auth/me"),
+                Endpoint.get("GET /api/expenses", user -> "/api/expenses"),
+                new Endpoint("POST /api/expenses", "POST", user -> "/api/expenses",
+                        user -> "{\"amount\":12.34,\"categoryId\":\"" + user.expenseCategoryId()
+                                + "\",\"date\":\"" + to + "\",\"description\":\"Load test\"}"),
+                Endpoint.get("GET /api/incomes", user -> "/api/incomes"),
+                Endpoint.get("GET /api/categories", user -> "/api/categories?type=EXPENSE"),
+                Endpoint.get("GET /api/budgets", user -> "/api/budgets"),
+                Endpoint.get("GET /api/budgets/expired", user -> "/api/budgets/expired"),
+                Endpoint.get("GET /api/saving-goals", user -> "/api/saving-goals"),
+                Endpoint.get("GET /api/saving-goals/{id}/contributions",
+                        user -> "/api/saving-goals/" + user.goalIds().get(0) + "/contributions"),
+                Endpoint.get("GET /api/auto-save-rules", user -> "/api/auto-save-rules"),
+                Endpoint.get("GET /api/dashboard", user -> "/api/dashboard?" + period),
+                Endpoint.get("GET /api/reports", user -> "/api/reports?" + period),
+                Endpoint.get("GET /api/quick-stats", user -> "/api/quick-stats?" + period),
+                Endpoint.get("GET /api/trends/monthly", user -> "/api/trends/monthly?" + period),
+                Endpoint.get("GET /api/categories/breakdown", user -> "/api/categories/breakdown?" + period),
+                Endpoint.get("GET /api/budgets/performance", user -> "/api/budgets/performance?" + period),
+                Endpoint.get("GET /api/reports/export/csv", user -> "/api/reports/export/csv?" + period),
+                Endpoint.get("GET /api/reports/export/pdf", user -> "/api/reports/export/pdf?" + period));
+    }
+
+    private Map<String, String> login(String baseUrl, List<SeededUser> users, ObjectMapper objectMapper)
+            throws IOException, InterruptedException {
+        Map<String, String> tokens = new HashMap<>();
+        for (SeededUser user : users) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                                    Map.of("email", user.email(), "password", PASSWORD))))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login of " + user.email() + " failed: " + response.body());
+            }
+            tokens.put(user.email(), objectMapper.readTree(response.body()).get("token").asText());
+        }
+        return tokens;
+    }
+
+    /**
+     * Sends random requests from all threads for the given time and returns the merged statistics per endpoint.
+     */
+    private Map<String, LatencyStats> drive(String baseUrl, List<SeededUser> users, Map<String, String> tokens,
+                                            List<Endpoint> endpoints, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        try {
+            List<Future<Map<String, LatencyStats>>> workers = new ArrayList<>();
+            for (int t = 0; t < settings.threads(); t++) {
+                workers.add(executor.submit(() -> {
+                    Map<String, LatencyStats> local = new HashMap<>();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        SeededUser user = users.get(random.nextInt(users.size()));
+                        Endpoint endpoint = endpoints.get(random.nextInt(endpoints.size()));
+                        long start = System.nanoTime();
+                        boolean success = send(baseUrl, endpoint, user, tokens.get(user.email()));
+                        local.computeIfAbsent(endpoint.name(), name -> new LatencyStats())
+                                .record(System.nanoTime() - start, success);
+                    }
+                    return local;
+                }));
+            }
+
+            Map<String, LatencyStats> merged = new LinkedHashMap<>();
+            endpoints.forEach(endpoint -> merged.put(endpoint.name(), new LatencyStats()));
+            for (Future<Map<String, LatencyStats>> worker : workers) {
+                worker.get().forEach((name, stats) -> merged.get(name).merge(stats));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean send(String baseUrl, Endpoint endpoint, SeededUser user, String token) {
+        String body = endpoint.body().apply(user);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path().apply(user)))
+                .timeout(Duration.ofMinutes(2))
+                .header("Authorization", "Bearer " + token);
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(endpoint.method(), HttpRequest.BodyPublishers.ofString(body));
+        } else {
+            request.method(endpoint.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        try {
+            int status = client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void report(int size, Map<String, LatencyStats> stats, PrintWriter csv) {
+        double seconds = settings.durationSeconds();
+        System.out.printf(Locale.ROOT, "%n%d transactions per user, %d threads, %d s%n",
+                size, settings.threads(), settings.durationSeconds());
+        System.out.printf(Locale.ROOT, "%-45s %9s %7s %9s %10s %10s %10s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p95 ms", "p99 ms");
+        int total = 0;
+        for (Map.Entry<String, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats s = entry.getValue();
+            total += s.count();
+            double p50 = s.percentileMillis(0.50);
+            double p95 = s.percentileMillis(0.95);
+            double p99 = s.percentileMillis(0.99);
+            System.out.printf(Locale.ROOT, "%-45s %9d %7d %9.1f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(), s.count(), s.errors(), s.count() / seconds, p50, p95, p99);
+            csv.printf(Locale.ROOT, "%d,%s,%d,%d,%.2f,%.3f,%.3f,%.3f%n",
+                    size, entry.getKey(), s.count(), s.errors(), s.count() / seconds, p50, p95, p99);
+        }
+        System.out.printf(Locale.ROOT, "%-45s %9d %7s %9.1f%n", "Total", total, "", total / seconds);
+    }
+}
@@ -0,0 +1,47 @@
+package mk.ukim.finki.backend.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServerTimingFilterTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void testSampledRequestReportsExclusivePhases() throws Exception {
+        new ServerTimingFilter(1.0).doFilter(request, response, (req, res) -> {
+            RequestTiming report = RequestTiming.enter(RequestTiming.REPORT);
+            RequestTiming db = RequestTiming.enter(RequestTiming.DB);
+            RequestTiming.exit(db);
+            RequestTiming.exit(report);
+            RequestTiming.enter(RequestTiming.SERIALIZE);
+            res.getWriter().write("{}");
+        });
+
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.matches("app;dur=[0-9.]+, report;dur=[0-9.]+, db;dur=[0-9.]+;desc=\"0 statements\", "
+                + "serialize;dur=[0-9.]+, total;dur=[0-9.]+"), header);
+        assertEquals("{}", response.getContentAsString());
+    }
+
+    @Test
+    void testUnsampledRequestIsNotTimed() throws Exception {
+        new ServerTimingFilter(0.0).doFilter(request, response, (req, res) ->
+                assertNull(RequestTiming.enter(RequestTiming.REPORT)));
+
+        assertNull(response.getHeader(ServerTimingFilter.HEADER));
+    }
+
+    @Test
+    void testPhasesOutsideOfRequestAreIgnored() {
+        RequestTiming timing = RequestTiming.enter(RequestTiming.DB);
+
+        assertNull(timing);
+        RequestTiming.exit(timing);
+    }
+}
@@ -0,0 +1,85 @@
+package mk.ukim.finki.backend.security;
+
+import mk.ukim.finki.backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    private final PasswordEncoder blockingDelegate = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void testDelegatesHashing() {
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1);
+
+        assertEquals("hash:secret", encoder.encode("secret"));
+        assertTrue(encoder.matches("secret", "hash:secret"));
+    }
+
+    @Test
+    void testRejectsImmediatelyWhenSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 0);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class, () -> encoder.encode("second"));
+        assertEquals(1, ex.getRetryAfterSeconds());
+
+        release.countDown();
+        assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:third", encodeOnceWorkerIsFree("third"));
+    }
+
+    /**
+     * Without a queue a task is only accepted once the finished worker polls for work again,
+     * which happens shortly after the previous result is published.
+     */
+    private String encodeOnceWorkerIsFree(String password) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                return encoder.encode(password);
+            } catch (TooManyRequestsException ex) {
+                if (System.nanoTime() > deadline) {
+                    throw ex;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
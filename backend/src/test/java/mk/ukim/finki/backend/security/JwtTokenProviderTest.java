@@ -1,8 +1,15 @@
 package mk.ukim.finki.backend.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class JwtTokenProviderTest {
@@ -11,16 +18,22 @@ public class JwtTokenProviderTest {
     private final String secret = "MySuperSecretKeyForJwtThatIsLongEnough123!";
     private final long expirationMs = 86400000;
 
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("test@example.com")
+            .role(UserRole.USER)
+            .build();
+
     @BeforeEach
     void setUp() {
-        jwtTokenProvider = new JwtTokenProvider(secret, expirationMs);
+        jwtTokenProvider = new JwtTokenProvider(secret, expirationMs, 100);
     }
 
     @Test
     void testGenerateAndValidateToken() {
         String email = "test@example.com";
 
-        String token = jwtTokenProvider.generateToken(email);
+        String token = jwtTokenProvider.generateToken(user);
 
         assertNotNull(token);
         assertTrue(jwtTokenProvider.validateToken(token));
@@ -33,4 +46,79 @@ public class JwtTokenProviderTest {
 
         assertFalse(jwtTokenProvider.validateToken(invalidToken));
     }
+
+    @Test
+    void testParseClaimsReturnsValidatedSubject() {
+        String token = jwtTokenProvider.generateToken(user);
+
+        assertEquals("test@example.com", jwtTokenProvider.parseClaims(token).orElseThrow().getSubject());
+    }
+
+    @Test
+    void testParseClaimsRejectsTamperedAndForeignTokens() {
+        String token = jwtTokenProvider.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String foreign = new JwtTokenProvider(secret + "-other", expirationMs, 100).generateToken(user);
+
+        assertTrue(jwtTokenProvider.parseClaims(tampered).isEmpty());
+        assertTrue(jwtTokenProvider.parseClaims(foreign).isEmpty());
+        assertTrue(jwtTokenProvider.parseClaims("").isEmpty());
+    }
+
+    @Test
+    void testPrincipalIsBuiltFromClaims() {
+        String token = jwtTokenProvider.generateToken(user);
+
+        AuthenticatedUser principal = jwtTokenProvider.parseClaims(token)
+                .flatMap(jwtTokenProvider::toPrincipal)
+                .orElseThrow();
+
+        assertEquals(user.getId(), principal.id());
+        assertEquals("test@example.com", principal.getName());
+        assertEquals(UserRole.USER, principal.role());
+    }
+
+    @Test
+    void testPrincipalIsNotBuiltFromUnknownRoleOrMalformedId() {
+        Claims unknownRole = Jwts.claims(Map.of("uid", user.getId().toString(), "role", "AUDITOR"));
+        Claims malformedId = Jwts.claims(Map.of("uid", "not-a-uuid", "role", "USER"));
+
+        assertTrue(jwtTokenProvider.toPrincipal(unknownRole).isEmpty());
+        assertTrue(jwtTokenProvider.toPrincipal(malformedId).isEmpty());
+    }
+
+    @Test
+    void testVerifiedClaimsAreServedFromCache() {
+        String token = jwtTokenProvider.generateToken(user);
+
+        assertSame(jwtTokenProvider.parseClaims(token).orElseThrow(), jwtTokenProvider.parseClaims(token).orElseThrow());
+    }
+
+    @Test
+    void testTamperedTokenIsNeverServedFromCache() {
+        String token = jwtTokenProvider.generateToken(user);
+        assertTrue(jwtTokenProvider.parseClaims(token).isPresent());
+
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtTokenProvider.generateToken(User.builder()
+                .id(UUID.randomUUID())
+                .email("attacker@example.com")
+                .role(UserRole.ADMIN)
+                .build()).split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        assertTrue(jwtTokenProvider.parseClaims(tampered).isEmpty());
+        assertEquals("test@example.com", jwtTokenProvider.parseClaims(token).orElseThrow().getSubject());
+    }
+
+    @Test
+    void testExpiredTokenIsNeverServedFromCache() throws InterruptedException {
+        JwtTokenProvider shortLived = new JwtTokenProvider(secret, 1500, 100);
+        String token = shortLived.generateToken(user);
+        assertTrue(shortLived.parseClaims(token).isPresent());
+
+        Thread.sleep(2100);
+
+        assertTrue(shortLived.parseClaims(token).isEmpty());
+    }
 }
@@ -0,0 +1,61 @@
+package mk.ukim.finki.backend.security;
+
+import mk.ukim.finki.backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    @Test
+    void testBurstIsAllowedThenRejectedWithRetryAfter() {
+        LoginRateLimiter limiter = new LoginRateLimiter(3, 6, 100, 100, 4096);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire("user@example.com", "10.0.0.1");
+        }
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> limiter.acquire("USER@example.com", "10.0.0.2"));
+
+        assertEquals(10, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void testAddressLimitAppliesAcrossEmails() {
+        LoginRateLimiter limiter = new LoginRateLimiter(100, 100, 2, 1, 4096);
+
+        limiter.acquire("a@example.com", "10.0.0.1");
+        limiter.acquire("b@example.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.acquire("c@example.com", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.acquire("c@example.com", "10.0.0.3"));
+    }
+
+    @Test
+    void testConcurrentAttemptsNeverExceedBurst() throws InterruptedException {
+        LoginRateLimiter limiter = new LoginRateLimiter(50, 1, 10_000, 10_000, 4096);
+        AtomicInteger allowed = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    try {
+                        limiter.acquire("victim@example.com", "10.0.0.1");
+                        allowed.incrementAndGet();
+                    } catch (TooManyRequestsException ignored) {
+                        // rejected attempt
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(50, allowed.get());
+    }
+}
@@ -0,0 +1,108 @@
+package mk.ukim.finki.backend.security;
+
+import mk.ukim.finki.backend.exception.TooManyRequestsException;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCostInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @RequestCost(value = 10, perYear = 10)
+    void report() {
+    }
+
+    void crud() {
+    }
+
+    private HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(this, getClass().getDeclaredMethod(name));
+    }
+
+    private static MockHttpServletRequest period(String from, String to) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/reports");
+        request.setParameter("from", from);
+        request.setParameter("to", to);
+        return request;
+    }
+
+    private static void authenticateAs(UUID userId) {
+        AuthenticatedUser principal = new AuthenticatedUser(userId, userId + "@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testCostGrowsWithStartedYearsOfPeriod() throws Exception {
+        RequestCost cost = handler("report").getMethodAnnotation(RequestCost.class);
+
+        assertEquals(20, RequestCostInterceptor.costOf(cost, period("2024-01-01", "2024-12-31")));
+        assertEquals(30, RequestCostInterceptor.costOf(cost, period("2024-01-01", "2025-01-31")));
+        assertEquals(10, RequestCostInterceptor.costOf(cost, period("2024-01-01", "not-a-date")));
+    }
+
+    @Test
+    void testBudgetIsExhaustedThenRejectedWithRetryAfter() throws Exception {
+        RequestCostInterceptor interceptor = new RequestCostInterceptor(60, 60, 4096);
+        authenticateAs(UUID.randomUUID());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(period("2024-01-01", "2024-12-31"), response, handler("report")));
+        }
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(period("2024-01-01", "2024-12-31"), response, handler("report")));
+
+        assertEquals(20, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    void testBudgetsArePerUser() throws Exception {
+        RequestCostInterceptor interceptor = new RequestCostInterceptor(20, 1, 4096);
+
+        authenticateAs(UUID.randomUUID());
+        interceptor.preHandle(period("2024-01-01", "2024-06-30"), response, handler("report"));
+        assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(period("2024-01-01", "2024-06-30"), response, handler("report")));
+
+        authenticateAs(UUID.randomUUID());
+        assertDoesNotThrow(() -> interceptor.preHandle(period("2024-01-01", "2024-06-30"), response, handler("report")));
+    }
+
+    @Test
+    void testUsersNeverShareABudget() throws Exception {
+        RequestCostInterceptor interceptor = new RequestCostInterceptor(20, 1, 100_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            authenticateAs(UUID.randomUUID());
+            assertDoesNotThrow(() -> interceptor.preHandle(period("2024-01-01", "2024-06-30"), response, handler("report")));
+        }
+    }
+
+    @Test
+    void testUnannotatedAndAnonymousRequestsAreNotCharged() throws Exception {
+        RequestCostInterceptor interceptor = new RequestCostInterceptor(1, 1, 4096);
+
+        assertTrue(interceptor.preHandle(period("2000-01-01", "2024-12-31"), response, handler("report")));
+
+        authenticateAs(UUID.randomUUID());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, handler("crud")));
+        }
+    }
+}
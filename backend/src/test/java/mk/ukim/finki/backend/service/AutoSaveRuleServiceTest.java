@@ -0,0 +1,199 @@
+package mk.ukim.finki.backend.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+import mk.ukim.finki.backend.exception.SavingGoalValidationException;
+import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
+import mk.ukim.finki.backend.model.dto.saving_goal.AutoSaveRuleDto;
+import mk.ukim.finki.backend.model.dto.saving_goal.CreateAutoSaveRuleRequest;
+import mk.ukim.finki.backend.model.entity.*;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.AutoSaveRuleRepository;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.GoalContributionRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.service.impl.AutoSaveRuleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoSaveRuleServiceTest {
+
+    @Mock
+    private AutoSaveRuleRepository autoSaveRuleRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private SavingGoalRepository savingGoalRepository;
+
+    @Mock
+    private GoalContributionRepository goalContributionRepository;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private AutoSaveRuleServiceImpl autoSaveRuleService;
+
+    private User user;
+    private Category salary;
+    private SavingGoal vacation;
+    private CreateAutoSaveRuleRequest request;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(UUID.randomUUID()).email("test@test.com").build();
+        salary = Category.builder()
+                .id(UUID.randomUUID())
+                .name("Salary")
+                .type(CategoryType.INCOME)
+                .predefined(true)
+                .build();
+        vacation = SavingGoal.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .name("Vacation Fund")
+                .targetAmount(BigDecimal.valueOf(1000))
+                .currentAmount(BigDecimal.ZERO)
+                .createdAt(Instant.now())
+                .build();
+        request = CreateAutoSaveRuleRequest.builder()
+                .categoryId(salary.getId())
+                .savingGoalId(vacation.getId())
+                .percentage(BigDecimal.TEN)
+                .build();
+
+        // sweeps run outside of a request, without a current user
+        lenient().when(userService.getCurrentUser()).thenReturn(user);
+    }
+
+    private AutoSaveRule rule(SavingGoal goal, String percentage) {
+        return AutoSaveRule.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .category(salary)
+                .savingGoal(goal)
+                .percentage(new BigDecimal(percentage))
+                .build();
+    }
+
+    @Test
+    void createRule_success() {
+        when(categoryRepository.findById(salary.getId())).thenReturn(Optional.of(salary));
+        when(savingGoalRepository.findByIdAndUser(vacation.getId(), user)).thenReturn(Optional.of(vacation));
+        when(autoSaveRuleRepository.sumPercentageByCategory(user, salary)).thenReturn(BigDecimal.valueOf(50));
+
+        AutoSaveRuleDto result = autoSaveRuleService.createRule(request);
+
+        assertThat(result.getCategoryName()).isEqualTo("Salary");
+        assertThat(result.getSavingGoalName()).isEqualTo("Vacation Fund");
+        verify(autoSaveRuleRepository).save(any(AutoSaveRule.class));
+    }
+
+    @Test
+    void createRule_expenseCategory_throws() {
+        salary.setType(CategoryType.EXPENSE);
+        when(categoryRepository.findById(salary.getId())).thenReturn(Optional.of(salary));
+
+        assertThatThrownBy(() -> autoSaveRuleService.createRule(request))
+                .isInstanceOf(SavingGoalValidationException.class)
+                .hasMessage("Auto-save rules can only use income categories");
+        verify(autoSaveRuleRepository, never()).save(any());
+    }
+
+    @Test
+    void createRule_foreignCategory_throws() {
+        salary.setPredefined(false);
+        salary.setUser(User.builder().id(UUID.randomUUID()).build());
+        when(categoryRepository.findById(salary.getId())).thenReturn(Optional.of(salary));
+
+        assertThatThrownBy(() -> autoSaveRuleService.createRule(request))
+                .isInstanceOf(UnauthorizedCategoryAccessException.class);
+    }
+
+    @Test
+    void createRule_totalAbove100_throws() {
+        when(categoryRepository.findById(salary.getId())).thenReturn(Optional.of(salary));
+        when(savingGoalRepository.findByIdAndUser(vacation.getId(), user)).thenReturn(Optional.of(vacation));
+        when(autoSaveRuleRepository.sumPercentageByCategory(user, salary)).thenReturn(BigDecimal.valueOf(95));
+
+        assertThatThrownBy(() -> autoSaveRuleService.createRule(request))
+                .isInstanceOf(SavingGoalValidationException.class)
+                .hasMessage("Auto-save rules for a category cannot exceed 100%");
+    }
+
+    @Test
+    void createRule_goalNotFound_throws() {
+        when(categoryRepository.findById(salary.getId())).thenReturn(Optional.of(salary));
+        when(savingGoalRepository.findByIdAndUser(vacation.getId(), user)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> autoSaveRuleService.createRule(request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Saving goal not found");
+    }
+
+    @Test
+    void deleteRule_notFound_throws() {
+        UUID id = UUID.randomUUID();
+        when(autoSaveRuleRepository.findByIdAndUser(id, user)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> autoSaveRuleService.deleteRule(id))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Auto-save rule not found");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sweepIncome_mergesRulesPerGoalIntoOneDeposit() {
+        SavingGoal car = SavingGoal.builder()
+                .id(UUID.randomUUID())
+                .user(user)
+                .name("Car")
+                .createdAt(Instant.now())
+                .build();
+        IncomeCreatedEvent event = new IncomeCreatedEvent(user.getId(), UUID.randomUUID(), salary.getId(),
+                new BigDecimal("2000.00"));
+
+        when(autoSaveRuleRepository.findTriggeredRules(user.getId(), salary.getId()))
+                .thenReturn(List.of(rule(vacation, "10"), rule(car, "5"), rule(vacation, "2.5")));
+        when(savingGoalRepository.deposit(any(), any(), any(), anyDouble())).thenReturn(1);
+
+        autoSaveRuleService.sweepIncome(event);
+
+        verify(savingGoalRepository).deposit(eq(vacation.getId()), eq(user), eq(new BigDecimal("250.00")), anyDouble());
+        verify(savingGoalRepository).deposit(eq(car.getId()), eq(user), eq(new BigDecimal("100.00")), anyDouble());
+        verify(savingGoalRepository, times(2)).deposit(any(), any(), any(), anyDouble());
+
+        ArgumentCaptor<List<GoalContribution>> contributions = ArgumentCaptor.forClass(List.class);
+        verify(goalContributionRepository).saveAll(contributions.capture());
+        assertThat(contributions.getValue()).hasSize(2);
+    }
+
+    @Test
+    void sweepIncome_noRules_doesNothing() {
+        IncomeCreatedEvent event = new IncomeCreatedEvent(user.getId(), UUID.randomUUID(), salary.getId(),
+                BigDecimal.TEN);
+        when(autoSaveRuleRepository.findTriggeredRules(user.getId(), salary.getId())).thenReturn(List.of());
+
+        autoSaveRuleService.sweepIncome(event);
+
+        verifyNoInteractions(savingGoalRepository, goalContributionRepository);
+    }
+}
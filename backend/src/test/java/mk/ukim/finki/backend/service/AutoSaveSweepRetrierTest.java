@@ -0,0 +1,93 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
+import mk.ukim.finki.backend.model.entity.FailedAutoSaveSweep;
+import mk.ukim.finki.backend.repository.FailedAutoSaveSweepRepository;
+import mk.ukim.finki.backend.service.impl.AutoSaveSweepRetrier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AutoSaveSweepRetrierTest {
+
+    @Mock
+    private AutoSaveRuleService autoSaveRuleService;
+
+    @Mock
+    private FailedAutoSaveSweepRepository failedSweepRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AutoSaveSweepRetrier retrier;
+
+    private IncomeCreatedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        retrier = new AutoSaveSweepRetrier(autoSaveRuleService, failedSweepRepository, transactionManager);
+        event = new IncomeCreatedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN);
+    }
+
+    @Test
+    void recordFailure_storesSweepWithOneAttempt() {
+        retrier.recordFailure(event);
+
+        verify(failedSweepRepository).save(argThat(failed ->
+                failed.getIncomeId().equals(event.incomeId()) && failed.getAttempts() == 1));
+    }
+
+    @Test
+    void retryFailedSweeps_claimsAndReplaysTheSweep() {
+        FailedAutoSaveSweep failed = FailedAutoSaveSweep.of(event, Instant.now());
+        when(failedSweepRepository.findAllByOrderByFailedAtAsc(any(Limit.class))).thenReturn(List.of(failed));
+        when(failedSweepRepository.deleteByIncomeId(event.incomeId())).thenReturn(1);
+
+        retrier.retryFailedSweeps();
+
+        verify(autoSaveRuleService).sweepIncome(event);
+    }
+
+    @Test
+    void retryFailedSweeps_sweepClaimedElsewhere_isNotReplayed() {
+        FailedAutoSaveSweep failed = FailedAutoSaveSweep.of(event, Instant.now());
+        when(failedSweepRepository.findAllByOrderByFailedAtAsc(any(Limit.class))).thenReturn(List.of(failed));
+        when(failedSweepRepository.deleteByIncomeId(event.incomeId())).thenReturn(0);
+
+        retrier.retryFailedSweeps();
+
+        verifyNoInteractions(autoSaveRuleService);
+    }
+
+    @Test
+    void retryFailedSweeps_failingSweep_isCountedThenDropped() {
+        FailedAutoSaveSweep failed = FailedAutoSaveSweep.of(event, Instant.now());
+        when(failedSweepRepository.findAllByOrderByFailedAtAsc(any(Limit.class))).thenReturn(List.of(failed));
+        when(failedSweepRepository.deleteByIncomeId(event.incomeId())).thenReturn(1);
+        doThrow(new QueryTimeoutException("timeout")).when(autoSaveRuleService).sweepIncome(event);
+
+        retrier.retryFailedSweeps();
+        verify(failedSweepRepository).registerFailure(eq(event.incomeId()), any());
+
+        failed.setAttempts(AutoSaveSweepRetrier.MAX_SWEEP_ATTEMPTS - 1);
+        retrier.retryFailedSweeps();
+
+        verify(failedSweepRepository, times(1)).registerFailure(any(), any());
+        verify(failedSweepRepository, times(3)).deleteByIncomeId(event.incomeId());
+    }
+}
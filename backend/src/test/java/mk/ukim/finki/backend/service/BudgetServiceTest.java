@@ -1,15 +1,27 @@
 package mk.ukim.finki.backend.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
 import mk.ukim.finki.backend.exception.BudgetValidationException;
 import mk.ukim.finki.backend.mapper.BudgetMapper;
+import mk.ukim.finki.backend.model.dto.budget.BudgetBurnDownDto;
 import mk.ukim.finki.backend.model.dto.budget.BudgetDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationRequest;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSimulationResultDto;
+import mk.ukim.finki.backend.model.dto.budget.BudgetSpendingDto;
+import mk.ukim.finki.backend.model.dto.budget.CategoryDailySpendingProjection;
 import mk.ukim.finki.backend.model.dto.budget.CreateBudgetRequest;
+import mk.ukim.finki.backend.model.dto.budget.DailySpendingProjection;
+import mk.ukim.finki.backend.model.dto.budget.SimulatedBudgetRequest;
 import mk.ukim.finki.backend.model.dto.budget.UpdateBudgetRequest;
+import mk.ukim.finki.backend.model.dto.category.CategoryDescendantProjection;
 import mk.ukim.finki.backend.model.entity.Budget;
 import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.BudgetPeriod;
 import mk.ukim.finki.backend.repository.BudgetRepository;
+import mk.ukim.finki.backend.repository.CategoryClosureRepository;
 import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.service.impl.BudgetServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +36,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -42,6 +55,12 @@ public class BudgetServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryCatalog categoryCatalog;
+
+    @Mock
+    private CategoryClosureRepository categoryClosureRepository;
+
     @Mock
     private BudgetMapper budgetMapper;
 
@@ -84,15 +103,15 @@ public class BudgetServiceTest {
     void getAllBudgets_success() {
         when(budgetRepository.findByUserOrderByStartDateDesc(user))
                 .thenReturn(List.of(budget));
-        when(budgetRepository.sumSpentByBudget(user, category, budget.getStartDate(), budget.getEndDate()))
-                .thenReturn(BigDecimal.valueOf(50));
+        when(budgetRepository.sumSpentPerBudget(user))
+                .thenReturn(List.of(new BudgetSpendingDto(budgetId, BigDecimal.valueOf(50))));
         when(budgetMapper.toDto(any())).thenReturn(budgetDto);
 
         List<BudgetDto> result = budgetService.getAllBudgets();
 
         assertThat(result).containsExactly(budgetDto);
         verify(budgetRepository, atLeastOnce()).findByUserOrderByStartDateDesc(user);
-        verify(budgetRepository).sumSpentByBudget(user, category, budget.getStartDate(), budget.getEndDate());
+        verify(budgetRepository).sumSpentPerBudget(user);
     }
 
     @Test
@@ -301,8 +320,8 @@ public class BudgetServiceTest {
     void calculateProgress_zeroSpent_returnsZero() {
         when(budgetRepository.findByUserOrderByStartDateDesc(user))
                 .thenReturn(List.of(budget));
-        when(budgetRepository.sumSpentByBudget(user, category, budget.getStartDate(), budget.getEndDate()))
-                .thenReturn(BigDecimal.ZERO);
+        when(budgetRepository.sumSpentPerBudget(user))
+                .thenReturn(List.of(new BudgetSpendingDto(budgetId, BigDecimal.ZERO)));
 
         when(budgetMapper.toDto(any())).thenAnswer(invocation -> {
             Budget b = invocation.getArgument(0);
@@ -324,8 +343,8 @@ public class BudgetServiceTest {
     void calculateProgress_spentGreaterThanAmount_returns100() {
         when(budgetRepository.findByUserOrderByStartDateDesc(user))
                 .thenReturn(List.of(budget));
-        when(budgetRepository.sumSpentByBudget(user, category, budget.getStartDate(), budget.getEndDate()))
-                .thenReturn(BigDecimal.valueOf(200));
+        when(budgetRepository.sumSpentPerBudget(user))
+                .thenReturn(List.of(new BudgetSpendingDto(budgetId, BigDecimal.valueOf(200))));
 
         when(budgetMapper.toDto(any())).thenAnswer(invocation -> {
             Budget b = invocation.getArgument(0);
@@ -357,4 +376,248 @@ public class BudgetServiceTest {
         assertThat(result).isEqualTo(budgetDto);
         verify(budgetRepository).save(any(Budget.class));
     }
+
+    private DailySpendingProjection dailySpending(LocalDate date, BigDecimal amount) {
+        return new DailySpendingProjection() {
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return amount;
+            }
+        };
+    }
+
+    @Test
+    void getBudgetBurnDown_fillsMissingDaysAndAccumulates() {
+        LocalDate start = budget.getStartDate();
+        when(budgetRepository.findByIdAndUser(budgetId, user))
+                .thenReturn(Optional.of(budget));
+        when(budgetRepository.findDailySpendingByBudget(user, category, start, budget.getEndDate()))
+                .thenReturn(List.of(
+                        dailySpending(start, BigDecimal.valueOf(20)),
+                        dailySpending(start.plusDays(3), BigDecimal.valueOf(15))));
+
+        BudgetBurnDownDto result = budgetService.getBudgetBurnDown(budgetId);
+
+        assertThat(result.getPoints()).hasSize(10);
+        assertThat(result.getTotalSpent()).isEqualByComparingTo("35");
+        assertThat(result.getPoints().get(0).getCumulativeSpent()).isEqualByComparingTo("20");
+        assertThat(result.getPoints().get(2).getSpent()).isEqualByComparingTo("0");
+        assertThat(result.getPoints().get(3).getCumulativeSpent()).isEqualByComparingTo("35");
+        assertThat(result.getPoints().get(0).getIdealSpent()).isEqualByComparingTo("10.00");
+        assertThat(result.getPoints().get(9).getIdealSpent()).isEqualByComparingTo("100.00");
+        verify(budgetRepository, never()).sumSpentByBudget(any(), any(), any(), any());
+    }
+
+    @Test
+    void getBudgetBurnDown_activeBudget_stopsAtToday() {
+        budget.setStartDate(LocalDate.now().minusDays(2));
+        budget.setEndDate(LocalDate.now().plusDays(7));
+        when(budgetRepository.findByIdAndUser(budgetId, user))
+                .thenReturn(Optional.of(budget));
+        when(budgetRepository.findDailySpendingByBudget(user, category, budget.getStartDate(), budget.getEndDate()))
+                .thenReturn(Collections.emptyList());
+
+        BudgetBurnDownDto result = budgetService.getBudgetBurnDown(budgetId);
+
+        assertThat(result.getPoints()).hasSize(3);
+        assertThat(result.getPoints().get(2).getDate()).isEqualTo(LocalDate.now());
+        assertThat(result.getTotalSpent()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void getBudgetBurnDown_notFound_throws() {
+        when(budgetRepository.findByIdAndUser(budgetId, user))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> budgetService.getBudgetBurnDown(budgetId))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Budget not found");
+    }
+
+    private CategoryDailySpendingProjection categorySpending(UUID categoryId, LocalDate date, BigDecimal amount) {
+        return new CategoryDailySpendingProjection() {
+            @Override
+            public UUID getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return amount;
+            }
+        };
+    }
+
+    @Test
+    void simulateBudgets_countsExceededPeriodsFromSingleQuery() {
+        LocalDate to = LocalDate.now().withDayOfMonth(1).minusDays(1);
+        LocalDate from = to.plusDays(1).minusMonths(12);
+        UUID otherCategoryId = UUID.randomUUID();
+
+        category.setUser(user);
+        when(categoryCatalog.findCategory(user.getId(), category.getId()))
+                .thenReturn(Optional.of(category));
+        when(budgetRepository.findDailySpendingByCategory(user, from, to))
+                .thenReturn(List.of(
+                        categorySpending(category.getId(), from, BigDecimal.valueOf(90)),
+                        categorySpending(category.getId(), from.plusDays(1), BigDecimal.valueOf(60)),
+                        categorySpending(category.getId(), to, BigDecimal.valueOf(50)),
+                        categorySpending(otherCategoryId, to, BigDecimal.valueOf(500))));
+
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(
+                        SimulatedBudgetRequest.builder()
+                                .categoryId(category.getId())
+                                .amount(BigDecimal.valueOf(100))
+                                .period(BudgetPeriod.MONTHLY)
+                                .build(),
+                        SimulatedBudgetRequest.builder()
+                                .amount(BigDecimal.valueOf(1000))
+                                .period(BudgetPeriod.MONTHLY)
+                                .build()))
+                .lookbackMonths(12)
+                .build();
+
+        BudgetSimulationDto result = budgetService.simulateBudgets(request);
+
+        assertThat(result.getFrom()).isEqualTo(from);
+        assertThat(result.getTo()).isEqualTo(to);
+
+        BudgetSimulationResultDto categoryResult = result.getResults().get(0);
+        assertThat(categoryResult.getCategoryName()).isEqualTo("Custom Category");
+        assertThat(categoryResult.getPeriodsEvaluated()).isEqualTo(12);
+        assertThat(categoryResult.getPeriodsExceeded()).isEqualTo(1);
+        assertThat(categoryResult.getExceededPercentage()).isEqualByComparingTo("8.33");
+        assertThat(categoryResult.getAverageSpent()).isEqualByComparingTo("16.67");
+        assertThat(categoryResult.getAverageOverspend()).isEqualByComparingTo("50");
+        assertThat(categoryResult.getMaxOverspend()).isEqualByComparingTo("50");
+
+        BudgetSimulationResultDto overallResult = result.getResults().get(1);
+        assertThat(overallResult.getCategoryName()).isEqualTo("Overall");
+        assertThat(overallResult.getPeriodsExceeded()).isZero();
+        assertThat(overallResult.getAverageOverspend()).isEqualByComparingTo("0");
+        verify(budgetRepository, never()).sumSpentByBudget(any(), any(), any(), any());
+    }
+
+    @Test
+    void simulateBudgets_parentCategory_includesSubcategorySpending() {
+        LocalDate to = LocalDate.now().withDayOfMonth(1).minusDays(1);
+        LocalDate from = to.plusDays(1).minusMonths(12);
+        UUID childId = UUID.randomUUID();
+
+        category.setUser(user);
+        when(categoryCatalog.findCategory(user.getId(), category.getId()))
+                .thenReturn(Optional.of(category));
+        when(categoryClosureRepository.findDescendants(Set.of(category.getId())))
+                .thenReturn(List.of(
+                        descendant(category.getId(), category.getId()),
+                        descendant(category.getId(), childId)));
+        when(budgetRepository.findDailySpendingByCategory(user, from, to))
+                .thenReturn(List.of(
+                        categorySpending(category.getId(), from, BigDecimal.valueOf(70)),
+                        categorySpending(childId, from.plusDays(2), BigDecimal.valueOf(40))));
+
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .categoryId(category.getId())
+                        .amount(BigDecimal.valueOf(100))
+                        .period(BudgetPeriod.MONTHLY)
+                        .build()))
+                .lookbackMonths(12)
+                .build();
+
+        BudgetSimulationResultDto result = budgetService.simulateBudgets(request).getResults().get(0);
+
+        assertThat(result.getPeriodsExceeded()).isEqualTo(1);
+        assertThat(result.getMaxOverspend()).isEqualByComparingTo("10");
+    }
+
+    private CategoryDescendantProjection descendant(UUID ancestorId, UUID descendantId) {
+        return new CategoryDescendantProjection() {
+            @Override
+            public UUID getAncestorId() {
+                return ancestorId;
+            }
+
+            @Override
+            public UUID getDescendantId() {
+                return descendantId;
+            }
+        };
+    }
+
+    @Test
+    void simulateBudgets_weekly_evaluatesOnlyCompleteWeeks() {
+        LocalDate to = LocalDate.now().withDayOfMonth(1).minusDays(1);
+        LocalDate from = to.plusDays(1).minusMonths(12);
+
+        when(budgetRepository.findDailySpendingByCategory(user, from, to))
+                .thenReturn(Collections.emptyList());
+
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .amount(BigDecimal.valueOf(50))
+                        .period(BudgetPeriod.WEEKLY)
+                        .build()))
+                .lookbackMonths(12)
+                .build();
+
+        BudgetSimulationResultDto result = budgetService.simulateBudgets(request).getResults().get(0);
+
+        assertThat(result.getPeriodsEvaluated()).isBetween(51, 52);
+        assertThat(result.getPeriodsExceeded()).isZero();
+        assertThat(result.getAverageSpent()).isEqualByComparingTo("0");
+        verifyNoInteractions(categoryCatalog);
+    }
+
+    @Test
+    void simulateBudgets_unknownCategory_throws() {
+        UUID missingId = UUID.randomUUID();
+        when(categoryCatalog.findCategory(user.getId(), missingId))
+                .thenReturn(Optional.empty());
+
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .categoryId(missingId)
+                        .amount(BigDecimal.valueOf(100))
+                        .period(BudgetPeriod.MONTHLY)
+                        .build()))
+                .build();
+
+        assertThatThrownBy(() -> budgetService.simulateBudgets(request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Category not found");
+        verify(budgetRepository, never()).findDailySpendingByCategory(any(), any(), any());
+    }
+
+    @Test
+    void simulateBudgets_otherUsersCategory_isReportedAsMissing() {
+        User otherUser = User.builder().id(UUID.randomUUID()).build();
+        Category foreign = Category.builder().id(UUID.randomUUID()).name("Someone Else's").user(otherUser).build();
+        when(categoryCatalog.findCategory(user.getId(), foreign.getId()))
+                .thenReturn(Optional.of(foreign));
+
+        BudgetSimulationRequest request = BudgetSimulationRequest.builder()
+                .budgets(List.of(SimulatedBudgetRequest.builder()
+                        .categoryId(foreign.getId())
+                        .amount(BigDecimal.valueOf(100))
+                        .period(BudgetPeriod.MONTHLY)
+                        .build()))
+                .build();
+
+        assertThatThrownBy(() -> budgetService.simulateBudgets(request))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Category not found");
+        verify(budgetRepository, never()).findDailySpendingByCategory(any(), any(), any());
+    }
 }
@@ -0,0 +1,138 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.event.CategoryDeletionListener;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
+import mk.ukim.finki.backend.model.entity.Expense;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.CategoryDeletionJobRepository;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.service.impl.CategoryDeletionJobRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs a category deletion job against the real persistence layer with a small chunk size.
+ */
+@SpringBootTest(properties = "app.categories.deletion-chunk-size=5")
+@ActiveProfiles("test")
+public class CategoryDeletionIntegrationTest {
+
+    private static final int EXPENSES = 23;
+
+    @Autowired
+    private CategoryDeletionJobRunner runner;
+
+    @Autowired
+    private CategoryDeletionListener listener;
+
+    @Autowired
+    private CategoryDeletionJobRepository jobRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void run_reassignsAllTransactionsInChunksAndDeletesCategory() {
+        User user = userRepository.save(User.builder()
+                .email("deleter-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        Category doomed = saveCategory(user, "Doomed", true);
+        Category fallback = saveCategory(null, "Fallback " + UUID.randomUUID(), false);
+
+        IntStream.range(0, EXPENSES).forEach(i -> expenseRepository.save(Expense.builder()
+                .user(user)
+                .category(doomed)
+                .amount(BigDecimal.TEN)
+                .date(LocalDate.now())
+                .build()));
+
+        CategoryDeletionJob job = jobRepository.save(CategoryDeletionJob.builder()
+                .user(user)
+                .categoryId(doomed.getId())
+                .categoryName(doomed.getName())
+                .categoryType(CategoryType.EXPENSE)
+                .fallbackCategoryId(fallback.getId())
+                .status(CategoryDeletionStatus.RUNNING)
+                .totalTransactions(EXPENSES)
+                .build());
+
+        runner.run(job.getId());
+        // A resumed run of a finished job must be a no-op
+        runner.run(job.getId());
+
+        CategoryDeletionJob finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(CategoryDeletionStatus.COMPLETED, finished.getStatus());
+        assertEquals(EXPENSES, finished.getReassignedTransactions());
+        assertNotNull(finished.getCompletedAt());
+        assertTrue(categoryRepository.findById(doomed.getId()).isEmpty());
+        assertEquals(0, expenseRepository.countByCategory_Id(doomed.getId()));
+        assertEquals(EXPENSES, expenseRepository.countByCategory_Id(fallback.getId()));
+    }
+
+    @Test
+    void retryUnfinishedJobs_completesJobsLeftRunning() {
+        User user = userRepository.save(User.builder()
+                .email("deleter-" + UUID.randomUUID() + "@example.com")
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        Category doomed = saveCategory(user, "Doomed", true);
+        Category fallback = saveCategory(null, "Fallback " + UUID.randomUUID(), false);
+        expenseRepository.save(Expense.builder()
+                .user(user)
+                .category(doomed)
+                .amount(BigDecimal.TEN)
+                .date(LocalDate.now())
+                .build());
+
+        // A job whose earlier run failed stays RUNNING until the next sweep
+        CategoryDeletionJob job = jobRepository.save(CategoryDeletionJob.builder()
+                .user(user)
+                .categoryId(doomed.getId())
+                .categoryName(doomed.getName())
+                .categoryType(CategoryType.EXPENSE)
+                .fallbackCategoryId(fallback.getId())
+                .status(CategoryDeletionStatus.RUNNING)
+                .totalTransactions(1)
+                .build());
+
+        listener.retryUnfinishedJobs();
+
+        assertEquals(CategoryDeletionStatus.COMPLETED, jobRepository.findById(job.getId()).orElseThrow().getStatus());
+        assertTrue(categoryRepository.findById(doomed.getId()).isEmpty());
+        assertEquals(1, expenseRepository.countByCategory_Id(fallback.getId()));
+    }
+
+    private Category saveCategory(User user, String name, boolean deleting) {
+        return categoryRepository.save(Category.builder()
+                .user(user)
+                .name(name)
+                .type(CategoryType.EXPENSE)
+                .predefined(user == null)
+                .deleting(deleting)
+                .build());
+    }
+}
@@ -0,0 +1,125 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.exception.CategoryHierarchyException;
+import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.category.UpdateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.report.CategorySummaryDto;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.Expense;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.BudgetRepository;
+import mk.ukim.finki.backend.repository.CategoryClosureRepository;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies closure table maintenance and rollup queries against the real persistence layer.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CategoryHierarchyIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void spendingRollsUpThroughHierarchy_andFollowsSubtreeMoves() {
+        String email = "hierarchy-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+
+        Category food = create(user, "Food", null);
+        Category restaurants = create(user, "Restaurants", food.getId());
+        Category sushi = create(user, "Sushi", restaurants.getId());
+
+        LocalDate today = LocalDate.now();
+        saveExpense(user, food, 10);
+        saveExpense(user, sushi, 5);
+
+        assertTrue(categoryClosureRepository.isInSubtree(food.getId(), sushi.getId()));
+        assertEquals(0, BigDecimal.valueOf(15).compareTo(budgetRepository.sumSpentByBudget(user, food, today, today)));
+        List<CategorySummaryDto> breakdown = expenseRepository.sumByCategory(user, today, today);
+        assertEquals(1, breakdown.size());
+        assertEquals("Food", breakdown.get(0).getCategoryName());
+        assertEquals(0, BigDecimal.valueOf(15).compareTo(breakdown.get(0).getTotalAmount()));
+
+        assertThrows(CategoryHierarchyException.class,
+                () -> categoryService.updateCategory(food.getId(), update("Food", sushi.getId())));
+
+        categoryService.updateCategory(restaurants.getId(), update("Restaurants", null));
+
+        assertFalse(categoryClosureRepository.isInSubtree(food.getId(), sushi.getId()));
+        assertTrue(categoryClosureRepository.isInSubtree(restaurants.getId(), sushi.getId()));
+        assertEquals(0, BigDecimal.TEN.compareTo(budgetRepository.sumSpentByBudget(user, food, today, today)));
+        assertEquals(0, BigDecimal.valueOf(5).compareTo(budgetRepository.sumSpentByBudget(user, restaurants, today, today)));
+        assertEquals(2, expenseRepository.sumByCategory(user, today, today).size());
+    }
+
+    private Category create(User user, String name, UUID parentId) {
+        categoryService.createCategory(CreateCategoryRequest.builder()
+                .name(name)
+                .type(CategoryType.EXPENSE)
+                .parentId(parentId)
+                .build());
+        return categoryRepository.findByUser_IdAndNameIgnoreCaseAndType(user.getId(), name, CategoryType.EXPENSE)
+                .orElseThrow();
+    }
+
+    private UpdateCategoryRequest update(String name, UUID parentId) {
+        return UpdateCategoryRequest.builder()
+                .name(name)
+                .parentId(parentId)
+                .build();
+    }
+
+    private void saveExpense(User user, Category category, long amount) {
+        expenseRepository.save(Expense.builder()
+                .user(user)
+                .category(category)
+                .amount(BigDecimal.valueOf(amount))
+                .date(LocalDate.now())
+                .build());
+    }
+}
@@ -1,19 +1,29 @@
 package mk.ukim.finki.backend.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.CategoryDeletionRequestedEvent;
+import mk.ukim.finki.backend.exception.CategoryHierarchyException;
 import mk.ukim.finki.backend.exception.DuplicateCategoryNameException;
 import mk.ukim.finki.backend.exception.HiddenCategoryException;
 import mk.ukim.finki.backend.exception.UnauthorizedCategoryAccessException;
 import mk.ukim.finki.backend.mapper.CategoryMapper;
+import mk.ukim.finki.backend.model.dto.category.CategoryDeletionJobDto;
 import mk.ukim.finki.backend.model.dto.category.CategoryDto;
+import mk.ukim.finki.backend.model.dto.category.CategoryUsageProjection;
 import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.HideCategoryRequest;
 import mk.ukim.finki.backend.model.dto.category.UpdateCategoryRequest;
 import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.CategoryDeletionJob;
 import mk.ukim.finki.backend.model.entity.HiddenCategory;
 import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryDeletionStatus;
 import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.repository.CategoryClosureRepository;
+import mk.ukim.finki.backend.repository.CategoryDeletionJobRepository;
 import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageRepository;
 import mk.ukim.finki.backend.repository.HiddenCategoryRepository;
 import mk.ukim.finki.backend.repository.ExpenseRepository;
 import mk.ukim.finki.backend.repository.IncomeRepository;
@@ -24,7 +34,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -32,7 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.Mockito.*;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +62,16 @@ class CategoryServiceTest {
     IncomeRepository incomeRepository;
     @Mock
     CategoryMapper categoryMapper;
+    @Mock
+    CategoryCatalog categoryCatalog;
+    @Mock
+    CategoryDeletionJobRepository categoryDeletionJobRepository;
+    @Mock
+    CategoryClosureRepository categoryClosureRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    CategoryUsageRepository categoryUsageRepository;
     @InjectMocks
     CategoryServiceImpl categoryService;
     private User user;
@@ -92,21 +115,12 @@ class CategoryServiceTest {
     }
 
     @Test
-    void getAllCategories_filtersFallbacksAndHiddenSystemCategories() {
-        Category system = systemCategory(UUID.randomUUID());
+    void getAllCategories_filtersFallbacksFromCatalog() {
         Category fallback = systemCategory(FALLBACK_EXPENSE_ID);
         Category custom = customCategory(UUID.randomUUID());
 
-        when(categoryRepository.findVisibleByUserIdAndType(userId, CategoryType.EXPENSE))
-                .thenReturn(List.of(system, fallback, custom));
-
-        HiddenCategory hiddenCategory = HiddenCategory.builder()
-                .category(system)
-                .user(user)
-                .build();
-
-        when(hiddenCategoryRepository.findByUser_Id(userId))
-                .thenReturn(List.of(hiddenCategory));
+        when(categoryCatalog.findVisible(userId, CategoryType.EXPENSE))
+                .thenReturn(List.of(fallback, custom));
 
         when(categoryMapper.toDto(any(Category.class)))
                 .thenReturn(dto);
@@ -114,12 +128,42 @@ class CategoryServiceTest {
         List<CategoryDto> result = categoryService.getAllCategories(CategoryType.EXPENSE);
 
         assertThat(result).containsExactly(dto);
+        verify(categoryMapper).toDto(custom);
+        verifyNoInteractions(categoryRepository, hiddenCategoryRepository);
+    }
+
+    @Test
+    void getAllCategories_attachesUsageStatsFromSingleQuery() {
+        Category used = customCategory(UUID.randomUUID());
+        Category unused = customCategory(UUID.randomUUID());
+        LocalDate lastUsed = LocalDate.now().minusDays(3);
+
+        CategoryUsageProjection usage = mock(CategoryUsageProjection.class);
+        when(usage.getCategoryId()).thenReturn(used.getId());
+        when(usage.getTransactionCount()).thenReturn(4L);
+        when(usage.getLastUsedDate()).thenReturn(lastUsed);
+        when(usage.getTrailingTotal()).thenReturn(new BigDecimal("120.50"));
+
+        when(categoryCatalog.findVisible(userId, CategoryType.EXPENSE)).thenReturn(List.of(used, unused));
+        when(categoryUsageRepository.findByUserId(userId)).thenReturn(List.of(usage));
+        when(categoryMapper.toDto(any(Category.class))).thenAnswer(invocation -> new CategoryDto());
+
+        List<CategoryDto> result = categoryService.getAllCategories(CategoryType.EXPENSE);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTransactionCount()).isEqualTo(4);
+        assertThat(result.get(0).getLastUsedDate()).isEqualTo(lastUsed);
+        assertThat(result.get(0).getLast30DaysTotal()).isEqualByComparingTo("120.50");
+        assertThat(result.get(1).getTransactionCount()).isZero();
+        assertThat(result.get(1).getLastUsedDate()).isNull();
+        assertThat(result.get(1).getLast30DaysTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(categoryUsageRepository).findByUserId(userId);
+        verifyNoInteractions(expenseRepository, incomeRepository);
     }
 
     @Test
-    void getAllCategories_incomeType_filtersFallbackAndHidden() {
+    void getAllCategories_incomeType_filtersFallback() {
         Category fallbackIncome = systemCategory(FALLBACK_INCOME_ID, CategoryType.INCOME);
-        Category systemIncome = systemCategory(UUID.randomUUID(), CategoryType.INCOME);
         Category customIncome = Category.builder()
                 .id(UUID.randomUUID())
                 .user(user)
@@ -128,22 +172,15 @@ class CategoryServiceTest {
                 .name("Custom Income")
                 .build();
 
-        when(categoryRepository.findVisibleByUserIdAndType(userId, CategoryType.INCOME))
-                .thenReturn(List.of(fallbackIncome, systemIncome, customIncome));
-
-        HiddenCategory hidden = HiddenCategory.builder()
-                .category(systemIncome)
-                .user(user)
-                .build();
-
-        when(hiddenCategoryRepository.findByUser_Id(userId))
-                .thenReturn(List.of(hidden));
+        when(categoryCatalog.findVisible(userId, CategoryType.INCOME))
+                .thenReturn(List.of(fallbackIncome, customIncome));
 
         when(categoryMapper.toDto(any(Category.class))).thenReturn(dto);
 
         List<CategoryDto> result = categoryService.getAllCategories(CategoryType.INCOME);
 
         assertThat(result).containsExactly(dto);
+        verify(categoryMapper).toDto(customIncome);
     }
 
     @Test
@@ -162,6 +199,79 @@ class CategoryServiceTest {
 
         assertThat(result).isEqualTo(dto);
         verify(categoryRepository).save(any(Category.class));
+        verify(categoryCatalog).invalidate(userId);
+    }
+
+    @Test
+    void createCategory_withParent_linksIntoHierarchy() {
+        UUID parentId = UUID.randomUUID();
+        Category parent = systemCategory(parentId);
+        CreateCategoryRequest request = new CreateCategoryRequest();
+        request.setName("Restaurants");
+        request.setType(CategoryType.EXPENSE);
+        request.setParentId(parentId);
+
+        when(categoryRepository.findById(parentId))
+                .thenReturn(Optional.of(parent));
+
+        categoryService.createCategory(request);
+
+        verify(categoryRepository).save(argThat(category -> category.getParent() == parent));
+        verify(categoryClosureRepository).insertSelf(any());
+        verify(categoryClosureRepository).attachSubtree(any(), eq(parentId));
+    }
+
+    @Test
+    void createCategory_parentOfOtherType_throws() {
+        UUID parentId = UUID.randomUUID();
+        CreateCategoryRequest request = new CreateCategoryRequest();
+        request.setName("Bonus");
+        request.setType(CategoryType.INCOME);
+        request.setParentId(parentId);
+
+        when(categoryRepository.findById(parentId))
+                .thenReturn(Optional.of(systemCategory(parentId, CategoryType.EXPENSE)));
+
+        assertThatThrownBy(() -> categoryService.createCategory(request))
+                .isInstanceOf(CategoryHierarchyException.class);
+        verify(categoryRepository, never()).save(any());
+    }
+
+    @Test
+    void updateCategory_newParent_movesSubtree() {
+        UUID id = UUID.randomUUID();
+        UUID parentId = UUID.randomUUID();
+        Category category = customCategory(id);
+        Category parent = customCategory(parentId);
+        UpdateCategoryRequest request = new UpdateCategoryRequest();
+        request.setName("Test Category");
+        request.setParentId(parentId);
+
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+        when(categoryRepository.findById(parentId)).thenReturn(Optional.of(parent));
+
+        categoryService.updateCategory(id, request);
+
+        assertThat(category.getParent()).isSameAs(parent);
+        verify(categoryClosureRepository).detachSubtree(id);
+        verify(categoryClosureRepository).attachSubtree(id, parentId);
+    }
+
+    @Test
+    void updateCategory_parentInOwnSubtree_throws() {
+        UUID id = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UpdateCategoryRequest request = new UpdateCategoryRequest();
+        request.setName("Test Category");
+        request.setParentId(childId);
+
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(customCategory(id)));
+        when(categoryRepository.findById(childId)).thenReturn(Optional.of(customCategory(childId)));
+        when(categoryClosureRepository.isInSubtree(id, childId)).thenReturn(true);
+
+        assertThatThrownBy(() -> categoryService.updateCategory(id, request))
+                .isInstanceOf(CategoryHierarchyException.class);
+        verify(categoryClosureRepository, never()).detachSubtree(any());
     }
 
     @Test
@@ -197,6 +307,7 @@ class CategoryServiceTest {
         assertThat(result).isEqualTo(dto);
         assertThat(category.getName()).isEqualTo("Updated");
         verify(categoryRepository).save(category);
+        verify(categoryCatalog).invalidate(userId);
     }
 
     @Test
@@ -256,37 +367,69 @@ class CategoryServiceTest {
     }
 
     @Test
-    void deleteCategory_success() {
+    void deleteCategory_success_marksDeletingAndStartsJob() {
         UUID id = UUID.randomUUID();
         Category category = customCategory(id);
         Category fallback = systemCategory(FALLBACK_EXPENSE_ID);
 
         when(categoryRepository.findById(id))
                 .thenReturn(Optional.of(category));
-
         when(categoryRepository.findById(FALLBACK_EXPENSE_ID))
                 .thenReturn(Optional.of(fallback));
+        when(expenseRepository.countByCategory_Id(id))
+                .thenReturn(40L);
+        when(categoryDeletionJobRepository.save(any(CategoryDeletionJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        CategoryDeletionJobDto job = categoryService.deleteCategory(id);
+
+        assertThat(category.isDeleting()).isTrue();
+        assertThat(job.getStatus()).isEqualTo(CategoryDeletionStatus.RUNNING);
+        assertThat(job.getCategoryId()).isEqualTo(id);
+        assertThat(job.getTotalTransactions()).isEqualTo(40L);
+        assertThat(job.getProgressPercentage()).isZero();
+        verify(categoryRepository).save(category);
+        verify(categoryCatalog).invalidate(userId);
+        verify(categoryRepository).findByParent_Id(id);
+        verify(eventPublisher).publishEvent(any(CategoryDeletionRequestedEvent.class));
+        verify(categoryRepository, never()).delete(any(Category.class));
+    }
+
+    @Test
+    void deleteCategory_movesChildrenToGrandparent() {
+        UUID id = UUID.randomUUID();
+        Category grandparent = systemCategory(UUID.randomUUID());
+        Category category = customCategory(id);
+        category.setParent(grandparent);
+        Category child = customCategory(UUID.randomUUID());
+        child.setParent(category);
+
+        when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
+        when(categoryRepository.findById(FALLBACK_EXPENSE_ID))
+                .thenReturn(Optional.of(systemCategory(FALLBACK_EXPENSE_ID)));
+        when(categoryRepository.findByParent_Id(id)).thenReturn(List.of(child));
+        when(categoryDeletionJobRepository.save(any(CategoryDeletionJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         categoryService.deleteCategory(id);
 
-        verify(categoryRepository).delete(category);
+        assertThat(child.getParent()).isSameAs(grandparent);
+        verify(categoryClosureRepository).detachSubtree(child.getId());
+        verify(categoryClosureRepository).attachSubtree(child.getId(), grandparent.getId());
     }
 
     @Test
-    void deleteCategory_success_reassignsTransactions() {
-        UUID categoryId = UUID.randomUUID();
-        Category category = customCategory(categoryId);
-        Category fallback = systemCategory(FALLBACK_EXPENSE_ID);
+    void deleteCategory_alreadyDeletingThrowsNotFound() {
+        UUID id = UUID.randomUUID();
+        Category category = customCategory(id);
+        category.setDeleting(true);
 
-        when(categoryRepository.findById(categoryId))
+        when(categoryRepository.findById(id))
                 .thenReturn(Optional.of(category));
-        when(categoryRepository.findById(FALLBACK_EXPENSE_ID))
-                .thenReturn(Optional.of(fallback));
-
-        categoryService.deleteCategory(categoryId);
 
-        verify(expenseRepository).reassignCategory(categoryId, fallback);
-        verify(categoryRepository).delete(category);
+        assertThatThrownBy(() -> categoryService.deleteCategory(id))
+                .isInstanceOf(EntityNotFoundException.class);
+        verifyNoInteractions(categoryDeletionJobRepository, eventPublisher);
     }
 
     @Test
@@ -357,10 +500,14 @@ class CategoryServiceTest {
         when(categoryRepository.findById(id)).thenReturn(Optional.of(category));
         when(categoryRepository.findById(FALLBACK_INCOME_ID))
                 .thenReturn(Optional.of(fallbackIncome));
+        when(categoryDeletionJobRepository.save(any(CategoryDeletionJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
         categoryService.deleteCategory(id);
 
-        verify(categoryRepository).delete(category);
+        verify(incomeRepository).countByCategory_Id(id);
+        verify(categoryDeletionJobRepository).save(argThat(job ->
+                job.getFallbackCategoryId().equals(FALLBACK_INCOME_ID) && job.getCategoryType() == CategoryType.INCOME));
     }
 
     @Test
@@ -378,6 +525,7 @@ class CategoryServiceTest {
         categoryService.hideCategory(request);
 
         verify(hiddenCategoryRepository).save(any(HiddenCategory.class));
+        verify(categoryCatalog).invalidate(userId);
     }
 
     @Test
@@ -437,6 +585,7 @@ class CategoryServiceTest {
         categoryService.unhideCategory(id);
 
         verify(hiddenCategoryRepository).delete(hiddenCategory);
+        verify(categoryCatalog).invalidate(userId);
     }
 
     @Test
@@ -462,5 +611,38 @@ class CategoryServiceTest {
 
         assertThatThrownBy(() -> categoryService.unhideCategory(id))
                 .isInstanceOf(UnauthorizedCategoryAccessException.class);
+        verifyNoInteractions(categoryCatalog);
+    }
+
+    @Test
+    void getDeletionJob_reportsProgress() {
+        UUID jobId = UUID.randomUUID();
+        CategoryDeletionJob job = CategoryDeletionJob.builder()
+                .id(jobId)
+                .user(user)
+                .categoryId(UUID.randomUUID())
+                .categoryName("Old")
+                .status(CategoryDeletionStatus.RUNNING)
+                .totalTransactions(200)
+                .reassignedTransactions(50)
+                .build();
+
+        when(categoryDeletionJobRepository.findByIdAndUser(jobId, user))
+                .thenReturn(Optional.of(job));
+
+        CategoryDeletionJobDto dto = categoryService.getDeletionJob(jobId);
+
+        assertThat(dto.getReassignedTransactions()).isEqualTo(50);
+        assertThat(dto.getProgressPercentage()).isEqualTo(25f);
+    }
+
+    @Test
+    void getDeletionJob_otherUserThrowsNotFound() {
+        when(categoryDeletionJobRepository.findByIdAndUser(any(), eq(user)))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> categoryService.getDeletionJob(UUID.randomUUID()))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Category deletion job not found");
     }
 }
@@ -0,0 +1,241 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.event.CategoryUsageChangedEvent;
+import mk.ukim.finki.backend.model.dto.category.CategoryUsageProjection;
+import mk.ukim.finki.backend.model.dto.category.CreateCategoryRequest;
+import mk.ukim.finki.backend.model.dto.transaction.ExpenseRequest;
+import mk.ukim.finki.backend.model.entity.Category;
+import mk.ukim.finki.backend.model.entity.Expense;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.CategoryType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageDailyRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageRepository;
+import mk.ukim.finki.backend.repository.ExpenseRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.service.impl.CategoryUsageRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that category usage statistics follow transaction writes once the buffer is flushed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class CategoryUsageIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private CategoryUsageRecorder usageRecorder;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryUsageRepository categoryUsageRepository;
+
+    @Autowired
+    private CategoryUsageDailyRepository categoryUsageDailyRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void usageStatsFollowCreatesUpdatesAndDeletes() {
+        String email = "usage-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+
+        Category groceries = create(user, "Groceries");
+        Category travel = create(user, "Travel");
+        LocalDate today = LocalDate.now();
+
+        expenseService.create(expense(groceries, 20, today.minusDays(2)));
+        expenseService.create(expense(groceries, 30, today.minusDays(40)));
+        expenseService.create(expense(travel, 100, today));
+        usageRecorder.flush();
+
+        CategoryUsageProjection groceriesUsage = find(groceries);
+        assertEquals(2, groceriesUsage.getTransactionCount());
+        assertEquals(today.minusDays(2), groceriesUsage.getLastUsedDate());
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(groceriesUsage.getTrailingTotal()));
+        assertEquals(1, find(travel).getTransactionCount());
+        assertTrue(categoryService.getAllCategories(CategoryType.EXPENSE)
+                .stream()
+                .anyMatch(dto -> dto.getTransactionCount() == 2
+                        && BigDecimal.valueOf(20).compareTo(dto.getLast30DaysTotal()) == 0));
+
+        UUID travelExpenseId = expenseRepository.findAllByUser_IdOrderByDateDescCreatedAtDesc(user.getId())
+                .stream()
+                .filter(expense -> expense.getCategory().getId().equals(travel.getId()))
+                .map(Expense::getId)
+                .findFirst()
+                .orElseThrow();
+        expenseService.update(travelExpenseId, expense(groceries, 5, today));
+        usageRecorder.flush();
+
+        groceriesUsage = find(groceries);
+        assertEquals(3, groceriesUsage.getTransactionCount());
+        assertEquals(today, groceriesUsage.getLastUsedDate());
+        assertEquals(0, BigDecimal.valueOf(25).compareTo(groceriesUsage.getTrailingTotal()));
+        assertEquals(0, find(travel).getTransactionCount());
+        assertEquals(0, BigDecimal.ZERO.compareTo(find(travel).getTrailingTotal()));
+
+        expenseService.delete(travelExpenseId);
+        usageRecorder.flush();
+
+        groceriesUsage = find(groceries);
+        assertEquals(2, groceriesUsage.getTransactionCount());
+        assertEquals(0, BigDecimal.valueOf(20).compareTo(groceriesUsage.getTrailingTotal()));
+    }
+
+    @Test
+    void flush_dropsDeltaOfDeletedCategoryAndAppliesTheRest() {
+        String email = "usage-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+
+        Category groceries = create(user, "Groceries");
+        LocalDate today = LocalDate.now();
+        usageRecorder.record(new CategoryUsageChangedEvent(user.getId(), UUID.randomUUID(), today, BigDecimal.TEN, 1));
+        usageRecorder.record(new CategoryUsageChangedEvent(user.getId(), groceries.getId(), today, BigDecimal.TEN, 1));
+
+        usageRecorder.flush();
+
+        assertEquals(0, usageRecorder.pendingDeltas());
+        CategoryUsageProjection groceriesUsage = find(groceries);
+        assertEquals(1, groceriesUsage.getTransactionCount());
+        assertEquals(0, BigDecimal.TEN.compareTo(groceriesUsage.getTrailingTotal()));
+
+        usageRecorder.flush();
+
+        assertEquals(1, find(groceries).getTransactionCount());
+    }
+
+    @Test
+    void prune_subtractsDaysLeavingTheWindowFromTheTrailingTotal() {
+        String email = "usage-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+
+        Category groceries = create(user, "Groceries");
+        LocalDate today = LocalDate.now();
+        expenseService.create(expense(groceries, 20, today.minusDays(2)));
+        expenseService.create(expense(groceries, 5, today));
+        usageRecorder.flush();
+        assertEquals(0, BigDecimal.valueOf(25).compareTo(find(groceries).getTrailingTotal()));
+
+        // The prune a later day would run, with today.minusDays(2) having left the window
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryUsageRepository.rollOffOlderThan(today.minusDays(1));
+            categoryUsageDailyRepository.deleteOlderThan(today.minusDays(1));
+        });
+
+        CategoryUsageProjection groceriesUsage = find(groceries);
+        assertEquals(2, groceriesUsage.getTransactionCount());
+        assertEquals(0, BigDecimal.valueOf(5).compareTo(groceriesUsage.getTrailingTotal()));
+    }
+
+    @Test
+    void reconcile_correctsDriftedStatisticsFromTransactions() {
+        String email = "usage-" + UUID.randomUUID() + "@example.com";
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+
+        Category groceries = create(user, "Groceries");
+        LocalDate today = LocalDate.now();
+        expenseService.create(expense(groceries, 20, today.minusDays(2)));
+        expenseService.create(expense(groceries, 5, today));
+        usageRecorder.flush();
+
+        // Deltas that were dropped leave the statistics off, even below zero
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryUsageRepository.applyDelta(user.getId(), groceries.getId(), -7, null);
+            categoryUsageRepository.addTrailingAmount(user.getId(), groceries.getId(), BigDecimal.TEN);
+        });
+        assertEquals(-5, find(groceries).getTransactionCount());
+
+        usageRecorder.reconcile();
+
+        CategoryUsageProjection groceriesUsage = find(groceries);
+        assertEquals(2, groceriesUsage.getTransactionCount());
+        assertEquals(today, groceriesUsage.getLastUsedDate());
+        assertEquals(0, BigDecimal.valueOf(25).compareTo(groceriesUsage.getTrailingTotal()));
+    }
+
+    private Category create(User user, String name) {
+        categoryService.createCategory(CreateCategoryRequest.builder()
+                .name(name)
+                .type(CategoryType.EXPENSE)
+                .build());
+        return categoryRepository.findByUser_IdAndNameIgnoreCaseAndType(user.getId(), name, CategoryType.EXPENSE)
+                .orElseThrow();
+    }
+
+    private CategoryUsageProjection find(Category category) {
+        return categoryUsageRepository.findByUserId(category.getUser().getId())
+                .stream()
+                .filter(usage -> category.getId().equals(usage.getCategoryId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private ExpenseRequest expense(Category category, long amount, LocalDate date) {
+        return ExpenseRequest.builder()
+                .categoryId(category.getId())
+                .amount(BigDecimal.valueOf(amount))
+                .date(date)
+                .build();
+    }
+}
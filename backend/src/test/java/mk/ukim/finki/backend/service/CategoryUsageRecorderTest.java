@@ -0,0 +1,107 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.event.CategoryUsageChangedEvent;
+import mk.ukim.finki.backend.repository.CategoryRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageDailyRepository;
+import mk.ukim.finki.backend.repository.CategoryUsageRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.service.impl.CategoryUsageRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryUsageRecorderTest {
+
+    @Mock
+    private CategoryUsageRepository usageRepository;
+
+    @Mock
+    private CategoryUsageDailyRepository dailyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new CategoryUsageRecorder(usageRepository, dailyRepository, userRepository,
+                categoryRepository, transactionManager);
+    }
+
+    @Test
+    void flush_failingDelta_isDroppedAfterMaxAttempts() {
+        when(usageRepository.applyDelta(any(), any(), anyLong(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        recorder.record(new CategoryUsageChangedEvent(UUID.randomUUID(), UUID.randomUUID(),
+                LocalDate.now().minusYears(1), BigDecimal.TEN, 1));
+
+        for (int run = 1; run < CategoryUsageRecorder.MAX_FLUSH_ATTEMPTS; run++) {
+            recorder.flush();
+            assertEquals(1, recorder.pendingDeltas());
+        }
+        recorder.flush();
+
+        assertEquals(0, recorder.pendingDeltas());
+        recorder.flush();
+        verify(usageRepository, times(2 * CategoryUsageRecorder.MAX_FLUSH_ATTEMPTS))
+                .applyDelta(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void flush_lostInsertRace_isAppliedAsUpdate() {
+        UUID userId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        when(usageRepository.applyDelta(eq(userId), eq(categoryId), anyLong(), any())).thenReturn(0, 0, 1);
+        when(usageRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(categoryRepository.existsById(categoryId)).thenReturn(true);
+        recorder.record(new CategoryUsageChangedEvent(userId, categoryId,
+                LocalDate.now().minusYears(1), BigDecimal.TEN, 1));
+
+        recorder.flush();
+
+        assertEquals(0, recorder.pendingDeltas());
+        verify(usageRepository, times(3)).applyDelta(userId, categoryId, 1, LocalDate.now().minusYears(1));
+        verify(usageRepository, times(2)).save(any());
+    }
+
+    @Test
+    void flush_deltaOfDeletedCategory_isDroppedWithoutRetry() {
+        UUID userId = UUID.randomUUID();
+        UUID categoryId = UUID.randomUUID();
+        when(usageRepository.applyDelta(eq(userId), eq(categoryId), anyLong(), any())).thenReturn(0);
+        when(usageRepository.save(any())).thenThrow(new DataIntegrityViolationException("foreign key"));
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(categoryRepository.existsById(categoryId)).thenReturn(false);
+        recorder.record(new CategoryUsageChangedEvent(userId, categoryId,
+                LocalDate.now().minusYears(1), BigDecimal.TEN, 1));
+
+        recorder.flush();
+        recorder.flush();
+
+        assertEquals(0, recorder.pendingDeltas());
+        verify(usageRepository, times(2)).applyDelta(any(), any(), anyLong(), any());
+    }
+}
@@ -1,5 +1,7 @@
 package mk.ukim.finki.backend.service;
 
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.CategoryUsageChangedEvent;
 import mk.ukim.finki.backend.exception.UnauthorizedTransactionAccessException;
 import mk.ukim.finki.backend.mapper.ExpenseMapper;
 import mk.ukim.finki.backend.model.dto.transaction.ExpenseDto;
@@ -8,7 +10,6 @@ import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Expense;
 import mk.ukim.finki.backend.model.entity.User;
 import mk.ukim.finki.backend.model.enums.CategoryType;
-import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.repository.ExpenseRepository;
 import mk.ukim.finki.backend.service.impl.ExpenseServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -39,11 +41,14 @@ class ExpenseServiceTest {
     private UserService userService;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryCatalog categoryCatalog;
 
     @Mock
     private ExpenseMapper expenseMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ExpenseServiceImpl expenseService;
 
@@ -175,7 +180,7 @@ class ExpenseServiceTest {
                 .build();
 
         Category category = createSystemCategory(catId);
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.of(category));
 
         when(expenseRepository.save(any()))
@@ -190,6 +195,8 @@ class ExpenseServiceTest {
 
         assertThat(result.getAmount()).isEqualTo(request.getAmount());
         verify(expenseRepository).save(any());
+        verify(eventPublisher).publishEvent(new CategoryUsageChangedEvent(
+                userId, catId, request.getDate(), request.getAmount(), 1));
     }
 
     @Test
@@ -201,7 +208,7 @@ class ExpenseServiceTest {
                 .date(LocalDate.now())
                 .build();
 
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> expenseService.create(request))
@@ -222,7 +229,7 @@ class ExpenseServiceTest {
         category.setUser(User.builder().id(UUID.randomUUID()).build());
         category.setPredefined(false);
 
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.of(category));
 
         assertThatThrownBy(() -> expenseService.create(request))
@@ -243,7 +250,7 @@ class ExpenseServiceTest {
 
         when(expenseRepository.findById(expenseId))
                 .thenReturn(Optional.of(expense));
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.of(newCategory));
         when(expenseMapper.toDto(any()))
                 .thenReturn(expenseDto);
@@ -286,6 +293,8 @@ class ExpenseServiceTest {
         expenseService.delete(expenseId);
 
         verify(expenseRepository).delete(expense);
+        verify(eventPublisher).publishEvent(new CategoryUsageChangedEvent(
+                userId, expense.getCategory().getId(), expense.getDate(), expense.getAmount().negate(), -1));
     }
 
     @Test
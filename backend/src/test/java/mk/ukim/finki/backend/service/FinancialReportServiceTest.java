@@ -4,6 +4,7 @@ import mk.ukim.finki.backend.model.dto.report.CategorySummaryDto;
 import mk.ukim.finki.backend.model.dto.report.FinancialReportDto;
 import mk.ukim.finki.backend.model.dto.report.MonthlyTrendDto;
 import mk.ukim.finki.backend.model.dto.report.MonthlyTrendProjection;
+import mk.ukim.finki.backend.model.dto.report.SavingGoalReportDto;
 import mk.ukim.finki.backend.model.entity.*;
 import mk.ukim.finki.backend.repository.*;
 import mk.ukim.finki.backend.service.impl.FinancialReportServiceImpl;
@@ -15,6 +16,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Collections;
@@ -116,7 +119,7 @@ public class FinancialReportServiceTest {
                 .endDate(to)
                 .build();
         when(budgetRepository.findByUserOrderByStartDateDesc(user)).thenReturn(List.of(budget));
-        when(budgetRepository.sumSpentByBudget(eq(user), eq(cat), any(), any())).thenReturn(BigDecimal.ZERO);
+        when(budgetRepository.sumSpentPerBudgetWithin(eq(user), any(), any())).thenReturn(List.of());
 
         SavingGoal goal = SavingGoal.builder()
                 .name("Emergency Fund")
@@ -151,8 +154,8 @@ public class FinancialReportServiceTest {
                 .build();
         when(budgetRepository.findByUserOrderByStartDateDesc(user))
                 .thenReturn(List.of(budget));
-        when(budgetRepository.sumSpentByBudget(eq(user), eq(category), any(), any()))
-                .thenReturn(BigDecimal.ZERO);
+        when(budgetRepository.sumSpentPerBudgetWithin(eq(user), any(), any()))
+                .thenReturn(List.of());
 
         SavingGoal goal = SavingGoal.builder()
                 .name("Emergency Fund")
@@ -168,6 +171,47 @@ public class FinancialReportServiceTest {
         assertThat(result.getSavingGoals()).hasSize(1);
     }
 
+    @Test
+    void generateReport_savingGoalForecast_usesWeightedVelocity() {
+        Instant createdAt = Instant.now().minus(Duration.ofDays(90));
+        SavingGoal goal = SavingGoal.builder()
+                .name("Car")
+                .targetAmount(new BigDecimal("1000"))
+                .currentAmount(new BigDecimal("900"))
+                .deadline(LocalDate.now().plusMonths(4))
+                .createdAt(createdAt)
+                .build();
+        double weightSum = 0;
+        for (int day = 0; day < 90; day++) {
+            weightSum += 10 * goal.contributionWeight(createdAt.plus(Duration.ofDays(day)));
+        }
+        goal.setContributionWeightSum(weightSum);
+        when(savingGoalRepository.findByUserOrderByCreatedAtDesc(user)).thenReturn(List.of(goal));
+
+        SavingGoalReportDto report = financialReportService.generateReport(from, to).getSavingGoals().get(0);
+
+        assertThat(report.getProjectedCompletionDate())
+                .isBetween(LocalDate.now().plusDays(9), LocalDate.now().plusDays(12));
+        assertThat(report.getRequiredMonthlyContribution())
+                .isBetween(new BigDecimal("24"), new BigDecimal("26"));
+    }
+
+    @Test
+    void generateReport_savingGoalWithoutContributions_hasNoProjection() {
+        SavingGoal goal = SavingGoal.builder()
+                .name("Trip")
+                .targetAmount(new BigDecimal("1000"))
+                .currentAmount(BigDecimal.ZERO)
+                .createdAt(Instant.now().minus(Duration.ofDays(10)))
+                .build();
+        when(savingGoalRepository.findByUserOrderByCreatedAtDesc(user)).thenReturn(List.of(goal));
+
+        SavingGoalReportDto report = financialReportService.generateReport(from, to).getSavingGoals().get(0);
+
+        assertThat(report.getProjectedCompletionDate()).isNull();
+        assertThat(report.getRequiredMonthlyContribution()).isNull();
+    }
+
     @Test
     void getMonthlyTrends_success() {
         YearMonth jan = YearMonth.of(2025, 1);
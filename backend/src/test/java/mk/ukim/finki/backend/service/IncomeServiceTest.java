@@ -1,6 +1,8 @@
 package mk.ukim.finki.backend.service;
 
 import jakarta.persistence.EntityNotFoundException;
+import mk.ukim.finki.backend.cache.CategoryCatalog;
+import mk.ukim.finki.backend.event.IncomeCreatedEvent;
 import mk.ukim.finki.backend.exception.UnauthorizedTransactionAccessException;
 import mk.ukim.finki.backend.mapper.IncomeMapper;
 import mk.ukim.finki.backend.model.dto.transaction.IncomeDto;
@@ -9,7 +11,6 @@ import mk.ukim.finki.backend.model.entity.Category;
 import mk.ukim.finki.backend.model.entity.Income;
 import mk.ukim.finki.backend.model.entity.User;
 import mk.ukim.finki.backend.model.enums.CategoryType;
-import mk.ukim.finki.backend.repository.CategoryRepository;
 import mk.ukim.finki.backend.repository.IncomeRepository;
 import mk.ukim.finki.backend.service.impl.IncomeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,9 +40,11 @@ class IncomeServiceTest {
     @Mock
     private UserService userService;
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryCatalog categoryCatalog;
     @Mock
     private IncomeMapper incomeMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private IncomeServiceImpl incomeService;
@@ -164,7 +168,7 @@ class IncomeServiceTest {
                 .build();
 
         Category category = systemCategory(catId);
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.of(category));
         when(incomeRepository.save(any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -175,6 +179,7 @@ class IncomeServiceTest {
 
         assertThat(result.getAmount()).isEqualTo(request.getAmount());
         verify(incomeRepository).save(any());
+        verify(eventPublisher).publishEvent(new IncomeCreatedEvent(userId, null, catId, request.getAmount()));
     }
 
     @Test
@@ -186,7 +191,7 @@ class IncomeServiceTest {
                 .date(LocalDate.now())
                 .build();
 
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> incomeService.create(request))
@@ -207,7 +212,7 @@ class IncomeServiceTest {
         foreignCustom.setUser(User.builder().id(UUID.randomUUID()).build()); // different owner
         foreignCustom.setPredefined(false);
 
-        when(categoryRepository.findById(catId))
+        when(categoryCatalog.findCategory(userId, catId))
                 .thenReturn(Optional.of(foreignCustom));
 
         assertThatThrownBy(() -> incomeService.create(request))
@@ -226,7 +231,7 @@ class IncomeServiceTest {
 
         when(incomeRepository.findById(incomeId))
                 .thenReturn(Optional.of(income));
-        when(categoryRepository.findById(newCat))
+        when(categoryCatalog.findCategory(userId, newCat))
                 .thenReturn(Optional.of(systemCategory(newCat)));
         when(incomeMapper.toDto(any()))
                 .thenReturn(incomeDto);
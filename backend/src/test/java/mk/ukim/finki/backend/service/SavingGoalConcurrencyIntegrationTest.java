@@ -0,0 +1,207 @@
+package mk.ukim.finki.backend.service;
+
+import mk.ukim.finki.backend.exception.SavingGoalValidationException;
+import mk.ukim.finki.backend.model.dto.saving_goal.GoalContributionRequest;
+import mk.ukim.finki.backend.model.dto.saving_goal.SavingGoalDto;
+import mk.ukim.finki.backend.model.entity.GoalContribution;
+import mk.ukim.finki.backend.model.entity.SavingGoal;
+import mk.ukim.finki.backend.model.entity.User;
+import mk.ukim.finki.backend.model.enums.GoalContributionType;
+import mk.ukim.finki.backend.model.enums.UserRole;
+import mk.ukim.finki.backend.repository.GoalContributionRepository;
+import mk.ukim.finki.backend.repository.SavingGoalRepository;
+import mk.ukim.finki.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for concurrent saving goal contributions against the real persistence layer.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SavingGoalConcurrencyIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 25;
+
+    @Autowired
+    private SavingGoalService savingGoalService;
+
+    @Autowired
+    private SavingGoalRepository savingGoalRepository;
+
+    @Autowired
+    private GoalContributionRepository goalContributionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final String email = "concurrent-saver@example.com";
+
+    private User user;
+
+    @BeforeAll
+    void setupUser() {
+        user = userRepository.save(User.builder()
+                .email(email)
+                .password("not-used")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentDepositsAndWithdrawals_sumOfContributionsEqualsCurrentAmount() throws Exception {
+        UUID goalId = createGoal(BigDecimal.valueOf(10_000));
+        AtomicInteger rejectedWithdrawals = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                if ((thread + i) % 3 == 0) {
+                    try {
+                        savingGoalService.withdrawContribution(goalId, new GoalContributionRequest(BigDecimal.valueOf(2)));
+                    } catch (SavingGoalValidationException e) {
+                        rejectedWithdrawals.incrementAndGet();
+                    }
+                } else {
+                    savingGoalService.addContribution(goalId, new GoalContributionRequest(BigDecimal.ONE));
+                }
+            }
+        });
+
+        SavingGoal goal = savingGoalRepository.findById(goalId).orElseThrow();
+        List<GoalContribution> contributions = goalContributionRepository.findBySavingGoalOrderByCreatedAtDesc(goal);
+        BigDecimal balance = contributions.stream()
+                .map(c -> c.getType() == GoalContributionType.DEPOSIT ? c.getAmount() : c.getAmount().negate())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertEquals(THREADS * OPERATIONS_PER_THREAD - rejectedWithdrawals.get(), contributions.size());
+        assertEquals(0, balance.compareTo(goal.getCurrentAmount()));
+        assertTrue(goal.getCurrentAmount().signum() >= 0);
+    }
+
+    @Test
+    void concurrentDeposits_eachResponseReportsTheBalanceAfterItsOwnDeposit() throws Exception {
+        int deposits = THREADS * OPERATIONS_PER_THREAD;
+        BigDecimal target = BigDecimal.valueOf(deposits / 2);
+        UUID goalId = createGoal(target);
+        Queue<SavingGoalDto> responses = new ConcurrentLinkedQueue<>();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                responses.add(savingGoalService.addContribution(goalId, new GoalContributionRequest(BigDecimal.ONE)));
+            }
+        });
+
+        Set<Integer> reportedBalances = new HashSet<>();
+        for (SavingGoalDto response : responses) {
+            reportedBalances.add(response.getCurrentAmount().intValueExact());
+            assertEquals(response.getCurrentAmount().compareTo(target) >= 0, response.isAchieved());
+        }
+        Set<Integer> expectedBalances = IntStream.rangeClosed(1, deposits).boxed().collect(Collectors.toSet());
+        assertEquals(expectedBalances, reportedBalances);
+    }
+
+    @Test
+    void concurrentWithdrawals_neverOverdrawGoal() throws Exception {
+        UUID goalId = createGoal(BigDecimal.valueOf(100));
+        savingGoalService.addContribution(goalId, new GoalContributionRequest(BigDecimal.TEN));
+        AtomicInteger accepted = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    savingGoalService.withdrawContribution(goalId, new GoalContributionRequest(BigDecimal.ONE));
+                    accepted.incrementAndGet();
+                } catch (SavingGoalValidationException ignored) {
+                    // expected once the goal is drained
+                }
+            }
+        });
+
+        SavingGoal goal = savingGoalRepository.findById(goalId).orElseThrow();
+        assertEquals(10, accepted.get());
+        assertEquals(0, goal.getCurrentAmount().signum());
+        assertFalse(goal.isAchieved());
+    }
+
+    private UUID createGoal(BigDecimal target) {
+        authenticate();
+        return savingGoalRepository.save(SavingGoal.builder()
+                .user(user)
+                .name("Stress " + UUID.randomUUID())
+                .targetAmount(target)
+                .currentAmount(BigDecimal.ZERO)
+                .build()).getId();
+    }
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+
+    private void runConcurrently(ThreadWork work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                Callable<Void> task = () -> {
+                    authenticate();
+                    start.await();
+                    try {
+                        work.run(thread);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadWork {
+        void run(int thread);
+    }
+}
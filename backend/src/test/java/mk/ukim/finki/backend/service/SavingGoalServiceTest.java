@@ -18,8 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -68,6 +72,7 @@ public class SavingGoalServiceTest {
                 .targetAmount(BigDecimal.valueOf(1000))
                 .currentAmount(BigDecimal.ZERO)
                 .achieved(false)
+                .createdAt(Instant.now().minus(Duration.ofDays(30)))
                 .build();
 
         when(userService.getCurrentUser()).thenReturn(user);
@@ -177,34 +182,56 @@ public class SavingGoalServiceTest {
     }
 
     @Test
-    void addContribution_success_reachesTarget_setsAchievedTrue() {
+    void addContribution_success_usesAtomicDeposit() {
+        SavingGoal updated = SavingGoal.builder()
+                .id(goalId)
+                .user(user)
+                .name("Vacation")
+                .targetAmount(BigDecimal.valueOf(1000))
+                .currentAmount(BigDecimal.valueOf(1000))
+                .achieved(true)
+                .createdAt(savingGoal.getCreatedAt())
+                .build();
+        BigDecimal amount = BigDecimal.valueOf(1000);
+
+        when(savingGoalRepository.findCreatedAtByIdAndUser(goalId, user))
+                .thenReturn(Optional.of(savingGoal.getCreatedAt()));
+        when(savingGoalRepository.deposit(eq(goalId), eq(user), eq(amount), doubleThat(weight -> weight > 1000)))
+                .thenReturn(1);
         when(savingGoalRepository.findByIdAndUser(goalId, user))
-                .thenReturn(Optional.of(savingGoal));
-        when(savingGoalMapper.toDto(any()))
+                .thenReturn(Optional.of(updated));
+        when(savingGoalMapper.toDto(updated))
                 .thenReturn(new SavingGoalDto());
 
-        GoalContributionRequest req = new GoalContributionRequest(BigDecimal.valueOf(1000));
-        SavingGoalDto dto = savingGoalService.addContribution(goalId, req);
+        SavingGoalDto dto = savingGoalService.addContribution(goalId, new GoalContributionRequest(amount));
 
         assertNotNull(dto);
-        assertTrue(savingGoal.isAchieved());
+        verify(goalContributionRepository).save(argThat(c ->
+                c.getType() == GoalContributionType.DEPOSIT && c.getSavingGoal() == updated));
+        verify(savingGoalRepository, never()).save(any());
     }
 
     @Test
     void addContribution_notFound_shouldThrow() {
-        when(savingGoalRepository.findByIdAndUser(goalId, user))
+        when(savingGoalRepository.findCreatedAtByIdAndUser(goalId, user))
                 .thenReturn(Optional.empty());
 
         GoalContributionRequest req = new GoalContributionRequest(BigDecimal.ONE);
 
         assertThrows(EntityNotFoundException.class,
                 () -> savingGoalService.addContribution(goalId, req));
+        verify(savingGoalRepository, never()).deposit(any(), any(), any(), anyDouble());
+        verifyNoInteractions(goalContributionRepository);
     }
 
     @Test
     void withdrawContribution_success() {
-        savingGoal.setCurrentAmount(BigDecimal.TEN);
+        savingGoal.setCurrentAmount(BigDecimal.valueOf(9));
 
+        when(savingGoalRepository.findCreatedAtByIdAndUser(goalId, user))
+                .thenReturn(Optional.of(savingGoal.getCreatedAt()));
+        when(savingGoalRepository.withdraw(eq(goalId), eq(user), eq(BigDecimal.ONE), anyDouble()))
+                .thenReturn(1);
         when(savingGoalRepository.findByIdAndUser(goalId, user))
                 .thenReturn(Optional.of(savingGoal));
         when(savingGoalMapper.toDto(any()))
@@ -214,51 +241,135 @@ public class SavingGoalServiceTest {
         SavingGoalDto dto = savingGoalService.withdrawContribution(goalId, req);
 
         assertNotNull(dto);
-        assertEquals(BigDecimal.valueOf(9), savingGoal.getCurrentAmount());
+        verify(goalContributionRepository).save(argThat(c -> c.getType() == GoalContributionType.WITHDRAWAL));
+        verify(savingGoalRepository, never()).save(any());
     }
 
     @Test
     void withdrawContribution_notEnough_shouldThrow() {
         savingGoal.setCurrentAmount(BigDecimal.ONE);
 
-        when(savingGoalRepository.findByIdAndUser(goalId, user))
-                .thenReturn(Optional.of(savingGoal));
+        when(savingGoalRepository.withdraw(eq(goalId), eq(user), eq(BigDecimal.TEN), anyDouble()))
+                .thenReturn(0);
+        when(savingGoalRepository.findCreatedAtByIdAndUser(goalId, user))
+                .thenReturn(Optional.of(savingGoal.getCreatedAt()));
 
         GoalContributionRequest req = new GoalContributionRequest(BigDecimal.TEN);
 
         assertThrows(SavingGoalValidationException.class,
                 () -> savingGoalService.withdrawContribution(goalId, req));
+        verifyNoInteractions(goalContributionRepository);
     }
 
     @Test
     void withdrawContribution_notFound_shouldThrow() {
-        when(savingGoalRepository.findByIdAndUser(goalId, user))
+        when(savingGoalRepository.findCreatedAtByIdAndUser(goalId, user))
                 .thenReturn(Optional.empty());
 
         GoalContributionRequest req = new GoalContributionRequest(BigDecimal.ONE);
 
         assertThrows(EntityNotFoundException.class,
                 () -> savingGoalService.withdrawContribution(goalId, req));
+        verify(savingGoalRepository, never()).withdraw(any(), any(), any(), anyDouble());
     }
 
     @Test
-    void getContributions_success() {
-        GoalContribution contrib = GoalContribution.builder()
-                .savingGoal(savingGoal)
-                .amount(BigDecimal.ONE)
-                .type(GoalContributionType.DEPOSIT)
-                .build();
+    void getContributions_firstPage_returnsCursorWhenMoreExist() {
+        GoalContribution newest = contribution(Instant.parse("2025-03-02T10:00:00Z"));
+        GoalContribution older = contribution(Instant.parse("2025-03-01T10:00:00Z"));
+        GoalContribution oldest = contribution(Instant.parse("2025-02-01T10:00:00Z"));
 
         when(savingGoalRepository.findByIdAndUser(goalId, user))
                 .thenReturn(Optional.of(savingGoal));
-        when(goalContributionRepository.findBySavingGoalOrderByCreatedAtDesc(savingGoal))
-                .thenReturn(List.of(contrib));
+        when(goalContributionRepository.findBySavingGoalOrderByCreatedAtDescIdDesc(savingGoal, Limit.of(3)))
+                .thenReturn(List.of(newest, older, oldest));
         when(goalContributionMapper.toDto(any()))
                 .thenReturn(new GoalContributionDto());
 
-        List<GoalContributionDto> result = savingGoalService.getContributions(goalId);
+        GoalContributionPageDto page = savingGoalService.getContributions(goalId, null, 2);
 
-        assertEquals(1, result.size());
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertNotNull(page.getNextCursor());
+
+        when(goalContributionRepository.findPageBefore(savingGoal, older.getCreatedAt(), older.getId(), Limit.of(3)))
+                .thenReturn(List.of(oldest));
+
+        GoalContributionPageDto next = savingGoalService.getContributions(goalId, page.getNextCursor(), 2);
+
+        assertEquals(1, next.getItems().size());
+        assertFalse(next.isHasMore());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void getContributions_invalidCursor_shouldThrow() {
+        when(savingGoalRepository.findByIdAndUser(goalId, user))
+                .thenReturn(Optional.of(savingGoal));
+
+        assertThrows(SavingGoalValidationException.class,
+                () -> savingGoalService.getContributions(goalId, "not-a-cursor", 20));
+        verifyNoInteractions(goalContributionRepository);
+    }
+
+    @Test
+    void getMonthlyContributionHistory_accumulatesBalance() {
+        when(savingGoalRepository.findByIdAndUser(goalId, user))
+                .thenReturn(Optional.of(savingGoal));
+        when(goalContributionRepository.findMonthlyTotals(savingGoal))
+                .thenReturn(List.of(
+                        monthlyTotals(2025, 1, BigDecimal.valueOf(100), BigDecimal.ZERO),
+                        monthlyTotals(2025, 3, BigDecimal.valueOf(50), BigDecimal.valueOf(30))));
+
+        List<MonthlyContributionDto> history = savingGoalService.getMonthlyContributionHistory(goalId);
+
+        assertEquals(2, history.size());
+        assertEquals(YearMonth.of(2025, 3), history.get(1).getPeriod());
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(history.get(0).getBalance()));
+        assertEquals(0, BigDecimal.valueOf(120).compareTo(history.get(1).getBalance()));
+    }
+
+    @Test
+    void getMonthlyContributionHistory_notFound_shouldThrow() {
+        when(savingGoalRepository.findByIdAndUser(goalId, user))
+                .thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> savingGoalService.getMonthlyContributionHistory(goalId));
+    }
+
+    private GoalContribution contribution(Instant createdAt) {
+        return GoalContribution.builder()
+                .id(UUID.randomUUID())
+                .savingGoal(savingGoal)
+                .amount(BigDecimal.ONE)
+                .type(GoalContributionType.DEPOSIT)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private MonthlyContributionProjection monthlyTotals(int year, int month, BigDecimal deposits, BigDecimal withdrawals) {
+        return new MonthlyContributionProjection() {
+            @Override
+            public Integer getYear() {
+                return year;
+            }
+
+            @Override
+            public Integer getMonth() {
+                return month;
+            }
+
+            @Override
+            public BigDecimal getDeposits() {
+                return deposits;
+            }
+
+            @Override
+            public BigDecimal getWithdrawals() {
+                return withdrawals;
+            }
+        };
     }
 
     @Test
@@ -267,6 +378,6 @@ public class SavingGoalServiceTest {
                 .thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
-                () -> savingGoalService.getContributions(goalId));
+                () -> savingGoalService.getContributions(goalId, null, 20));
     }
 }
@@ -5,13 +5,21 @@ import mk.ukim.finki.backend.model.dto.auth.UserRegistrationDto;
 import mk.ukim.finki.backend.model.entity.User;
 import mk.ukim.finki.backend.model.enums.UserRole;
 import mk.ukim.finki.backend.repository.UserRepository;
+import mk.ukim.finki.backend.security.AuthenticatedUser;
 import mk.ukim.finki.backend.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -64,4 +72,43 @@ public class UserServiceTest {
         assertThrows(EmailAlreadyExistsException.class, () -> userService.registerUser(dto));
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testGetCurrentUserFromTokenPrincipalSkipsLookup() {
+        UUID userId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                new AuthenticatedUser(userId, "token@example.com", UserRole.USER), null, List.of()));
+
+        User result = userService.getCurrentUser();
+
+        assertEquals(userId, result.getId());
+        assertEquals("token@example.com", result.getEmail());
+        assertEquals(UserRole.USER, result.getRole());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testGetCurrentUserIsLoadedOncePerAuthentication() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("session@example.com")
+                .role(UserRole.USER)
+                .build();
+        when(userRepository.findByEmail("session@example.com")).thenReturn(Optional.of(user));
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("session@example.com", null, List.of()));
+
+        User first = userService.getCurrentUser();
+        User second = userService.getCurrentUser();
+
+        assertEquals(user.getId(), first.getId());
+        assertEquals(user.getId(), second.getId());
+        assertEquals("session@example.com", second.getEmail());
+        verify(userRepository, times(1)).findByEmail("session@example.com");
+    }
 }